@@ -0,0 +1,9 @@
+package com.morago_backend.cache;
+
+import java.util.List;
+
+/**
+ * Wire format of one published invalidation: the keys of a region dropped by the node {@code origin}.
+ */
+public record CacheInvalidation(String origin, String region, List<String> keys) {
+}
@@ -0,0 +1,16 @@
+package com.morago_backend.cache;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * Fans cache-key invalidations out to the other nodes. The writing node evicts its own copy itself; the bus
+ * only carries the keys and hands the ones it receives to the listener subscribed for their region.
+ */
+public interface CacheInvalidationBus {
+
+    /** Keys published inside a transaction only reach other nodes if it commits */
+    void publish(String region, Collection<String> keys);
+
+    void subscribe(String region, Consumer<String> listener);
+}
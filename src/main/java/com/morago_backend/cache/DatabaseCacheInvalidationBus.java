@@ -0,0 +1,98 @@
+package com.morago_backend.cache;
+
+import com.morago_backend.entity.CacheInvalidationMessage;
+import com.morago_backend.repository.CacheInvalidationMessageRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Invalidations over a database table. Rows are written in the publisher's transaction, so they become visible
+ * exactly when the change they describe commits. Each node re-reads the last lookback-ms of rows on every poll
+ * instead of following the id, because ids are assigned before commit and a slower transaction can surface
+ * behind a row already seen; ids already applied are remembered for the same window.
+ */
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.mode", havingValue = "database")
+public class DatabaseCacheInvalidationBus extends RemoteCacheInvalidationBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatabaseCacheInvalidationBus.class);
+
+    private final CacheInvalidationMessageRepository repository;
+    private final TransactionTemplate transactionTemplate;
+
+    // Applied row id -> its creation time; only touched by the poller
+    private final Map<Long, LocalDateTime> applied = new HashMap<>();
+
+    @Value("${cache.invalidation.lookback-ms:5000}")
+    private long lookbackMs;
+
+    @Value("${cache.invalidation.message-ttl-ms:60000}")
+    private long messageTtlMs;
+
+    public DatabaseCacheInvalidationBus(CacheInvalidationMessageRepository repository,
+                                        TransactionTemplate transactionTemplate,
+                                        @Value("${cache.invalidation.node-id:}") String nodeId) {
+        super(nodeId);
+        this.repository = repository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public void publish(String region, Collection<String> keys) {
+        List<CacheInvalidationMessage> messages = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            CacheInvalidationMessage message = new CacheInvalidationMessage();
+            message.setOriginNode(getNodeId());
+            message.setRegion(region);
+            message.setCacheKey(key);
+            messages.add(message);
+        }
+        repository.saveAll(messages);
+    }
+
+    // ========== POLLING ==========
+    @Scheduled(fixedDelayString = "${cache.invalidation.poll-interval-ms:500}")
+    public void poll() {
+        try {
+            LocalDateTime since = LocalDateTime.now().minus(Duration.ofMillis(lookbackMs));
+            List<CacheInvalidationMessage> messages = transactionTemplate.execute(status ->
+                    repository.findRecentFromOtherNodes(since, getNodeId()));
+            if (messages != null) {
+                for (CacheInvalidationMessage message : messages) {
+                    if (applied.putIfAbsent(message.getId(), message.getCreatedAtDatetime()) == null) {
+                        deliver(message.getOriginNode(), message.getRegion(), message.getCacheKey());
+                    }
+                }
+            }
+            applied.values().removeIf(createdAt -> createdAt == null || createdAt.isBefore(since));
+        } catch (Exception e) {
+            logger.error("Error polling cache invalidations for node {}", getNodeId(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${cache.invalidation.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        try {
+            Integer purged = transactionTemplate.execute(status ->
+                    repository.deleteCreatedBefore(LocalDateTime.now().minus(Duration.ofMillis(messageTtlMs))));
+            if (purged != null && purged > 0) {
+                logger.debug("Purged {} cache invalidations", purged);
+            }
+        } catch (Exception e) {
+            logger.error("Error purging cache invalidations", e);
+        }
+    }
+}
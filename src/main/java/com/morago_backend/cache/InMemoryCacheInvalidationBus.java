@@ -0,0 +1,23 @@
+package com.morago_backend.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * Single-node bus: the writer has already evicted the only copy, so there is nobody else to tell.
+ */
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.mode", havingValue = "memory", matchIfMissing = true)
+public class InMemoryCacheInvalidationBus implements CacheInvalidationBus {
+
+    @Override
+    public void publish(String region, Collection<String> keys) {
+    }
+
+    @Override
+    public void subscribe(String region, Consumer<String> listener) {
+    }
+}
@@ -0,0 +1,80 @@
+package com.morago_backend.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Invalidations over Redis pub/sub: one message per publish, sent once the writer's transaction commits and
+ * delivered to every subscribed node within the broker round trip. Pub/sub is fire-and-forget, so a node that
+ * is disconnected at that moment misses it and relies on the cache's own TTL or sweep; a local Redis container
+ * is enough to run it in development.
+ */
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.mode", havingValue = "redis")
+public class RedisCacheInvalidationBus extends RemoteCacheInvalidationBus implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisCacheInvalidationBus.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String channel;
+    private final RedisMessageListenerContainer container;
+
+    public RedisCacheInvalidationBus(RedisConnectionFactory connectionFactory,
+                                     StringRedisTemplate redisTemplate,
+                                     ObjectMapper objectMapper,
+                                     @Value("${cache.invalidation.node-id:}") String nodeId,
+                                     @Value("${cache.invalidation.redis.channel:cache-invalidations}") String channel) {
+        super(nodeId);
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.channel = channel;
+
+        this.container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(this::onMessage, new ChannelTopic(channel));
+        container.afterPropertiesSet();
+        container.start();
+    }
+
+    @Override
+    public void publish(String region, Collection<String> keys) {
+        CacheInvalidation invalidation = new CacheInvalidation(getNodeId(), region, List.copyOf(keys));
+        afterCommit(() -> {
+            try {
+                redisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(invalidation));
+            } catch (Exception e) {
+                logger.error("Error publishing cache invalidation {}:{}", region, keys, e);
+            }
+        });
+    }
+
+    private void onMessage(Message message, byte[] pattern) {
+        try {
+            CacheInvalidation invalidation = objectMapper.readValue(message.getBody(), CacheInvalidation.class);
+            for (String key : invalidation.keys()) {
+                deliver(invalidation.origin(), invalidation.region(), key);
+            }
+        } catch (Exception e) {
+            logger.error("Error reading cache invalidation from channel {}", channel, e);
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        container.destroy();
+    }
+}
@@ -0,0 +1,66 @@
+package com.morago_backend.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Listener registry and node identity shared by the transports that cross process boundaries. Invalidations
+ * this node published itself are skipped on the way back in.
+ */
+public abstract class RemoteCacheInvalidationBus implements CacheInvalidationBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(RemoteCacheInvalidationBus.class);
+
+    private final String nodeId;
+    private final Map<String, Consumer<String>> listeners = new ConcurrentHashMap<>();
+
+    protected RemoteCacheInvalidationBus(String nodeId) {
+        this.nodeId = nodeId == null || nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public void subscribe(String region, Consumer<String> listener) {
+        listeners.put(region, listener);
+    }
+
+    protected void deliver(String origin, String region, String key) {
+        if (nodeId.equals(origin)) {
+            return;
+        }
+        Consumer<String> listener = listeners.get(region);
+        if (listener == null) {
+            logger.debug("No cache listener for region {}, dropping key {}", region, key);
+            return;
+        }
+        try {
+            listener.accept(key);
+        } catch (Exception e) {
+            logger.error("Error applying cache invalidation {}:{} from node {}", region, key, origin, e);
+        }
+    }
+
+    // Other nodes must not reload the pre-commit state, so sends wait for the writer's transaction
+    protected static void afterCommit(Runnable send) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send.run();
+                }
+            });
+        } else {
+            send.run();
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package com.morago_backend.config;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import javax.crypto.SecretKey;
-
+import com.morago_backend.security.CachingJwtDecoder;
+import com.morago_backend.security.JwtSigningKey;
+import com.morago_backend.security.RevokedTokenValidator;
+import com.morago_backend.security.TokenRevocationStore;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -16,16 +20,11 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.web.SecurityFilterChain;
 
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
-
 @Configuration
 @EnableMethodSecurity
 public class SecurityConfig {
@@ -64,8 +63,10 @@ public class SecurityConfig {
                         .requestMatchers("/api/users/deposit").hasRole("CLIENT")
                         .requestMatchers("/api/users/me", "/api/users/password", "/api/users/balance").hasAnyRole("CLIENT", "INTERPRETER", "ADMINISTRATOR")
                         .requestMatchers("/api/users/**").hasRole("ADMINISTRATOR")
+                        .requestMatchers("/api/translator-profiles/available").hasAnyRole("CLIENT", "INTERPRETER", "ADMINISTRATOR")
                         .requestMatchers("/api/translator-profiles/**").hasAnyRole("INTERPRETER", "ADMINISTRATOR")
                         .requestMatchers("/api/calls/**").hasAnyRole("CLIENT", "INTERPRETER", "ADMINISTRATOR")
+                        .requestMatchers("/api/ratings/summaries/**").hasRole("ADMINISTRATOR")
                         .requestMatchers("/api/ratings/**").hasAnyRole("CLIENT", "INTERPRETER", "ADMINISTRATOR")
                         .requestMatchers("/api/deposits/**", "/api/withdrawals/**").hasRole("ADMINISTRATOR")
                         .requestMatchers("/api/categories/**", "/api/languages/**", "/api/themes/**").hasRole("ADMINISTRATOR")
@@ -83,20 +84,25 @@ public class SecurityConfig {
         return http.build();
     }
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
-
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration config) throws Exception {
         return config.getAuthenticationManager();
     }
 
     @Bean
-    public JwtDecoder jwtDecoder(@Value("${jwt.secret}") String base64Secret) {
-        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(base64Secret));
-        return NimbusJwtDecoder.withSecretKey(key).build();
+    public JwtDecoder jwtDecoder(JwtSigningKey signingKey,
+                                 @Value("${security.jwt.decoder-cache.max-size:10000}") long cacheMaxSize,
+                                 @Value("${security.jwt.decoder-cache.max-ttl-ms:300000}") long cacheMaxTtlMs,
+                                 @Value("${security.jwt.revocation.check-access-tokens:true}") boolean checkRevocation,
+                                 MeterRegistry meterRegistry,
+                                 TokenRevocationStore revocationStore) {
+        // Verifies with the same key tokens are issued with; shared by HTTP requests and Socket.IO handshakes
+        CachingJwtDecoder decoder = new CachingJwtDecoder(NimbusJwtDecoder.withSecretKey(signingKey.getKey()).build(),
+                cacheMaxSize, Duration.ofMillis(cacheMaxTtlMs), meterRegistry);
+        if (checkRevocation) {
+            decoder.setJwtValidator(new RevokedTokenValidator(revocationStore));
+        }
+        return decoder;
     }
 
     @Bean
@@ -1,7 +1,12 @@
 package com.morago_backend.config;
 
+import com.corundumstudio.socketio.SocketConfig;
 import com.corundumstudio.socketio.SocketIOServer;
-import org.springframework.beans.factory.annotation.Value;
+import com.morago_backend.service.SocketRooms;
+import io.netty.channel.epoll.Epoll;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.oauth2.jwt.Jwt;
@@ -12,60 +17,106 @@ import java.util.List;
 import java.util.Map;
 
 @Configuration
+@EnableConfigurationProperties(SocketIOProperties.class)
 public class SocketIOConfig {
 
-    @Value("${socketio.host}")
-    private String host;
+    private static final Logger logger = LoggerFactory.getLogger(SocketIOConfig.class);
 
-    @Value("${socketio.port}")
-    private int port;
+    private final SocketIOProperties properties;
 
-    @Value("${socketio.allowed-origins}")
-    private String allowedOrigins;
+    // Client attributes populated from the handshake JWT for other connect/disconnect listeners
+    public static final String CLIENT_USER_ID = "userId";
+    public static final String CLIENT_ROLES = "roles";
 
     private final JwtDecoder jwtDecoder;
 
-    public SocketIOConfig(JwtDecoder jwtDecoder) {
+    public SocketIOConfig(SocketIOProperties properties, JwtDecoder jwtDecoder) {
+        this.properties = properties;
         this.jwtDecoder = jwtDecoder;
     }
 
     @Bean
     public SocketIOServer socketIOServer() {
         com.corundumstudio.socketio.Configuration config = new com.corundumstudio.socketio.Configuration();
-        config.setHostname(host);
-        config.setPort(port);
-        config.setOrigin(allowedOrigins);
+        config.setHostname(properties.getHost());
+        config.setPort(properties.getPort());
+        config.setOrigin(properties.getAllowedOrigins());
+
+        config.setBossThreads(properties.getBossThreads());
+        config.setWorkerThreads(properties.getWorkerThreads());
+        config.setUseLinuxNativeEpoll(properties.isUseLinuxNativeEpoll() && isEpollAvailable());
+        config.setPreferDirectBuffer(properties.isPreferDirectBuffer());
+        config.setPingInterval(properties.getPingInterval());
+        config.setPingTimeout(properties.getPingTimeout());
+        config.setUpgradeTimeout(properties.getUpgradeTimeout());
+        config.setFirstDataTimeout(properties.getFirstDataTimeout());
+        config.setMaxFramePayloadLength(properties.getMaxFramePayloadLength());
+        config.setMaxHttpContentLength(properties.getMaxHttpContentLength());
+
+        SocketConfig socketConfig = new SocketConfig();
+        socketConfig.setTcpNoDelay(properties.isTcpNoDelay());
+        socketConfig.setTcpKeepAlive(properties.isTcpKeepAlive());
+        socketConfig.setAcceptBackLog(properties.getAcceptBacklog());
+        socketConfig.setTcpSendBufferSize(properties.getTcpSendBufferSize());
+        socketConfig.setTcpReceiveBufferSize(properties.getTcpReceiveBufferSize());
+        config.setSocketConfig(socketConfig);
 
         SocketIOServer server = new SocketIOServer(config);
 
         server.addConnectListener(client -> {
-            System.out.println("New client connecting...");
+            logger.debug("Client {} connecting", client.getSessionId());
             // Read token sent via auth
             Map<String, List<String>> authParams = client.getHandshakeData().getUrlParams();
             String token = null;
             if (authParams != null && authParams.containsKey("token")) {
                 token = authParams.get("token").get(0);
             }
-            System.out.println("JWT received: " + token);
 
-            if (token == null || !isValidToken(token)) {
-                System.out.println("JWT invalid or missing. Disconnecting client.");
+            Jwt jwt = token != null ? decodeToken(token) : null;
+            if (jwt == null) {
+                logger.info("Disconnecting client {}: handshake token missing or invalid", client.getSessionId());
                 client.disconnect();
             } else {
-                System.out.println("JWT valid. Client connected.");
+                Object userId = jwt.getClaim("id");
+                if (userId instanceof Number number) {
+                    client.set(CLIENT_USER_ID, number.longValue());
+                    client.joinRoom(SocketRooms.user(number.longValue()));
+                }
+                List<String> roles = jwt.getClaimAsStringList("roles");
+                client.set(CLIENT_ROLES, roles != null ? roles : List.of());
+                // Targeted events are routed through these rooms (see SocketEventPublisher)
+                for (String role : client.<List<String>>get(CLIENT_ROLES)) {
+                    String room = SocketRooms.forRole(role);
+                    if (room != null) {
+                        client.joinRoom(room);
+                    }
+                }
+                logger.debug("Client {} authenticated as user {}", client.getSessionId(), userId);
             }
         });
 
         return server;
     }
 
-    private boolean isValidToken(String token) {
+    // netty-socketio does not fall back on its own, so NIO is used wherever the native transport cannot load
+    private boolean isEpollAvailable() {
+        try {
+            if (Epoll.isAvailable()) {
+                return true;
+            }
+            logger.warn("Native epoll unavailable, using NIO transport: {}", String.valueOf(Epoll.unavailabilityCause()));
+        } catch (NoClassDefFoundError e) {
+            logger.warn("Native epoll not on classpath, using NIO transport");
+        }
+        return false;
+    }
+
+    private Jwt decodeToken(String token) {
         try {
-            Jwt jwt = jwtDecoder.decode(token);
-            return true;
+            return jwtDecoder.decode(token);
         } catch (JwtException e) {
-            System.out.println("JWT decode failed: " + e.getMessage());
-            return false;
+            logger.debug("Handshake token rejected: {}", e.getMessage());
+            return null;
         }
     }
 }
@@ -0,0 +1,42 @@
+package com.morago_backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Socket.IO server settings ({@code socketio.*}). Thread counts of 0 keep Netty's default
+ * (twice the available processors for workers).
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "socketio")
+public class SocketIOProperties {
+
+    private String host;
+    private int port;
+    private String allowedOrigins;
+
+    // ========== THREADS & TRANSPORT ==========
+    private int bossThreads = 0;
+    private int workerThreads = 0;
+    // Only applied on Linux when the native transport is on the classpath; NIO otherwise
+    private boolean useLinuxNativeEpoll = false;
+    // Pooled direct buffers avoid a heap copy per frame on the way to the socket
+    private boolean preferDirectBuffer = true;
+
+    // ========== SOCKET OPTIONS ==========
+    private boolean tcpNoDelay = true;
+    private boolean tcpKeepAlive = false;
+    private int acceptBacklog = 1024;
+    private int tcpSendBufferSize = -1;
+    private int tcpReceiveBufferSize = -1;
+
+    // ========== ENGINE.IO ==========
+    private int pingInterval = 25000;
+    private int pingTimeout = 60000;
+    private int upgradeTimeout = 10000;
+    private int firstDataTimeout = 5000;
+    private int maxFramePayloadLength = 64 * 1024;
+    private int maxHttpContentLength = 64 * 1024;
+}
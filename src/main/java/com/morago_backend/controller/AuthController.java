@@ -1,9 +1,7 @@
 package com.morago_backend.controller;
 
 import com.morago_backend.dto.dtoResponse.ErrorResponse;
-import com.morago_backend.entity.User;
 import com.morago_backend.payload.*;
-import com.morago_backend.repository.UserRepository;
 import com.morago_backend.service.AuthService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,6 +13,8 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -23,11 +23,9 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final AuthService authService;
-    private final UserRepository userRepository;
 
-    public AuthController(AuthService authService, UserRepository userRepository) {
+    public AuthController(AuthService authService) {
         this.authService = authService;
-        this.userRepository = userRepository;
     }
 
     @Operation(
@@ -148,13 +146,8 @@ public class AuthController {
     })
     @PostMapping("/login")
     public ResponseEntity<?> login(@Valid @RequestBody LoginRequest request) {
-        // Get the user after authentication
-        String token = authService.login(request.getPhone(), request.getPassword());
-        User user = userRepository.findByPhone(request.getPhone())
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        
-        // Return enhanced response with token expiration details
-        AuthResponse authResponse = authService.createAuthResponse(user);
+        // Authenticates and mints both tokens from the user loaded during authentication
+        AuthResponse authResponse = authService.login(request.getPhone(), request.getPassword());
         return ResponseEntity.ok(authResponse);
     }
 
@@ -475,4 +468,43 @@ public class AuthController {
                             .build());
         }
     }
+
+    @Operation(
+        summary = "Logout",
+        description = """
+            Revokes the refresh token and, when sent with a bearer token, the current access token.
+            
+            ### Options:
+            - `allDevices=true` revokes every access and refresh token of the user (all sessions)
+            
+            An invalid or expired refresh token is accepted and ignored, so logout is idempotent.
+            """,
+        requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+            description = "Refresh token to revoke",
+            required = true,
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = RefreshTokenRequest.class)
+            )
+        )
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Logged out"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Token is not a refresh token",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@Valid @RequestBody RefreshTokenRequest request,
+                                       @RequestParam(defaultValue = "false") boolean allDevices,
+                                       @AuthenticationPrincipal Jwt accessToken) {
+        authService.logout(
+                request.getRefreshToken(),
+                accessToken != null ? accessToken.getId() : null,
+                accessToken != null ? accessToken.getExpiresAt() : null,
+                allDevices);
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -2,18 +2,27 @@ package com.morago_backend.controller;
 
 import com.morago_backend.dto.dtoRequest.CallRecordRequestDTO;
 import com.morago_backend.dto.dtoResponse.CallRecordResponseDTO;
+import com.morago_backend.dto.dtoResponse.CursorPage;
 import com.morago_backend.service.CallRecordService;
+import com.morago_backend.service.ExportFormat;
+import com.morago_backend.service.ReportExportService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -24,6 +33,7 @@ import java.util.List;
 public class CallRecordController {
 
     private final CallRecordService callRecordService;
+    private final ReportExportService reportExportService;
     private static final Logger logger = LoggerFactory.getLogger(CallRecordController.class);
 
     // ========== GET ALL CALL RECORDS ==========
@@ -39,6 +49,47 @@ public class CallRecordController {
         }
     }
 
+    // ========== GET CALL RECORDS (CURSOR) ==========
+    @Operation(summary = "Get call records by cursor",
+            description = "Newest first. Pass the returned nextCursor as cursor to fetch the following page")
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPage<CallRecordResponseDTO>> getPage(
+            @Parameter(description = "Opaque cursor from the previous page; omit for the first page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Number of items per page (max 100)")
+            @RequestParam(defaultValue = "20") Integer size) {
+        try {
+            logger.info("Fetching call records page, size={}", size);
+            return ResponseEntity.ok(callRecordService.findPage(cursor, size));
+        } catch (Exception e) {
+            logger.error("Error fetching call records page: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    // ========== EXPORT CALL RECORDS (ADMIN) ==========
+    @Operation(summary = "Export call records (Admin only)",
+            description = "Streams every matching call record in id order as CSV or NDJSON; gzip-encoded when the client sends Accept-Encoding: gzip")
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMINISTRATOR')")
+    public ResponseEntity<StreamingResponseBody> export(
+            @Parameter(description = "csv (default) or ndjson") @RequestParam(defaultValue = "csv") String format,
+            @Parameter(description = "Created at or after (ISO date-time)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Created before (ISO date-time)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        try {
+            ExportFormat exportFormat = ExportFormat.parse(format);
+            logger.info("Exporting call records as {} from={} to={}", exportFormat, from, to);
+            return ExportResponses.attachment("call-records", exportFormat, acceptEncoding,
+                    out -> reportExportService.exportCallRecords(from, to, exportFormat, out));
+        } catch (Exception e) {
+            logger.error("Error exporting call records: {}", e.getMessage());
+            throw e;
+        }
+    }
+
     // ========== GET CALL RECORD BY ID ==========
     @Operation(summary = "Get call record by ID")
     @GetMapping("/{id}")
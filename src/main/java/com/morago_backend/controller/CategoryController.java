@@ -4,8 +4,13 @@ import com.morago_backend.dto.dtoRequest.CategoryRequestDTO;
 import com.morago_backend.dto.dtoRequest.FilterRequest;
 import com.morago_backend.dto.dtoRequest.PaginationRequest;
 import com.morago_backend.dto.dtoResponse.CategoryResponseDTO;
+import com.morago_backend.service.CatalogCache;
 import com.morago_backend.service.CategoryService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -13,12 +18,13 @@ import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
-import java.util.List;
 
 @RestController
 @RequestMapping("/api/categories")
@@ -48,11 +54,19 @@ public class CategoryController {
 
     // ========== GET ALL WITHOUT PAGINATION ==========
     @Operation(summary = "Get all categories (no pagination)")
+    @ApiResponse(responseCode = "200", description = "Catalog as JSON; 304 when If-None-Match carries the current ETag",
+            content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = CategoryResponseDTO.class))))
     @GetMapping("/all")
-    public ResponseEntity<List<CategoryResponseDTO>> getAllLegacy() {
+    public ResponseEntity<byte[]> getAllLegacy() {
         try {
             logger.info("Fetching all categories (legacy endpoint)");
-            return ResponseEntity.ok(categoryService.findAllDTO());
+            CatalogCache.Entry catalog = categoryService.findAllCached();
+            // HttpEntityMethodProcessor turns a matching If-None-Match into a 304 without a body
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .eTag(catalog.etag())
+                    .body(catalog.body());
         } catch (Exception e) {
             logger.error("Error fetching all categories (legacy): {}", e.getMessage());
             throw e;
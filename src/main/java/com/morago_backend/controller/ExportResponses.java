@@ -0,0 +1,43 @@
+package com.morago_backend.controller;
+
+import com.morago_backend.service.ExportFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Builds the download response shared by the report export endpoints. The body is gzip-encoded when the client
+ * accepts it; the gzip stream sync-flushes so compressed bytes go out with every flush instead of at the end.
+ */
+final class ExportResponses {
+
+    private static final int GZIP_BUFFER_BYTES = 8 * 1024;
+
+    private ExportResponses() {
+    }
+
+    static ResponseEntity<StreamingResponseBody> attachment(String name, ExportFormat format, String acceptEncoding,
+                                                            StreamingResponseBody body) {
+        String filename = name + "-" + LocalDate.now() + "." + format.getExtension();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (acceptEncoding == null || !acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip")) {
+            return response.body(body);
+        }
+        return response
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .body(out -> {
+                    GZIPOutputStream gzip = new GZIPOutputStream(out, GZIP_BUFFER_BYTES, true);
+                    body.writeTo(gzip);
+                    gzip.finish();
+                });
+    }
+}
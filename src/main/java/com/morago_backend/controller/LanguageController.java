@@ -5,18 +5,24 @@ import com.morago_backend.dto.dtoRequest.PaginationRequest;
 import com.morago_backend.dto.dtoRequest.LanguageRequestDTO;
 import com.morago_backend.dto.dtoResponse.LanguageResponseDTO;
 import com.morago_backend.dto.dtoResponse.PagedResponse;
+import com.morago_backend.service.CatalogCache;
 import com.morago_backend.service.LanguageService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 
 @RestController
 @RequestMapping("/api/languages")
@@ -51,12 +57,19 @@ public class LanguageController {
 
     // ================= GET ALL LANGUAGES WITHOUT PAGINATION =================
     @Operation(summary = "Get all languages (legacy endpoint without pagination)")
+    @ApiResponse(responseCode = "200", description = "Catalog as JSON; 304 when If-None-Match carries the current ETag",
+            content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = LanguageResponseDTO.class))))
     @GetMapping("/all")
-    public ResponseEntity<List<LanguageResponseDTO>> getAllLegacy() {
+    public ResponseEntity<byte[]> getAllLegacy() {
         try {
             logger.info("Fetching all languages (legacy endpoint)");
-            List<LanguageResponseDTO> list = service.findAll();
-            return ResponseEntity.ok(list);
+            CatalogCache.Entry catalog = service.findAllCached();
+            // HttpEntityMethodProcessor turns a matching If-None-Match into a 304 without a body
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .eTag(catalog.etag())
+                    .body(catalog.body());
         } catch (Exception e) {
             logger.error("Error fetching all languages: {}", e.getMessage());
             throw e;
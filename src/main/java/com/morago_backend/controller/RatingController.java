@@ -3,6 +3,7 @@ package com.morago_backend.controller;
 import com.morago_backend.dto.dtoRequest.RatingRequestDTO;
 import com.morago_backend.dto.dtoResponse.RatingResponseDTO;
 import com.morago_backend.service.RatingService;
+import com.morago_backend.service.RatingSummaryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -26,9 +27,11 @@ public class RatingController {
     private static final Logger logger = LoggerFactory.getLogger(RatingController.class);
 
     private final RatingService ratingService;
+    private final RatingSummaryService ratingSummaryService;
 
-    public RatingController(RatingService ratingService) {
+    public RatingController(RatingService ratingService, RatingSummaryService ratingSummaryService) {
         this.ratingService = ratingService;
+        this.ratingSummaryService = ratingSummaryService;
     }
 
     // ========== GET ALL RATINGS ==========
@@ -101,4 +104,19 @@ public class RatingController {
             throw ex;
         }
     }
+
+    // ========== RECONCILE RATING SUMMARIES ==========
+    @Operation(summary = "Rebuild users' stored rating averages and counts from the ratings table")
+    @PostMapping("/summaries/reconcile")
+    @PreAuthorize("hasRole('ADMINISTRATOR')")
+    public ResponseEntity<Void> reconcileSummaries() {
+        try {
+            logger.info("Reconciling rating summaries");
+            ratingSummaryService.reconcileAll();
+            return ResponseEntity.noContent().build();
+        } catch (Exception ex) {
+            logger.error("Error reconciling rating summaries: {}", ex.getMessage(), ex);
+            throw ex;
+        }
+    }
 }
@@ -0,0 +1,87 @@
+package com.morago_backend.controller;
+
+import com.morago_backend.dto.dtoResponse.CallStatisticsResponseDTO;
+import com.morago_backend.dto.dtoResponse.WithdrawalBacklogResponseDTO;
+import com.morago_backend.service.StatisticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/statistics")
+@PreAuthorize("hasRole('ADMINISTRATOR')")
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "Admin Statistics", description = "Aggregated figures for the admin dashboard")
+public class StatisticsController {
+
+    // Default report window when no dates are given
+    private static final int DEFAULT_DAYS = 30;
+
+    private final StatisticsService service;
+    private static final Logger logger = LoggerFactory.getLogger(StatisticsController.class);
+
+    public StatisticsController(StatisticsService service) {
+        this.service = service;
+    }
+
+    // ========== CALL STATISTICS ==========
+    @Operation(summary = "Get call statistics",
+            description = "Revenue, commission, call minutes and active interpreters of settled calls per day, week or theme")
+    @GetMapping("/calls")
+    public ResponseEntity<List<CallStatisticsResponseDTO>> getCallStatistics(
+            @Parameter(description = "day (default), week or theme") @RequestParam(defaultValue = "day") String groupBy,
+            @Parameter(description = "First day, inclusive (ISO date); defaults to 30 days ago")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day, inclusive (ISO date); defaults to today")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            LocalDate end = to != null ? to : LocalDate.now();
+            LocalDate start = from != null ? from : end.minusDays(DEFAULT_DAYS - 1);
+            logger.info("Fetching call statistics by {} for {}..{}", groupBy, start, end);
+            return ResponseEntity.ok(service.getCallStatistics(StatisticsService.Grouping.parse(groupBy), start, end));
+        } catch (Exception e) {
+            logger.error("Error fetching call statistics: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    // ========== WITHDRAWAL BACKLOG ==========
+    @Operation(summary = "Get withdrawal backlog", description = "Pending withdrawals in total and per request day")
+    @GetMapping("/withdrawals/backlog")
+    public ResponseEntity<WithdrawalBacklogResponseDTO> getWithdrawalBacklog() {
+        try {
+            logger.info("Fetching withdrawal backlog");
+            return ResponseEntity.ok(service.getWithdrawalBacklog());
+        } catch (Exception e) {
+            logger.error("Error fetching withdrawal backlog: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    // ========== REBUILD ROLLUPS ==========
+    @Operation(summary = "Rebuild call statistics",
+            description = "Recomputes the daily rollups of the given days from the calls table, e.g. to backfill history")
+    @PostMapping("/rebuild")
+    public ResponseEntity<Map<String, Integer>> rebuild(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            logger.info("Rebuilding call statistics for {}..{}", from, to);
+            return ResponseEntity.ok(Map.of("buckets", service.rebuild(from, to)));
+        } catch (Exception e) {
+            logger.error("Error rebuilding call statistics: {}", e.getMessage());
+            throw e;
+        }
+    }
+}
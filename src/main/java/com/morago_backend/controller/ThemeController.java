@@ -3,20 +3,26 @@ package com.morago_backend.controller;
 import com.morago_backend.dto.dtoRequest.ThemeRequestDTO;
 import com.morago_backend.dto.dtoResponse.ThemeResponseDTO;
 import com.morago_backend.exception.ResourceNotFoundException;
+import com.morago_backend.service.CatalogCache;
 import com.morago_backend.service.ThemeService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
-import java.util.List;
 
 @RestController
 @RequestMapping("/api/themes")
@@ -34,12 +40,19 @@ public class ThemeController {
 
     // ========== GET ALL THEMES ==========
     @Operation(summary = "Get all themes")
+    @ApiResponse(responseCode = "200", description = "Catalog as JSON; 304 when If-None-Match carries the current ETag",
+            content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = ThemeResponseDTO.class))))
     @GetMapping
-    public ResponseEntity<List<ThemeResponseDTO>> getAll() {
+    public ResponseEntity<byte[]> getAll() {
         try {
             logger.info("Fetching all themes");
-            List<ThemeResponseDTO> list = service.findAll();
-            return ResponseEntity.ok(list);
+            CatalogCache.Entry catalog = service.findAllCached();
+            // HttpEntityMethodProcessor turns a matching If-None-Match into a 304 without a body
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .eTag(catalog.etag())
+                    .body(catalog.body());
         } catch (Exception ex) {
             logger.error("Error fetching all themes: {}", ex.getMessage(), ex);
             return ResponseEntity.status(500).build();
@@ -1,10 +1,14 @@
 package com.morago_backend.controller;
 
 import com.morago_backend.dto.dtoRequest.TransactionFilterRequest;
+import com.morago_backend.dto.dtoResponse.CursorPage;
 import com.morago_backend.dto.dtoResponse.TransactionResponse;
+import com.morago_backend.entity.LedgerAccountType;
 import com.morago_backend.entity.TransactionType;
-import com.morago_backend.entity.User;
-import com.morago_backend.repository.UserRepository;
+import com.morago_backend.security.CurrentUserProvider;
+import com.morago_backend.service.ExportFormat;
+import com.morago_backend.service.LedgerService;
+import com.morago_backend.service.ReportExportService;
 import com.morago_backend.service.TransactionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,13 +18,16 @@ import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 @RestController
 @RequestMapping("/api/transactions")
@@ -30,7 +37,9 @@ import java.math.BigDecimal;
 public class TransactionController {
 
     private final TransactionService transactionService;
-    private final UserRepository userRepository;
+    private final LedgerService ledgerService;
+    private final ReportExportService reportExportService;
+    private final CurrentUserProvider currentUserProvider;
     private static final Logger logger = LoggerFactory.getLogger(TransactionController.class);
 
     //====== GET MY TRANSACTIONS ======//
@@ -52,6 +61,28 @@ public class TransactionController {
         }
     }
 
+    //====== GET MY TRANSACTIONS (CURSOR) ======//
+    @GetMapping("/my-transactions/cursor")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "Get my transactions by cursor",
+            description = "Newest first. Pass the returned nextCursor as cursor to fetch the following page")
+    public ResponseEntity<CursorPage<TransactionResponse>> getMyTransactionsByCursor(
+            @Parameter(description = "Opaque cursor from the previous page; omit for the first page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Number of items per page (max 100)") @RequestParam(defaultValue = "20") Integer size
+    ) {
+        try {
+            logger.info("Fetching transactions by cursor for current user, size={}", size);
+            Long userId = getCurrentUserId();
+            return ResponseEntity.ok(transactionService.getUserTransactionsByCursor(userId, cursor, size));
+        } catch (IllegalArgumentException ex) {
+            logger.warn("Invalid cursor request: {}", ex.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception ex) {
+            logger.error("Error fetching my transactions by cursor:", ex);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     //====== FILTER MY TRANSACTIONS ======//
     @PostMapping("/my-transactions/filter")
     @PreAuthorize("isAuthenticated()")
@@ -102,6 +133,28 @@ public class TransactionController {
         }
     }
 
+    //====== GET USER TRANSACTIONS BY CURSOR (ADMIN) ======//
+    @GetMapping("/user/{userId}/cursor")
+    @PreAuthorize("hasRole('ADMINISTRATOR')")
+    @Operation(summary = "Get user transactions by cursor (Admin only)",
+            description = "Newest first. Pass the returned nextCursor as cursor to fetch the following page")
+    public ResponseEntity<CursorPage<TransactionResponse>> getUserTransactionsByCursor(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") Integer size
+    ) {
+        try {
+            logger.info("Fetching transactions by cursor for user id={}, size={}", userId, size);
+            return ResponseEntity.ok(transactionService.getUserTransactionsByCursor(userId, cursor, size));
+        } catch (IllegalArgumentException ex) {
+            logger.warn("Invalid cursor request for user id={}: {}", userId, ex.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception ex) {
+            logger.error("Error fetching transactions by cursor for user id={}:", userId, ex);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     //====== FILTER USER TRANSACTIONS (ADMIN) ======//
     @PostMapping("/user/{userId}/filter")
     @PreAuthorize("hasRole('ADMINISTRATOR')")
@@ -152,13 +205,58 @@ public class TransactionController {
         }
     }
 
+    //====== LEDGER BALANCE (ADMIN) ======//
+    @GetMapping("/ledger/{accountType}/{ownerId}/balance")
+    @PreAuthorize("hasRole('ADMINISTRATOR')")
+    @Operation(summary = "Get ledger account balance (Admin only)",
+            description = "Balance of a ledger account now, or at the given point in time. Platform accounts use owner id 0")
+    public ResponseEntity<BigDecimal> getLedgerBalance(
+            @PathVariable LedgerAccountType accountType,
+            @PathVariable Long ownerId,
+            @Parameter(description = "Point in time (ISO date-time); defaults to now")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at
+    ) {
+        try {
+            logger.info("Fetching ledger balance for {} owner id={} at={}", accountType, ownerId, at);
+            BigDecimal balance = at == null
+                    ? ledgerService.currentBalance(accountType, ownerId)
+                    : ledgerService.balanceAt(accountType, ownerId, at);
+            return ResponseEntity.ok(balance);
+        } catch (Exception ex) {
+            logger.error("Error fetching ledger balance for {} owner id={}:", accountType, ownerId, ex);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    //====== EXPORT TRANSACTIONS (ADMIN) ======//
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMINISTRATOR')")
+    @Operation(summary = "Export transactions (Admin only)",
+            description = "Streams every matching transaction in id order as CSV or NDJSON; gzip-encoded when the client sends Accept-Encoding: gzip")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            @Parameter(description = "csv (default) or ndjson") @RequestParam(defaultValue = "csv") String format,
+            @Parameter(description = "Only this user's transactions") @RequestParam(required = false) Long userId,
+            @Parameter(description = "Created at or after (ISO date-time)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Created before (ISO date-time)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        try {
+            ExportFormat exportFormat = ExportFormat.parse(format);
+            logger.info("Exporting transactions as {} for userId={} from={} to={}", exportFormat, userId, from, to);
+            return ExportResponses.attachment("transactions", exportFormat, acceptEncoding,
+                    out -> reportExportService.exportTransactions(userId, from, to, exportFormat, out));
+        } catch (Exception ex) {
+            logger.error("Error exporting transactions: {}", ex.getMessage());
+            throw ex;
+        }
+    }
+
     //====== HELPER METHOD ======//
     private Long getCurrentUserId() {
         try {
-            String phone = SecurityContextHolder.getContext().getAuthentication().getName();
-            User user = userRepository.findByPhone(phone)
-                    .orElseThrow(() -> new RuntimeException("Current user not found"));
-            return user.getId();
+            return currentUserProvider.getId();
         } catch (Exception ex) {
             logger.error("Error fetching current user ID:", ex);
             throw ex;
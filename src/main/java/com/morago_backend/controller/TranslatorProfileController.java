@@ -3,11 +3,13 @@ package com.morago_backend.controller;
 import com.morago_backend.dto.dtoRequest.FilterRequest;
 import com.morago_backend.dto.dtoRequest.PaginationRequest;
 import com.morago_backend.dto.dtoRequest.TranslatorProfileRequestDTO;
+import com.morago_backend.dto.dtoResponse.AvailableInterpreterResponseDTO;
 import com.morago_backend.dto.dtoResponse.PagedResponse;
 import com.morago_backend.dto.dtoResponse.TranslatorProfileResponseDTO;
 import com.morago_backend.dto.dtoResponse.TranslatorProfileWithRatingResponseDTO;
 import com.morago_backend.exception.ResourceNotFoundException;
-import com.morago_backend.repository.UserRepository;
+import com.morago_backend.security.CurrentUser;
+import com.morago_backend.security.CurrentUserProvider;
 import com.morago_backend.service.TranslatorProfileService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -18,9 +20,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
@@ -34,12 +33,21 @@ import java.util.List;
 public class TranslatorProfileController {
 
     private final TranslatorProfileService service;
-    private final UserRepository userRepository;
+    private final CurrentUserProvider currentUserProvider;
     private static final Logger logger = LoggerFactory.getLogger(TranslatorProfileController.class);
 
-    public TranslatorProfileController(TranslatorProfileService service, UserRepository userRepository) {
+    public TranslatorProfileController(TranslatorProfileService service, CurrentUserProvider currentUserProvider) {
         this.service = service;
-        this.userRepository = userRepository;
+        this.currentUserProvider = currentUserProvider;
+    }
+
+    // Interpreters may only act on their own profile; admins on any
+    private boolean isOwnProfileOrAdmin(Long profileId) {
+        CurrentUser currentUser = currentUserProvider.get();
+        if (!currentUser.isInterpreter() || currentUser.isAdmin()) {
+            return true;
+        }
+        return profileId.equals(service.findProfileIdByUserId(currentUser.id()));
     }
 
     // ========== GET ALL WITH FILTER AND PAGINATION ==========
@@ -60,6 +68,21 @@ public class TranslatorProfileController {
         }
     }
 
+    // ========== FIND AVAILABLE INTERPRETERS ==========
+    @Operation(summary = "Find online, available and verified interpreters by theme and/or language")
+    @GetMapping("/available")
+    @PreAuthorize("hasAnyRole('CLIENT','INTERPRETER','ADMINISTRATOR')")
+    public ResponseEntity<List<AvailableInterpreterResponseDTO>> findAvailable(
+            @RequestParam(required = false) Long themeId,
+            @RequestParam(required = false) Long languageId) {
+        try {
+            return ResponseEntity.ok(service.findAvailable(themeId, languageId));
+        } catch (Exception ex) {
+            logger.error("Error finding available interpreters for themeId={} languageId={}: {}", themeId, languageId, ex.getMessage());
+            throw ex;
+        }
+    }
+
     // ========== GET BY ID ==========
     @Operation(summary = "Get translator profile by ID")
     @GetMapping("/{id}")
@@ -67,26 +90,10 @@ public class TranslatorProfileController {
         try {
             logger.info("Fetching translator profile by id={}", id);
 
-            // Get current authenticated user
-            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-            Object principal = auth.getPrincipal();
-
-            String currentPhone = null;
-            boolean isInterpreter = false;
-
-            if (principal instanceof UserDetails user) {
-                currentPhone = user.getUsername(); // username = phone
-                isInterpreter = user.getAuthorities().stream()
-                        .anyMatch(a -> a.getAuthority().equals("ROLE_INTERPRETER"));
-            }
-
             // If role is INTERPRETER, allow access only to own profile
-            if (isInterpreter) {
-                TranslatorProfileResponseDTO ownProfile = service.findByPhone(currentPhone);
-                if (!id.equals(ownProfile.getId())) {
-                    logger.warn("Interpreter with phone={} attempted to access another profile id={}", currentPhone, id);
-                    return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
-                }
+            if (!isOwnProfileOrAdmin(id)) {
+                logger.warn("Interpreter user id={} attempted to access another profile id={}", currentUserProvider.getId(), id);
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
             }
 
             TranslatorProfileResponseDTO dto = service.findById(id);
@@ -125,22 +132,13 @@ public class TranslatorProfileController {
     @Operation(summary = "Update translator profile by ID")
     @PutMapping("/{id}")
     public ResponseEntity<TranslatorProfileResponseDTO> update(@PathVariable Long id,
-                                                               @Valid @RequestBody TranslatorProfileRequestDTO dto,
-                                                               Authentication auth) {
+                                                               @Valid @RequestBody TranslatorProfileRequestDTO dto) {
         try {
             logger.info("Updating translator profile id={} with data={}", id, dto);
 
-            UserDetails user = (UserDetails) auth.getPrincipal();
-            String currentUserPhone = user.getUsername();
-            boolean isInterpreter = user.getAuthorities().stream()
-                    .anyMatch(a -> a.getAuthority().equals("ROLE_INTERPRETER"));
-
-            if (isInterpreter) {
-                TranslatorProfileResponseDTO ownProfile = service.findByPhone(currentUserPhone);
-                if (ownProfile == null || !ownProfile.getId().equals(id)) {
-                    logger.warn("Interpreter {} attempted to update another profile id={}", currentUserPhone, id);
-                    return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
-                }
+            if (!isOwnProfileOrAdmin(id)) {
+                logger.warn("Interpreter user id={} attempted to update another profile id={}", currentUserProvider.getId(), id);
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
             }
 
             TranslatorProfileResponseDTO updated = service.update(id, dto);
@@ -153,26 +151,21 @@ public class TranslatorProfileController {
 
     @PutMapping("/availability")
     public ResponseEntity<TranslatorProfileResponseDTO> updateAvailability(@RequestParam Boolean isAvailable) {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication(); // move here
+        CurrentUser currentUser = currentUserProvider.get();
         try {
-            UserDetails user = (UserDetails) auth.getPrincipal();
-            boolean isInterpreter = user.getAuthorities().stream()
-                    .anyMatch(a -> a.getAuthority().equals("ROLE_INTERPRETER"));
-
-            if (!isInterpreter) {
-                logger.warn("User {} attempted to update availability but is not a translator", user.getUsername());
+            if (!currentUser.isInterpreter()) {
+                logger.warn("User id={} attempted to update availability but is not a translator", currentUser.id());
                 return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
             }
 
-            Long currentUserId = userRepository.findByPhone(user.getUsername())
-                    .orElseThrow(() -> new RuntimeException("User not found"))
-                    .getId();
+            // The service expects the translator profile id, not the user id
+            Long profileId = service.findProfileIdByUserId(currentUser.id());
 
-            TranslatorProfileResponseDTO updated = service.updateAvailability(currentUserId, isAvailable);
+            TranslatorProfileResponseDTO updated = service.updateAvailability(profileId, isAvailable);
             return ResponseEntity.ok(updated);
 
         } catch (Exception ex) {
-            logger.error("Error updating availability for user {}: {}", auth.getName(), ex.getMessage(), ex);
+            logger.error("Error updating availability for user id={}: {}", currentUser.id(), ex.getMessage(), ex);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
@@ -181,22 +174,13 @@ public class TranslatorProfileController {
     @Operation(summary = "Update translator themes (Many-to-Many)")
     @PutMapping("/{id}/themes")
     public ResponseEntity<TranslatorProfileResponseDTO> updateThemes(@PathVariable Long id,
-                                                                     @RequestBody List<Long> themeIds,
-                                                                     Authentication auth) {
+                                                                     @RequestBody List<Long> themeIds) {
         try {
             logger.info("Updating themes for translator id={} with themes={}", id, themeIds);
 
-            UserDetails user = (UserDetails) auth.getPrincipal();
-            String currentUserPhone = user.getUsername();
-            boolean isInterpreter = user.getAuthorities().stream()
-                    .anyMatch(a -> a.getAuthority().equals("ROLE_INTERPRETER"));
-
-            if (isInterpreter) {
-                TranslatorProfileResponseDTO ownProfile = service.findByPhone(currentUserPhone);
-                if (ownProfile == null || !ownProfile.getId().equals(id)) {
-                    logger.warn("Interpreter {} attempted to update themes for another profile id={}", currentUserPhone, id);
-                    return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
-                }
+            if (!isOwnProfileOrAdmin(id)) {
+                logger.warn("Interpreter user id={} attempted to update themes for another profile id={}", currentUserProvider.getId(), id);
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
             }
 
             TranslatorProfileResponseDTO updated = service.updateThemes(id, themeIds);
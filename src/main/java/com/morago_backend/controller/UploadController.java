@@ -8,6 +8,9 @@ import com.morago_backend.exception.ResourceNotFoundException;
 import com.morago_backend.repository.FileRepository;
 import com.morago_backend.repository.ThemeRepository;
 import com.morago_backend.repository.UserRepository;
+import com.morago_backend.security.CurrentUser;
+import com.morago_backend.security.CurrentUserProvider;
+import com.morago_backend.service.CatalogCache;
 import com.morago_backend.service.StorageService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -21,7 +24,6 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -39,6 +41,8 @@ public class UploadController {
     private final ThemeRepository themeRepository;
     private final UserRepository userRepository;
     private final FileRepository fileRepository;
+    private final CurrentUserProvider currentUserProvider;
+    private final CatalogCache catalogCache;
 
     private static final Logger logger = LoggerFactory.getLogger(UploadController.class);
     
@@ -58,30 +62,30 @@ public class UploadController {
     private static final long MAX_DOCUMENT_SIZE = 10 * 1024 * 1024; // 10MB
 
     public UploadController(StorageService storageService, ThemeRepository themeRepository,
-                            UserRepository userRepository, FileRepository fileRepository) {
+                            UserRepository userRepository, FileRepository fileRepository,
+                            CurrentUserProvider currentUserProvider, CatalogCache catalogCache) {
         this.storageService = storageService;
         this.themeRepository = themeRepository;
         this.userRepository = userRepository;
         this.fileRepository = fileRepository;
+        this.currentUserProvider = currentUserProvider;
+        this.catalogCache = catalogCache;
     }
     
     // ========== HELPER METHODS ==========
     
     /**
-     * Get the currently authenticated user
+     * Reference to the currently authenticated user, for associations (no database read)
      */
-    private User getCurrentUser() {
-        String phone = SecurityContextHolder.getContext().getAuthentication().getName();
-        return userRepository.findByPhone(phone)
-                .orElseThrow(() -> new ResourceNotFoundException("Current user not found"));
+    private User getCurrentUserReference() {
+        return userRepository.getReferenceById(currentUserProvider.getId());
     }
     
     /**
      * Check if current user has admin role
      */
     private boolean isCurrentUserAdmin() {
-        return SecurityContextHolder.getContext().getAuthentication().getAuthorities().stream()
-                .anyMatch(auth -> auth.getAuthority().equals("ROLE_ADMINISTRATOR"));
+        return currentUserProvider.get().isAdmin();
     }
     
     /**
@@ -89,8 +93,8 @@ public class UploadController {
      * Users can only perform actions on their own account unless they are admin
      */
     private void validateUserAccess(Long targetUserId) {
-        User currentUser = getCurrentUser();
-        if (!isCurrentUserAdmin() && !currentUser.getId().equals(targetUserId)) {
+        CurrentUser currentUser = currentUserProvider.get();
+        if (!currentUser.isAdmin() && !currentUser.id().equals(targetUserId)) {
             throw new AccessDeniedException("You can only upload files for your own account");
         }
     }
@@ -144,6 +148,7 @@ public class UploadController {
 
             theme.setIconId(saved.getId());
             themeRepository.save(theme);
+            catalogCache.invalidate(CatalogCache.THEMES);
 
             return ResponseEntity.created(URI.create(url)).body(url);
         } catch (Exception ex) {
@@ -171,7 +176,7 @@ public class UploadController {
             saved.setOriginalTitle(file.getOriginalFilename());
             saved.setPath(url);
             saved.setType(file.getContentType());
-            saved.setUser(getCurrentUser());
+            saved.setUser(getCurrentUserReference());
             saved = fileRepository.save(saved);
 
             user.setImageId(saved.getId());
@@ -206,7 +211,7 @@ public class UploadController {
             saved.setOriginalTitle(file.getOriginalFilename());
             saved.setPath(url);
             saved.setType(file.getContentType());
-            saved.setUser(getCurrentUser());
+            saved.setUser(getCurrentUserReference());
             fileRepository.save(saved);
 
             return ResponseEntity.created(URI.create(url)).body(url);
@@ -0,0 +1,42 @@
+package com.morago_backend.dto.dtoResponse;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * Immutable snapshot of an interpreter held by the availability index
+ */
+@Getter
+@Schema(description = "Interpreter that is online, available and verified")
+public class AvailableInterpreterResponseDTO {
+
+    @Schema(description = "ID of the translator profile", example = "1")
+    private final Long translatorProfileId;
+
+    @Schema(description = "ID of the interpreter user", example = "7")
+    private final Long userId;
+
+    @Schema(description = "Name of the interpreter", example = "John Doe")
+    private final String name;
+
+    @Schema(description = "Level of Korean proficiency", example = "Intermediate")
+    private final String levelOfKorean;
+
+    @Schema(description = "IDs of the themes the interpreter covers")
+    private final Set<Long> themeIds;
+
+    @Schema(description = "IDs of the languages the interpreter speaks")
+    private final Set<Long> languageIds;
+
+    public AvailableInterpreterResponseDTO(Long translatorProfileId, Long userId, String name, String levelOfKorean,
+                                           Set<Long> themeIds, Set<Long> languageIds) {
+        this.translatorProfileId = translatorProfileId;
+        this.userId = userId;
+        this.name = name;
+        this.levelOfKorean = levelOfKorean;
+        this.themeIds = Set.copyOf(themeIds);
+        this.languageIds = Set.copyOf(languageIds);
+    }
+}
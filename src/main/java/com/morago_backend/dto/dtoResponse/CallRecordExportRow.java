@@ -0,0 +1,21 @@
+package com.morago_backend.dto.dtoResponse;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One exported call record, read by constructor projection so exported rows never enter the persistence context.
+ */
+public record CallRecordExportRow(
+        Long id,
+        Long callerUserId,
+        Long recipientUserId,
+        Long themeId,
+        Integer durationSeconds,
+        BigDecimal sum,
+        BigDecimal commission,
+        String callStatus,
+        Boolean status,
+        LocalDateTime createdAt
+) {
+}
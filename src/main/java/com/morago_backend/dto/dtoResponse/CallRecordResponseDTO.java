@@ -51,6 +51,9 @@ public class CallRecordResponseDTO {
     @Schema(description = "Is end call", example = "true")
     private Boolean endCall;
 
+    @Schema(description = "Balance settlement status: SETTLING, SETTLED or FAILED; null if the call has not been settled", example = "SETTLED")
+    private String settlementStatus;
+
     @Schema(description = "Creation timestamp")
     private LocalDateTime createdAtDatetime;
 
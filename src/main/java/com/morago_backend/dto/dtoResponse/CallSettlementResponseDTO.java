@@ -0,0 +1,28 @@
+package com.morago_backend.dto.dtoResponse;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Payload of the callSettled event")
+public class CallSettlementResponseDTO {
+
+    @Schema(description = "Call ID", example = "1")
+    private Long callId;
+
+    @Schema(description = "Caller user ID", example = "10")
+    private Long callerUserId;
+
+    @Schema(description = "Recipient (interpreter) user ID", example = "20")
+    private Long recipientUserId;
+
+    @Schema(description = "Settlement status", example = "SETTLED")
+    private String settlementStatus;
+
+}
@@ -0,0 +1,43 @@
+package com.morago_backend.dto.dtoResponse;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Settled-call totals for one day, week or theme")
+public class CallStatisticsResponseDTO {
+
+    @Schema(description = "First day of the bucket (the day, or the Monday of the week); null when grouped by theme", example = "2024-05-06")
+    private LocalDate periodStart;
+
+    @Schema(description = "Theme ID when grouped by theme; null for calls without a theme", example = "3")
+    private Long themeId;
+
+    @Schema(description = "Theme name when grouped by theme", example = "Medical")
+    private String themeName;
+
+    @Schema(description = "Number of settled calls", example = "42")
+    private long calls;
+
+    @Schema(description = "Total charged to callers", example = "1250.00")
+    private BigDecimal revenue;
+
+    @Schema(description = "Platform commission withheld", example = "187.50")
+    private BigDecimal commission;
+
+    @Schema(description = "Total call time in minutes", example = "315.25")
+    private BigDecimal callMinutes;
+
+    @Schema(description = "Distinct interpreters with at least one settled call in the bucket", example = "7")
+    private long activeInterpreters;
+
+}
@@ -0,0 +1,34 @@
+package com.morago_backend.dto.dtoResponse;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Response wrapper for keyset (cursor) pagination. There is no total count; pass {@code nextCursor}
+ * back as {@code cursor} to fetch the following page.
+ */
+@Getter
+@Schema(description = "Cursor-paginated response wrapper")
+public class CursorPage<T> {
+
+    @Schema(description = "List of items in current page")
+    private final List<T> content;
+
+    @Schema(description = "Opaque cursor for the next page, null when there are no more items")
+    private final String nextCursor;
+
+    @Schema(description = "Whether there are more items after this page")
+    private final boolean hasNext;
+
+    @Schema(description = "Number of items in current page")
+    private final int size;
+
+    public CursorPage(List<T> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+        this.size = content.size();
+    }
+}
@@ -0,0 +1,25 @@
+package com.morago_backend.dto.dtoResponse;
+
+import com.morago_backend.entity.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One exported transaction, read by constructor projection so exported rows never enter the persistence context.
+ */
+public record TransactionExportRow(
+        Long id,
+        Long userId,
+        TransactionType transactionType,
+        BigDecimal amount,
+        BigDecimal balanceBefore,
+        BigDecimal balanceAfter,
+        String status,
+        String description,
+        Long depositId,
+        Long withdrawalId,
+        Long callRecordId,
+        LocalDateTime createdAt
+) {
+}
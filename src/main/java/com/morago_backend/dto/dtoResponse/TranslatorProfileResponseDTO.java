@@ -4,6 +4,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -37,6 +38,12 @@ public class TranslatorProfileResponseDTO {
     @Schema(description = "List of themes the translator specializes in")
     private List<String> themes;
 
+    @Schema(description = "Average rating of the translator", example = "4.50")
+    private BigDecimal averageRating;
+
+    @Schema(description = "Number of ratings received", example = "12")
+    private Integer totalRatings;
+
     @Schema(description = "Category creation timestamp")
     private LocalDateTime createdAtDatetime;
 
@@ -7,6 +7,7 @@ import lombok.Setter;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @Getter
@@ -68,4 +69,14 @@ public class TranslatorProfileWithRatingResponseDTO {
         this.createdAtDatetime = createdAtDatetime;
         this.updatedAtDatetime = updatedAtDatetime;
     }
+
+    // Projection constructor used by TranslatorProfileRepository; themes are filled in afterwards
+    public TranslatorProfileWithRatingResponseDTO(Long id, String firstName, String lastName, String phone,
+                                                  LocalDate dateOfBirth, Boolean isAvailable, Boolean isOnline,
+                                                  Boolean isVerified, String levelOfKorean, BigDecimal averageRating,
+                                                  LocalDateTime createdAtDatetime, LocalDateTime updatedAtDatetime) {
+        this(id, firstName + " " + lastName, phone, dateOfBirth, isAvailable, isOnline, isVerified,
+                levelOfKorean, new ArrayList<>(), averageRating != null ? averageRating : BigDecimal.ZERO,
+                createdAtDatetime, updatedAtDatetime);
+    }
 }
@@ -0,0 +1,48 @@
+package com.morago_backend.dto.dtoResponse;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Withdrawals waiting for approval")
+public class WithdrawalBacklogResponseDTO {
+
+    @Schema(description = "Number of pending withdrawals", example = "12")
+    private long pendingCount;
+
+    @Schema(description = "Total amount of pending withdrawals", example = "3400.00")
+    private BigDecimal pendingTotal;
+
+    @Schema(description = "Day the oldest pending withdrawal was requested", example = "2024-05-01")
+    private LocalDate oldestRequestDay;
+
+    @Schema(description = "Pending withdrawals grouped by request day, oldest first")
+    private List<Day> byDay;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Day {
+
+        @Schema(description = "Request day", example = "2024-05-01")
+        private LocalDate day;
+
+        @Schema(description = "Pending withdrawals requested that day", example = "3")
+        private long count;
+
+        @Schema(description = "Their total amount", example = "900.00")
+        private BigDecimal total;
+
+    }
+}
@@ -0,0 +1,31 @@
+package com.morago_backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * One cache key dropped by {@code origin_node}. Every other node applies the row while it is younger than the
+ * poll lookback; rows are purged once no node can still need them.
+ */
+@Setter
+@Getter
+@Entity
+@Table(name = "cache_invalidations", indexes = {
+        @Index(name = "idx_cache_invalidations_created", columnList = "created_at_datetime")
+})
+public class CacheInvalidationMessage extends BaseEntity {
+
+    @Column(name = "origin_node", nullable = false, length = 64)
+    private String originNode;
+
+    @Column(name = "region", nullable = false, length = 50)
+    private String region;
+
+    @Column(name = "cache_key", nullable = false)
+    private String cacheKey;
+
+}
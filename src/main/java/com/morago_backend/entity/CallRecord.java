@@ -1,17 +1,25 @@
 package com.morago_backend.entity;
 
+import jakarta.persistence.AttributeOverride;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 @Setter
 @Getter
 @Entity
-@Table(name = "calls")
+@Table(name = "calls", indexes = {
+        @Index(name = "idx_calls_created_id", columnList = "created_at_datetime, id")
+})
+// Keyset pagination orders by (created_at_datetime, id), so the column must always be set (V22)
+@AttributeOverride(name = "createdAtDatetime",
+        column = @Column(name = "created_at_datetime", nullable = false, updatable = false))
 public class CallRecord extends BaseEntity {
 
     @Column(name = "duration_int")
@@ -50,4 +58,8 @@ public class CallRecord extends BaseEntity {
     @Column(name = "is_end_call_bit")
     private Boolean endCall;
 
+    // Set when the call is first ended or completed and handed to settlement; never settled again after that
+    @Column(name = "settled_at_datetime")
+    private LocalDateTime settledAtDatetime;
+
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.morago_backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Settled-call totals for one day and theme. Rows are only written by upserts from the settlement transaction
+ * (or a rebuild), never through the entity; dashboards aggregate these buckets instead of scanning calls.
+ */
+@Setter
+@Getter
+@Entity
+@Table(name = "call_statistics_daily", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_call_statistics_daily_bucket", columnNames = {"bucket_date", "theme_id"})
+})
+public class CallStatisticsDaily extends BaseEntity {
+
+    @Column(name = "bucket_date", nullable = false)
+    private LocalDate bucketDate;
+
+    // 0 for calls without a theme
+    @Column(name = "theme_id", nullable = false)
+    private Long themeId;
+
+    @Column(name = "calls_count", nullable = false)
+    private Long callsCount;
+
+    @Column(name = "revenue", precision = 14, scale = 2, nullable = false)
+    private BigDecimal revenue;
+
+    @Column(name = "commission", precision = 14, scale = 2, nullable = false)
+    private BigDecimal commission;
+
+    @Column(name = "duration_seconds", nullable = false)
+    private Long durationSeconds;
+
+}
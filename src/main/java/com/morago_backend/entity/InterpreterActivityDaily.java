@@ -0,0 +1,35 @@
+package com.morago_backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * Marks an interpreter as active on a day and theme; counting distinct interpreters over these rows is what
+ * lets active-interpreter figures be rolled up across days without double counting.
+ */
+@Setter
+@Getter
+@Entity
+@Table(name = "interpreter_activity_daily", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_interpreter_activity_daily",
+                columnNames = {"bucket_date", "theme_id", "interpreter_user_id"})
+})
+public class InterpreterActivityDaily extends BaseEntity {
+
+    @Column(name = "bucket_date", nullable = false)
+    private LocalDate bucketDate;
+
+    // 0 for calls without a theme
+    @Column(name = "theme_id", nullable = false)
+    private Long themeId;
+
+    @Column(name = "interpreter_user_id", nullable = false)
+    private Long interpreterUserId;
+
+}
@@ -0,0 +1,8 @@
+package com.morago_backend.entity;
+
+public enum LedgerAccountType {
+    USER_WALLET,        // Spendable balance of one user (owner = user id)
+    PLATFORM_CASH,      // Money held by the platform against deposits and withdrawals (owner = 0)
+    PLATFORM_CLEARING,  // Call payments waiting to be split into earnings and commission (owner = 0)
+    PLATFORM_REVENUE    // Commission kept by the platform (owner = 0)
+}
@@ -0,0 +1,32 @@
+package com.morago_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+/**
+ * One leg of a balanced posting. Entries are append-only; the legs of a posting share a transaction id
+ * and their amounts sum to zero. A positive amount increases the account's balance.
+ */
+@Setter
+@Getter
+@Entity
+@Table(name = "ledger_entries")
+public class LedgerEntry extends BaseEntity {
+
+    @Column(name = "transaction_id")
+    private Long transactionId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "account_type", nullable = false, length = 50)
+    private LedgerAccountType accountType;
+
+    @Column(name = "account_owner_id", nullable = false)
+    private Long accountOwnerId;
+
+    @Column(name = "amount", precision = 14, scale = 2, nullable = false)
+    private BigDecimal amount;
+
+}
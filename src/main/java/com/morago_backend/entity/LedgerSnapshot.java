@@ -0,0 +1,39 @@
+package com.morago_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Balance of one ledger account including every entry up to and including {@code lastEntryId}
+ */
+@Setter
+@Getter
+@Entity
+@Table(name = "ledger_snapshots")
+public class LedgerSnapshot extends BaseEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "account_type", nullable = false, length = 50)
+    private LedgerAccountType accountType;
+
+    @Column(name = "account_owner_id", nullable = false)
+    private Long accountOwnerId;
+
+    @Column(name = "last_entry_id", nullable = false)
+    private Long lastEntryId;
+
+    @Column(name = "balance", precision = 14, scale = 2, nullable = false)
+    private BigDecimal balance;
+
+    @Column(name = "entry_count", nullable = false)
+    private Long entryCount;
+
+    // created_at_datetime of the last included entry
+    @Column(name = "as_of_datetime", nullable = false)
+    private LocalDateTime asOfDatetime;
+
+}
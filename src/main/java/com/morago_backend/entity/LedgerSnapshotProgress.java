@@ -0,0 +1,34 @@
+package com.morago_backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Highest ledger entry id the snapshot job has scanned. A single row (id 1), so every instance resumes from
+ * the same point instead of rescanning from the start after a restart.
+ */
+@Setter
+@Getter
+@Entity
+@Table(name = "ledger_snapshot_progress")
+public class LedgerSnapshotProgress {
+
+    public static final int ID = 1;
+
+    @Id
+    @Column(name = "id")
+    private Integer id;
+
+    @Column(name = "scanned_up_to_id", nullable = false)
+    private Long scannedUpToId;
+
+    @Column(name = "updated_at_datetime")
+    private LocalDateTime updatedAtDatetime;
+
+}
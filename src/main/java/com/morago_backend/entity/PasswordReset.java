@@ -2,6 +2,7 @@ package com.morago_backend.entity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
@@ -9,7 +10,10 @@ import lombok.Setter;
 @Setter
 @Getter
 @Entity
-@Table(name = "password_resets")
+@Table(name = "password_resets", indexes = {
+        @Index(name = "idx_password_resets_phone_created", columnList = "phone_varchar100, created_at_datetime"),
+        @Index(name = "idx_password_resets_created", columnList = "created_at_datetime")
+})
 public class PasswordReset extends BaseEntity {
 
     @Column(name = "phone_varchar100", length = 100)
@@ -18,4 +22,10 @@ public class PasswordReset extends BaseEntity {
     @Column(name = "reset_code_int")
     private Integer resetCode;
 
+    @Column(name = "failed_attempts_int", nullable = false)
+    private int failedAttempts;
+
+    @Column(name = "is_verified", nullable = false)
+    private boolean verified;
+
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.morago_backend.entity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
@@ -11,7 +12,9 @@ import java.math.BigDecimal;
 @Setter
 @Getter
 @Entity
-@Table(name = "ratings")
+@Table(name = "ratings", indexes = {
+        @Index(name = "idx_ratings_to_whom_grade", columnList = "to_whom_user_id_bigint, grade_decimal15_2")
+})
 public class Rating extends BaseEntity {
 
     @Column(name = "who_user_id_bigint")
@@ -0,0 +1,30 @@
+package com.morago_backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Durable queue of completed calls waiting for balance settlement (used when settlement.async.enabled=true)
+ */
+@Setter
+@Getter
+@Entity
+@Table(name = "settlement_outbox")
+public class SettlementOutbox extends BaseEntity {
+
+    @Column(name = "call_record_id", nullable = false, unique = true)
+    private Long callRecordId;
+
+    @Column(name = "status", nullable = false, length = 20)
+    private String status;  // PENDING, DONE, FAILED
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+}
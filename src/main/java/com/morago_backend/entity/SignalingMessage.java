@@ -0,0 +1,39 @@
+package com.morago_backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Signaling event addressed to a session on another node. The target node polls its rows, delivers and deletes
+ * them; rows for nodes that went away expire.
+ */
+@Setter
+@Getter
+@Entity
+@Table(name = "signaling_messages", indexes = {
+        @Index(name = "idx_signaling_messages_node_id", columnList = "target_node, id"),
+        @Index(name = "idx_signaling_messages_created", columnList = "created_at_datetime")
+})
+public class SignalingMessage extends BaseEntity {
+
+    @Column(name = "target_node", nullable = false, length = 64)
+    private String targetNode;
+
+    @Column(name = "namespace", nullable = false, length = 100)
+    private String namespace;
+
+    @Column(name = "session_id", nullable = false, length = 36)
+    private String sessionId;
+
+    @Column(name = "event_name", nullable = false, length = 100)
+    private String eventName;
+
+    // JSON-serialized payload
+    @Column(name = "payload", columnDefinition = "TEXT")
+    private String payload;
+
+}
@@ -0,0 +1,43 @@
+package com.morago_backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * A user's seat in a signaling room, held by one session (namespace and id) on one node.
+ */
+@Setter
+@Getter
+@Entity
+@Table(name = "signaling_seats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_signaling_seats_room_user", columnNames = {"room_id", "user_id"}),
+        indexes = {
+                @Index(name = "idx_signaling_seats_session", columnList = "namespace, session_id"),
+                @Index(name = "idx_signaling_seats_node", columnList = "node_id")
+        })
+public class SignalingSeat extends BaseEntity {
+
+    @Column(name = "room_id", nullable = false, length = 100)
+    private String roomId;
+
+    @Column(name = "user_id", nullable = false, length = 100)
+    private String userId;
+
+    @Column(name = "namespace", nullable = false, length = 100)
+    private String namespace;
+
+    @Column(name = "session_id", nullable = false, length = 36)
+    private String sessionId;
+
+    @Column(name = "node_id", nullable = false, length = 64)
+    private String nodeId;
+
+    @Column(name = "status", length = 20)
+    private String status;
+
+}
@@ -0,0 +1,54 @@
+package com.morago_backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Socket.IO session connected to one node of the cluster, used to route signaling to the node that holds it.
+ * Keyed by namespace and session id, since one client shares its session id across namespaces.
+ */
+@Setter
+@Getter
+@Entity
+@IdClass(SignalingSession.Key.class)
+@Table(name = "signaling_sessions", indexes = {
+        @Index(name = "idx_signaling_sessions_node", columnList = "node_id")
+})
+public class SignalingSession {
+
+    @Id
+    @Column(name = "namespace", length = 100)
+    private String namespace;
+
+    @Id
+    @Column(name = "session_id", length = 36)
+    private String sessionId;
+
+    @Column(name = "node_id", nullable = false, length = 64)
+    private String nodeId;
+
+    @Column(name = "connected_at_datetime")
+    private LocalDateTime connectedAtDatetime;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private String namespace;
+        private String sessionId;
+    }
+}
@@ -0,0 +1,33 @@
+package com.morago_backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Socket.IO event written in the same transaction as the change it announces. Rows are deleted once
+ * dispatched; anything left behind (e.g. the instance stopped right after commit) is picked up by the sweep.
+ */
+@Setter
+@Getter
+@Entity
+@Table(name = "socket_event_outbox", indexes = {
+        @Index(name = "idx_socket_event_outbox_created", columnList = "created_at_datetime")
+})
+public class SocketEventOutbox extends BaseEntity {
+
+    @Column(name = "event_name", nullable = false, length = 100)
+    private String eventName;
+
+    // JSON-serialized payload
+    @Column(name = "payload", columnDefinition = "TEXT")
+    private String payload;
+
+    // Comma-separated room names; empty means broadcast to every client
+    @Column(name = "target_rooms", length = 1000)
+    private String targetRooms;
+
+}
@@ -0,0 +1,37 @@
+package com.morago_backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * A revoked token (jti set) or a per-user cutoff (issuedBefore set): tokens of that user issued before the
+ * cutoff are rejected. Kept only until expiresAt, after which the covered tokens are expired anyway.
+ */
+@Setter
+@Getter
+@Entity
+@Table(name = "token_revocations",
+        uniqueConstraints = @UniqueConstraint(name = "uk_token_revocations_jti", columnNames = "jti"),
+        indexes = @Index(name = "idx_token_revocations_expires", columnList = "expires_at"))
+public class TokenRevocation extends BaseEntity {
+
+    @Column(name = "jti", length = 64)
+    private String jti;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "issued_before")
+    private LocalDateTime issuedBefore;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+}
@@ -10,6 +10,9 @@ import java.math.BigDecimal;
 @Getter
 @Entity
 @Table(name = "transactions")
+// Keyset pagination orders by (created_at_datetime, id), so the column must always be set (V22)
+@AttributeOverride(name = "createdAtDatetime",
+        column = @Column(name = "created_at_datetime", nullable = false, updatable = false))
 public class Transaction extends BaseEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -3,6 +3,7 @@ package com.morago_backend.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -49,16 +50,19 @@ public class TranslatorProfile {
     @JoinTable(
             name = "translator_languages",
             joinColumns = @JoinColumn(name = "translator_profile_id"),
-            inverseJoinColumns = @JoinColumn(name = "language_id")
+            inverseJoinColumns = @JoinColumn(name = "language_id"),
+            indexes = @Index(name = "idx_translator_languages_language_profile", columnList = "language_id, translator_profile_id")
     )
     private Set<Language> languages = new HashSet<>();
 
     //Many-to-Many relationship with Theme
     @ManyToMany(fetch = FetchType.LAZY)
+    @BatchSize(size = 100)
     @JoinTable(
             name = "translator_themes",
             joinColumns = @JoinColumn(name = "translator_profile_id"),
-            inverseJoinColumns = @JoinColumn(name = "theme_id")
+            inverseJoinColumns = @JoinColumn(name = "theme_id"),
+            indexes = @Index(name = "idx_translator_themes_theme_profile", columnList = "theme_id, translator_profile_id")
     )
     private Set<Theme> themes = new HashSet<>();
 
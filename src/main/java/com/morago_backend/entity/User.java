@@ -3,7 +3,10 @@ package com.morago_backend.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -19,6 +22,7 @@ import java.util.Set;
 @Setter
 @Getter
 @Entity
+@DynamicUpdate // only write dirty columns so entity saves never overwrite counters updated in SQL
 @EntityListeners(AuditingEntityListener.class)
 @Table(name = "users")
 public class User implements UserDetails {
@@ -47,6 +51,10 @@ public class User implements UserDetails {
     @Column(name = "total_ratings")
     private Integer totalRatings = 0;
 
+    // Running sum of received grades; maintained by RatingSummaryService together with ratings/totalRatings
+    @Column(name = "rating_sum", precision = 15, scale = 2)
+    private BigDecimal ratingSum = BigDecimal.ZERO;
+
     @CreatedDate
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -73,6 +81,7 @@ public class User implements UserDetails {
     private UserProfile userProfile;
 
     @ElementCollection(fetch = FetchType.EAGER)
+    @BatchSize(size = 100) // roles for a whole page are loaded in one statement
     @CollectionTable(name = "user_roles", joinColumns = @JoinColumn(name = "user_id"))
     @Enumerated(EnumType.STRING)
     @Column(name = "role")
@@ -83,7 +92,9 @@ public class User implements UserDetails {
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of();
+        return roles.stream()
+                .map(role -> new SimpleGrantedAuthority("ROLE_" + role.name()))
+                .toList();
     }
 
     public String getUsername() {
@@ -107,6 +118,6 @@ public class User implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        return this.isActive; // Use the isActive field from User entity
+        return !Boolean.FALSE.equals(this.isActive); // Use the isActive field from User entity
     }
 }
@@ -2,6 +2,7 @@ package com.morago_backend.entity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
@@ -11,7 +12,11 @@ import java.math.BigDecimal;
 @Setter
 @Getter
 @Entity
-@Table(name = "withdrawals")
+@Table(name = "withdrawals", indexes = {
+        @Index(name = "idx_withdrawals_user_created", columnList = "user_id_bigint, created_at_datetime"),
+        @Index(name = "idx_withdrawals_user_status_created", columnList = "user_id_bigint, status_varchar50, created_at_datetime"),
+        @Index(name = "idx_withdrawals_status_created", columnList = "status_varchar50, created_at_datetime")
+})
 public class Withdrawal extends BaseEntity {
 
     @Column(name = "account_number_varchar200", length = 200)
@@ -0,0 +1,22 @@
+package com.morago_backend.repository;
+
+import com.morago_backend.entity.CacheInvalidationMessage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface CacheInvalidationMessageRepository extends JpaRepository<CacheInvalidationMessage, Long> {
+
+    @Query("SELECT m FROM CacheInvalidationMessage m " +
+            "WHERE m.createdAtDatetime >= :since AND m.originNode <> :nodeId ORDER BY m.id")
+    List<CacheInvalidationMessage> findRecentFromOtherNodes(@Param("since") LocalDateTime since,
+                                                            @Param("nodeId") String nodeId);
+
+    @Modifying
+    @Query("DELETE FROM CacheInvalidationMessage m WHERE m.createdAtDatetime < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
@@ -1,12 +1,51 @@
 package com.morago_backend.repository;
 
+import com.morago_backend.dto.dtoResponse.CallRecordExportRow;
 import com.morago_backend.entity.CallRecord;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface CallRecordRepository extends JpaRepository<CallRecord, Long> {
     List<CallRecord> findAllByOrderByCreatedAtDatetimeDesc();
-}
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM CallRecord c WHERE c.id = :id")
+    Optional<CallRecord> findForUpdateById(@Param("id") Long id);
+
+    // Keyset pages, newest first; pass Pageable.ofSize(limit) and no sort
+    @Query("SELECT c FROM CallRecord c ORDER BY c.createdAtDatetime DESC, c.id DESC")
+    List<CallRecord> findFirstPage(Pageable pageable);
 
+    @Query("SELECT c FROM CallRecord c " +
+           "WHERE c.createdAtDatetime < :createdAt OR (c.createdAtDatetime = :createdAt AND c.id < :id) " +
+           "ORDER BY c.createdAtDatetime DESC, c.id DESC")
+    List<CallRecord> findPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                   @Param("id") Long id,
+                                   Pageable pageable);
+
+    // Forward-only cursor for exports (MySQL streams row by row at fetch size Integer.MIN_VALUE); null bounds mean "no filter"
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "-2147483648"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT new com.morago_backend.dto.dtoResponse.CallRecordExportRow(" +
+           "c.id, c.callerUserId, c.recipientUserId, c.themeId, c.durationSeconds, c.sum, c.commission, " +
+           "c.callStatus, c.status, c.createdAtDatetime) " +
+           "FROM CallRecord c " +
+           "WHERE (:from IS NULL OR c.createdAtDatetime >= :from) " +
+           "AND (:to IS NULL OR c.createdAtDatetime < :to) " +
+           "ORDER BY c.id")
+    Stream<CallRecordExportRow> streamForExport(@Param("from") LocalDateTime from,
+                                                @Param("to") LocalDateTime to);
+}
@@ -0,0 +1,90 @@
+package com.morago_backend.repository;
+
+import com.morago_backend.entity.CallStatisticsDaily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Daily call rollups. The report queries return one row per bucket:
+ * [bucket, theme name, calls, revenue, commission, duration seconds, active interpreters].
+ */
+public interface CallStatisticsDailyRepository extends JpaRepository<CallStatisticsDaily, Long> {
+
+    // One settled call added to its (day, theme) bucket
+    @Modifying
+    @Query(value = "INSERT INTO call_statistics_daily (bucket_date, theme_id, calls_count, revenue, commission, duration_seconds, " +
+            "created_at_datetime, updated_at_datetime) " +
+            "VALUES (:day, :themeId, 1, :revenue, :commission, :durationSeconds, NOW(), NOW()) " +
+            "ON DUPLICATE KEY UPDATE calls_count = calls_count + 1, revenue = revenue + VALUES(revenue), " +
+            "commission = commission + VALUES(commission), duration_seconds = duration_seconds + VALUES(duration_seconds), " +
+            "updated_at_datetime = NOW()",
+            nativeQuery = true)
+    void increment(@Param("day") LocalDate day,
+                   @Param("themeId") Long themeId,
+                   @Param("revenue") BigDecimal revenue,
+                   @Param("commission") BigDecimal commission,
+                   @Param("durationSeconds") long durationSeconds);
+
+    // ========== REPORTS ==========
+    @Query(value = "SELECT s.bucket, NULL, s.calls, s.revenue, s.commission, s.duration, COALESCE(a.active, 0) " +
+            "FROM (SELECT bucket_date AS bucket, SUM(calls_count) AS calls, SUM(revenue) AS revenue, " +
+            "SUM(commission) AS commission, SUM(duration_seconds) AS duration " +
+            "FROM call_statistics_daily WHERE bucket_date BETWEEN :from AND :to GROUP BY bucket_date) s " +
+            "LEFT JOIN (SELECT bucket_date AS bucket, COUNT(DISTINCT interpreter_user_id) AS active " +
+            "FROM interpreter_activity_daily WHERE bucket_date BETWEEN :from AND :to GROUP BY bucket_date) a " +
+            "ON a.bucket = s.bucket " +
+            "ORDER BY s.bucket",
+            nativeQuery = true)
+    List<Object[]> summarizeByDay(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // Weeks start on Monday; the bucket is that Monday's date
+    @Query(value = "SELECT s.bucket, NULL, s.calls, s.revenue, s.commission, s.duration, COALESCE(a.active, 0) " +
+            "FROM (SELECT DATE_SUB(bucket_date, INTERVAL WEEKDAY(bucket_date) DAY) AS bucket, SUM(calls_count) AS calls, " +
+            "SUM(revenue) AS revenue, SUM(commission) AS commission, SUM(duration_seconds) AS duration " +
+            "FROM call_statistics_daily WHERE bucket_date BETWEEN :from AND :to GROUP BY bucket) s " +
+            "LEFT JOIN (SELECT DATE_SUB(bucket_date, INTERVAL WEEKDAY(bucket_date) DAY) AS bucket, " +
+            "COUNT(DISTINCT interpreter_user_id) AS active " +
+            "FROM interpreter_activity_daily WHERE bucket_date BETWEEN :from AND :to GROUP BY bucket) a " +
+            "ON a.bucket = s.bucket " +
+            "ORDER BY s.bucket",
+            nativeQuery = true)
+    List<Object[]> summarizeByWeek(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query(value = "SELECT s.bucket, th.name, s.calls, s.revenue, s.commission, s.duration, COALESCE(a.active, 0) " +
+            "FROM (SELECT theme_id AS bucket, SUM(calls_count) AS calls, SUM(revenue) AS revenue, " +
+            "SUM(commission) AS commission, SUM(duration_seconds) AS duration " +
+            "FROM call_statistics_daily WHERE bucket_date BETWEEN :from AND :to GROUP BY theme_id) s " +
+            "LEFT JOIN (SELECT theme_id AS bucket, COUNT(DISTINCT interpreter_user_id) AS active " +
+            "FROM interpreter_activity_daily WHERE bucket_date BETWEEN :from AND :to GROUP BY theme_id) a " +
+            "ON a.bucket = s.bucket " +
+            "LEFT JOIN themes th ON th.id = s.bucket " +
+            "ORDER BY s.revenue DESC",
+            nativeQuery = true)
+    List<Object[]> summarizeByTheme(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // ========== REBUILD ==========
+    @Modifying
+    @Query(value = "DELETE FROM call_statistics_daily WHERE bucket_date BETWEEN :from AND :to", nativeQuery = true)
+    int deleteBuckets(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // Same calls as recordSettledCall counts: settled, with a positive sum
+    @Modifying
+    @Query(value = "INSERT INTO call_statistics_daily (bucket_date, theme_id, calls_count, revenue, commission, duration_seconds, " +
+            "created_at_datetime, updated_at_datetime) " +
+            "SELECT DATE(c.created_at_datetime), COALESCE(c.theme_id_bigint, 0), COUNT(*), " +
+            "COALESCE(SUM(c.sum_decimal10_2), 0), COALESCE(SUM(c.commission_decimal10_2), 0), COALESCE(SUM(c.duration_int), 0), " +
+            "NOW(), NOW() " +
+            "FROM calls c " +
+            "WHERE c.settled_at_datetime IS NOT NULL AND c.sum_decimal10_2 > 0 " +
+            "AND c.created_at_datetime >= :from AND c.created_at_datetime < :to " +
+            "GROUP BY DATE(c.created_at_datetime), COALESCE(c.theme_id_bigint, 0)",
+            nativeQuery = true)
+    int insertFromCalls(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
@@ -0,0 +1,39 @@
+package com.morago_backend.repository;
+
+import com.morago_backend.entity.InterpreterActivityDaily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public interface InterpreterActivityDailyRepository extends JpaRepository<InterpreterActivityDaily, Long> {
+
+    @Modifying
+    @Query(value = "INSERT INTO interpreter_activity_daily (bucket_date, theme_id, interpreter_user_id, " +
+            "created_at_datetime, updated_at_datetime) " +
+            "VALUES (:day, :themeId, :interpreterUserId, NOW(), NOW()) " +
+            "ON DUPLICATE KEY UPDATE updated_at_datetime = NOW()",
+            nativeQuery = true)
+    void markActive(@Param("day") LocalDate day,
+                    @Param("themeId") Long themeId,
+                    @Param("interpreterUserId") Long interpreterUserId);
+
+    // ========== REBUILD ==========
+    @Modifying
+    @Query(value = "DELETE FROM interpreter_activity_daily WHERE bucket_date BETWEEN :from AND :to", nativeQuery = true)
+    int deleteBuckets(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Modifying
+    @Query(value = "INSERT INTO interpreter_activity_daily (bucket_date, theme_id, interpreter_user_id, " +
+            "created_at_datetime, updated_at_datetime) " +
+            "SELECT DISTINCT DATE(c.created_at_datetime), COALESCE(c.theme_id_bigint, 0), c.recipient_id_bigint, NOW(), NOW() " +
+            "FROM calls c " +
+            "WHERE c.settled_at_datetime IS NOT NULL AND c.sum_decimal10_2 > 0 " +
+            "AND c.recipient_id_bigint IS NOT NULL " +
+            "AND c.created_at_datetime >= :from AND c.created_at_datetime < :to",
+            nativeQuery = true)
+    int insertFromCalls(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
@@ -2,7 +2,8 @@ package com.morago_backend.repository;
 
 import com.morago_backend.entity.Language;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
-public interface LanguageRepository extends JpaRepository<Language, Long> {}
+public interface LanguageRepository extends JpaRepository<Language, Long>, JpaSpecificationExecutor<Language> {}
 
 
@@ -0,0 +1,42 @@
+package com.morago_backend.repository;
+
+import com.morago_backend.entity.LedgerAccountType;
+import com.morago_backend.entity.LedgerEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface LedgerEntryRepository extends JpaRepository<LedgerEntry, Long> {
+
+    List<LedgerEntry> findByTransactionId(Long transactionId);
+
+    // Highest entry id old enough to be considered committed
+    @Query("SELECT MAX(e.id) FROM LedgerEntry e WHERE e.createdAtDatetime <= :before")
+    Long findMaxIdCreatedBefore(@Param("before") LocalDateTime before);
+
+    // (accountType, accountOwnerId) pairs with entries in the id window
+    @Query("SELECT DISTINCT e.accountType, e.accountOwnerId FROM LedgerEntry e " +
+           "WHERE e.id > :afterId AND e.id <= :uptoId")
+    List<Object[]> findAccountsTouchedBetween(@Param("afterId") Long afterId, @Param("uptoId") Long uptoId);
+
+    // Single row: entry count, amount sum and last entry id of one account's entries in the id window
+    @Query("SELECT COUNT(e), COALESCE(SUM(e.amount), 0), MAX(e.id) FROM LedgerEntry e " +
+           "WHERE e.accountType = :accountType AND e.accountOwnerId = :ownerId " +
+           "AND e.id > :afterId AND e.id <= :uptoId")
+    List<Object[]> summarizeTail(@Param("accountType") LedgerAccountType accountType,
+                                 @Param("ownerId") Long ownerId,
+                                 @Param("afterId") Long afterId,
+                                 @Param("uptoId") Long uptoId);
+
+    @Query("SELECT COALESCE(SUM(e.amount), 0) FROM LedgerEntry e " +
+           "WHERE e.accountType = :accountType AND e.accountOwnerId = :ownerId " +
+           "AND e.id > :afterId AND e.createdAtDatetime <= :at")
+    BigDecimal sumTail(@Param("accountType") LedgerAccountType accountType,
+                       @Param("ownerId") Long ownerId,
+                       @Param("afterId") Long afterId,
+                       @Param("at") LocalDateTime at);
+}
@@ -0,0 +1,24 @@
+package com.morago_backend.repository;
+
+import com.morago_backend.entity.LedgerSnapshotProgress;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface LedgerSnapshotProgressRepository extends JpaRepository<LedgerSnapshotProgress, Integer> {
+
+    @Query("SELECT p.scannedUpToId FROM LedgerSnapshotProgress p WHERE p.id = " + LedgerSnapshotProgress.ID)
+    Optional<Long> findScannedUpToId();
+
+    // Only ever moves forward, so an instance finishing an older run cannot rewind a newer one
+    @Modifying
+    @Query(value = "INSERT INTO ledger_snapshot_progress (id, scanned_up_to_id, updated_at_datetime) " +
+            "VALUES (" + LedgerSnapshotProgress.ID + ", :scannedUpToId, NOW()) " +
+            "ON DUPLICATE KEY UPDATE scanned_up_to_id = GREATEST(scanned_up_to_id, VALUES(scanned_up_to_id)), " +
+            "updated_at_datetime = NOW()",
+            nativeQuery = true)
+    void advance(@Param("scannedUpToId") long scannedUpToId);
+}
@@ -0,0 +1,17 @@
+package com.morago_backend.repository;
+
+import com.morago_backend.entity.LedgerAccountType;
+import com.morago_backend.entity.LedgerSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface LedgerSnapshotRepository extends JpaRepository<LedgerSnapshot, Long> {
+
+    Optional<LedgerSnapshot> findTopByAccountTypeAndAccountOwnerIdOrderByLastEntryIdDesc(
+            LedgerAccountType accountType, Long accountOwnerId);
+
+    Optional<LedgerSnapshot> findTopByAccountTypeAndAccountOwnerIdAndAsOfDatetimeLessThanEqualOrderByLastEntryIdDesc(
+            LedgerAccountType accountType, Long accountOwnerId, LocalDateTime at);
+}
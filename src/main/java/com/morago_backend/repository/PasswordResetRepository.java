@@ -2,9 +2,32 @@ package com.morago_backend.repository;
 
 import com.morago_backend.entity.PasswordReset;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface PasswordResetRepository extends JpaRepository<PasswordReset, Long> {
     Optional<PasswordReset> findTopByPhoneOrderByCreatedAtDatetimeDesc(String phone);
+
+    @Modifying
+    @Query("DELETE FROM PasswordReset r WHERE r.phone = :phone")
+    int deleteByPhone(@Param("phone") String phone);
+
+    @Modifying
+    @Query("UPDATE PasswordReset r SET r.failedAttempts = r.failedAttempts + 1 WHERE r.id = :id")
+    int incrementFailedAttempts(@Param("id") Long id);
+
+    @Query("SELECT r.failedAttempts FROM PasswordReset r WHERE r.id = :id")
+    Optional<Integer> findFailedAttemptsById(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE PasswordReset r SET r.verified = true WHERE r.id = :id")
+    int markVerified(@Param("id") Long id);
+
+    @Modifying
+    @Query("DELETE FROM PasswordReset r WHERE r.createdAtDatetime < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
 }
@@ -0,0 +1,29 @@
+package com.morago_backend.repository;
+
+import com.morago_backend.entity.SettlementOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface SettlementOutboxRepository extends JpaRepository<SettlementOutbox, Long> {
+
+    Optional<SettlementOutbox> findByCallRecordId(Long callRecordId);
+
+    // Claims pending rows for this worker; rows locked by another instance are skipped (lock timeout -2 = SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM SettlementOutbox o WHERE o.status = :status ORDER BY o.id")
+    List<SettlementOutbox> claimByStatus(@Param("status") String status, Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM SettlementOutbox o WHERE o.id = :id")
+    Optional<SettlementOutbox> findForUpdateById(@Param("id") Long id);
+}
@@ -0,0 +1,21 @@
+package com.morago_backend.repository;
+
+import com.morago_backend.entity.SignalingMessage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SignalingMessageRepository extends JpaRepository<SignalingMessage, Long> {
+
+    @Query("SELECT m FROM SignalingMessage m WHERE m.targetNode = :nodeId ORDER BY m.id")
+    List<SignalingMessage> findPendingForNode(@Param("nodeId") String nodeId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM SignalingMessage m WHERE m.createdAtDatetime < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
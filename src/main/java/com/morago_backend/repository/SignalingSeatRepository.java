@@ -0,0 +1,39 @@
+package com.morago_backend.repository;
+
+import com.morago_backend.entity.SignalingSeat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface SignalingSeatRepository extends JpaRepository<SignalingSeat, Long> {
+
+    List<SignalingSeat> findByRoomId(String roomId);
+
+    @Query("SELECT s.roomId FROM SignalingSeat s WHERE s.namespace = :namespace AND s.sessionId = :sessionId")
+    List<String> findRoomIdsBySession(@Param("namespace") String namespace, @Param("sessionId") String sessionId);
+
+    // One row per (room, user): a rejoin from another session or node takes the seat over
+    @Modifying
+    @Query(value = "INSERT INTO signaling_seats (room_id, user_id, namespace, session_id, node_id, status, created_at_datetime, updated_at_datetime) " +
+            "VALUES (:roomId, :userId, :namespace, :sessionId, :nodeId, :status, NOW(), NOW()) " +
+            "ON DUPLICATE KEY UPDATE namespace = VALUES(namespace), session_id = VALUES(session_id), node_id = VALUES(node_id), " +
+            "status = VALUES(status), updated_at_datetime = NOW()",
+            nativeQuery = true)
+    void upsert(@Param("roomId") String roomId,
+                @Param("userId") String userId,
+                @Param("namespace") String namespace,
+                @Param("sessionId") String sessionId,
+                @Param("nodeId") String nodeId,
+                @Param("status") String status);
+
+    @Modifying
+    @Query("DELETE FROM SignalingSeat s WHERE s.namespace = :namespace AND s.sessionId = :sessionId")
+    int deleteBySession(@Param("namespace") String namespace, @Param("sessionId") String sessionId);
+
+    @Modifying
+    @Query("DELETE FROM SignalingSeat s WHERE s.nodeId = :nodeId")
+    int deleteByNodeId(@Param("nodeId") String nodeId);
+}
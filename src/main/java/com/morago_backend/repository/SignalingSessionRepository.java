@@ -0,0 +1,25 @@
+package com.morago_backend.repository;
+
+import com.morago_backend.entity.SignalingSession;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SignalingSessionRepository extends JpaRepository<SignalingSession, SignalingSession.Key> {
+
+    @Modifying
+    @Query(value = "INSERT INTO signaling_sessions (namespace, session_id, node_id, connected_at_datetime) " +
+            "VALUES (:namespace, :sessionId, :nodeId, NOW()) " +
+            "ON DUPLICATE KEY UPDATE node_id = VALUES(node_id), connected_at_datetime = VALUES(connected_at_datetime)",
+            nativeQuery = true)
+    void upsert(@Param("namespace") String namespace, @Param("sessionId") String sessionId, @Param("nodeId") String nodeId);
+
+    @Modifying
+    @Query("DELETE FROM SignalingSession s WHERE s.namespace = :namespace AND s.sessionId = :sessionId")
+    int deleteBySession(@Param("namespace") String namespace, @Param("sessionId") String sessionId);
+
+    @Modifying
+    @Query("DELETE FROM SignalingSession s WHERE s.nodeId = :nodeId")
+    int deleteByNodeId(@Param("nodeId") String nodeId);
+}
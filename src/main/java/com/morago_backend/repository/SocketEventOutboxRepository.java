@@ -0,0 +1,30 @@
+package com.morago_backend.repository;
+
+import com.morago_backend.entity.SocketEventOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface SocketEventOutboxRepository extends JpaRepository<SocketEventOutbox, Long> {
+
+    // Undispatched events older than the cut-off; rows locked by another instance's sweep are skipped
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM SocketEventOutbox o WHERE o.createdAtDatetime < :before ORDER BY o.id")
+    List<SocketEventOutbox> claimCreatedBefore(@Param("before") LocalDateTime before, Pageable pageable);
+
+    // Rows about to be sent after commit; rows already gone or locked by a sweep are not returned
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM SocketEventOutbox o WHERE o.id IN :ids")
+    List<SocketEventOutbox> claimByIds(@Param("ids") Collection<Long> ids);
+}
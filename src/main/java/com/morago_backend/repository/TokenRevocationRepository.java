@@ -0,0 +1,32 @@
+package com.morago_backend.repository;
+
+import com.morago_backend.entity.TokenRevocation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TokenRevocationRepository extends JpaRepository<TokenRevocation, Long> {
+
+    boolean existsByJti(String jti);
+
+    @Query("SELECT COALESCE(MAX(r.id), 0) FROM TokenRevocation r")
+    long findMaxId();
+
+    @Query("SELECT r.jti FROM TokenRevocation r WHERE r.jti IS NOT NULL AND r.expiresAt > :now")
+    List<String> findActiveJtis(@Param("now") LocalDateTime now);
+
+    @Query("SELECT r FROM TokenRevocation r WHERE r.issuedBefore IS NOT NULL AND r.expiresAt > :now")
+    List<TokenRevocation> findActiveCutoffs(@Param("now") LocalDateTime now);
+
+    @Query("SELECT r FROM TokenRevocation r WHERE r.id > :afterId ORDER BY r.id")
+    List<TokenRevocation> findAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM TokenRevocation r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
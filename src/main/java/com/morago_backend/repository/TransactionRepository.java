@@ -1,16 +1,20 @@
 package com.morago_backend.repository;
 
+import com.morago_backend.dto.dtoResponse.TransactionExportRow;
 import com.morago_backend.entity.Transaction;
 import com.morago_backend.entity.TransactionType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
@@ -43,6 +47,21 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
             Pageable pageable
     );
 
+    // Keyset pages for a user, newest first; pass Pageable.ofSize(limit) and no sort
+    @Query("SELECT t FROM Transaction t JOIN FETCH t.user WHERE t.user.id = :userId " +
+           "ORDER BY t.createdAtDatetime DESC, t.id DESC")
+    List<Transaction> findFirstPageByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT t FROM Transaction t JOIN FETCH t.user WHERE t.user.id = :userId " +
+           "AND (t.createdAtDatetime < :createdAt OR (t.createdAtDatetime = :createdAt AND t.id < :id)) " +
+           "ORDER BY t.createdAtDatetime DESC, t.id DESC")
+    List<Transaction> findPageByUserIdAfter(
+            @Param("userId") Long userId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
     // Get all transactions for a user (without pagination)
     List<Transaction> findByUserIdOrderByCreatedAtDatetimeDesc(Long userId);
 
@@ -62,5 +81,25 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
 
     // Count transactions by user
     long countByUserId(Long userId);
+
+    // Forward-only cursor for exports: a fetch size of Integer.MIN_VALUE makes MySQL Connector/J stream row by row.
+    // Must be consumed inside a read-only transaction and closed; null bounds and userId mean "no filter"
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "-2147483648"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT new com.morago_backend.dto.dtoResponse.TransactionExportRow(" +
+           "t.id, t.user.id, t.transactionType, t.amount, t.balanceBefore, t.balanceAfter, t.status, " +
+           "t.description, t.depositId, t.withdrawalId, t.callRecordId, t.createdAtDatetime) " +
+           "FROM Transaction t " +
+           "WHERE (:userId IS NULL OR t.user.id = :userId) " +
+           "AND (:from IS NULL OR t.createdAtDatetime >= :from) " +
+           "AND (:to IS NULL OR t.createdAtDatetime < :to) " +
+           "ORDER BY t.id")
+    Stream<TransactionExportRow> streamForExport(
+            @Param("userId") Long userId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
 }
 
@@ -1,13 +1,49 @@
 package com.morago_backend.repository;
 
-import com.morago_backend.entity.Rating;
+import com.morago_backend.dto.dtoResponse.TranslatorProfileWithRatingResponseDTO;
 import com.morago_backend.entity.TranslatorProfile;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface TranslatorProfileRepository extends JpaRepository<TranslatorProfile, Long> {
+public interface TranslatorProfileRepository extends JpaRepository<TranslatorProfile, Long>,
+        JpaSpecificationExecutor<TranslatorProfile> {
     Optional<TranslatorProfile> findByUserPhone(String phone);
-}
 
+    // Translators having at least one theme in the category; the average comes from the stored user summary
+    @Query("SELECT DISTINCT new com.morago_backend.dto.dtoResponse.TranslatorProfileWithRatingResponseDTO(" +
+            "tp.id, u.firstName, u.lastName, u.phone, tp.dateOfBirth, tp.isAvailable, tp.isOnline, " +
+            "tp.isVerified, tp.levelOfKorean, u.ratings, tp.createdAt, tp.updatedAt) " +
+            "FROM TranslatorProfile tp " +
+            "JOIN tp.user u " +
+            "JOIN tp.themes t " +
+            "WHERE t.category.id = :categoryId")
+    List<TranslatorProfileWithRatingResponseDTO> findWithAverageRatingByCategoryId(@Param("categoryId") Long categoryId);
+
+    // (translatorProfileId, themeName) pairs for a batch of profiles
+    @Query("SELECT tp.id, t.name FROM TranslatorProfile tp JOIN tp.themes t WHERE tp.id IN :ids")
+    List<Object[]> findThemeNamesByProfileIds(@Param("ids") Collection<Long> ids);
+
+    Optional<TranslatorProfile> findByUserId(Long userId);
+
+    @Query("SELECT tp.id FROM TranslatorProfile tp WHERE tp.user.id = :userId")
+    Optional<Long> findIdByUserId(@Param("userId") Long userId);
+
+    // Availability index loading: interpreters that are online, available and verified
+    @Query("SELECT tp.id, u.id, u.firstName, u.lastName, tp.levelOfKorean FROM TranslatorProfile tp JOIN tp.user u " +
+            "WHERE tp.isOnline = true AND tp.isAvailable = true AND tp.isVerified = true")
+    List<Object[]> findAvailableInterpreterRows();
+
+    @Query("SELECT tp.id, t.id FROM TranslatorProfile tp JOIN tp.themes t " +
+            "WHERE tp.isOnline = true AND tp.isAvailable = true AND tp.isVerified = true")
+    List<Object[]> findAvailableInterpreterThemeIds();
+
+    @Query("SELECT tp.id, l.id FROM TranslatorProfile tp JOIN tp.languages l " +
+            "WHERE tp.isOnline = true AND tp.isAvailable = true AND tp.isVerified = true")
+    List<Object[]> findAvailableInterpreterLanguageIds();
+}
@@ -2,12 +2,20 @@ package com.morago_backend.repository;
 
 import com.morago_backend.entity.UserRole;
 import com.morago_backend.entity.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User> {
+    // Roles are fetched in the same statement; login and current-user lookups always need them
+    @EntityGraph(attributePaths = "roles")
     Optional<User> findByPhone(String phone);
     List<User> findByRoles(UserRole role);
     
@@ -25,4 +33,49 @@ public interface UserRepository extends JpaRepository<User, Long> {
     
     @Query("SELECT COUNT(u) FROM User u WHERE u.isActive = false")
     Long countBlockedUsers();
+
+    // Rehash on login: touches only the password column of the already-authenticated user
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User u SET u.password = :password WHERE u.id = :userId")
+    int updatePassword(@Param("userId") Long userId, @Param("password") String password);
+
+    // Balance engine: single-statement updates, so concurrent settlements never lose a write.
+    // The row stays locked until the surrounding transaction ends.
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User u SET u.balance = COALESCE(u.balance, 0) - :amount " +
+           "WHERE u.id = :userId AND COALESCE(u.balance, 0) >= :amount")
+    int debitIfSufficient(@Param("userId") Long userId, @Param("amount") BigDecimal amount);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User u SET u.balance = COALESCE(u.balance, 0) + :amount WHERE u.id = :userId")
+    int credit(@Param("userId") Long userId, @Param("amount") BigDecimal amount);
+
+    @Query("SELECT COALESCE(u.balance, 0) FROM User u WHERE u.id = :userId")
+    Optional<BigDecimal> findBalanceById(@Param("userId") Long userId);
+
+    // Rating summary maintenance: average is assigned first so it is computed from the pre-update sum/count
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User u SET " +
+           "u.ratings = CASE WHEN u.totalRatings + :countDelta > 0 " +
+           "THEN (u.ratingSum + :gradeDelta) / (u.totalRatings + :countDelta) ELSE 0 END, " +
+           "u.ratingSum = u.ratingSum + :gradeDelta, " +
+           "u.totalRatings = u.totalRatings + :countDelta " +
+           "WHERE u.id = :userId")
+    int applyRatingDelta(@Param("userId") Long userId,
+                         @Param("gradeDelta") BigDecimal gradeDelta,
+                         @Param("countDelta") int countDelta);
+
+    @Modifying
+    @Query(value = "UPDATE users u " +
+                   "LEFT JOIN (SELECT to_whom_user_id_bigint AS user_id, " +
+                   "                  SUM(grade_decimal15_2) AS grade_sum, " +
+                   "                  COUNT(grade_decimal15_2) AS grade_count " +
+                   "           FROM ratings " +
+                   "           WHERE to_whom_user_id_bigint IS NOT NULL " +
+                   "           GROUP BY to_whom_user_id_bigint) s ON s.user_id = u.id " +
+                   "SET u.rating_sum = COALESCE(s.grade_sum, 0), " +
+                   "    u.total_ratings = COALESCE(s.grade_count, 0), " +
+                   "    u.ratings = COALESCE(ROUND(s.grade_sum / s.grade_count, 2), 0)",
+           nativeQuery = true)
+    int rebuildRatingSummaries();
 }
@@ -1,9 +1,11 @@
 package com.morago_backend.repository;
 
 import com.morago_backend.entity.Withdrawal;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -11,10 +13,20 @@ import org.springframework.stereotype.Repository;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface WithdrawalRepository extends JpaRepository<Withdrawal, Long> {
     
+    // ========== LOCKING ==========
+    
+    /**
+     * Find a withdrawal and lock its row until the transaction ends
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM Withdrawal w WHERE w.id = :id")
+    Optional<Withdrawal> findForUpdateById(@Param("id") Long id);
+    
     // ========== QUERY BY USER ==========
     
     /**
@@ -111,6 +123,15 @@ public interface WithdrawalRepository extends JpaRepository<Withdrawal, Long> {
            "WHERE w.userId = :userId AND w.status = 'PENDING'")
     BigDecimal getTotalPendingWithdrawalsByUserId(@Param("userId") Long userId);
     
+    /**
+     * Pending withdrawals grouped by the day they were requested: [day, count, total]
+     */
+    @Query(value = "SELECT DATE(w.created_at_datetime), COUNT(*), COALESCE(SUM(w.sum_decimal12_2), 0) " +
+           "FROM withdrawals w WHERE w.status_varchar50 = 'PENDING' " +
+           "GROUP BY DATE(w.created_at_datetime) ORDER BY DATE(w.created_at_datetime)",
+           nativeQuery = true)
+    List<Object[]> summarizePendingByDay();
+    
     /**
      * Count withdrawals by user
      */
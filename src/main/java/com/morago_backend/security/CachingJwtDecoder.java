@@ -0,0 +1,117 @@
+package com.morago_backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Remembers successfully verified tokens so a client repeating its bearer token costs a hash lookup instead of
+ * an HMAC check and claim parsing. Entries are keyed by the signature segment, live until the token's
+ * {@code exp} (capped by {@code maxTtl}) and are only served for the exact same token string. Failures are
+ * never cached. The optional validator runs on every decode, cache hit or not, for checks whose answer can
+ * change while a token is cached (revocation).
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final Cache<String, Jwt> cache;
+    private OAuth2TokenValidator<Jwt> validator = jwt -> OAuth2TokenValidatorResult.success();
+
+    public CachingJwtDecoder(JwtDecoder delegate, long maximumSize, Duration maxTtl, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilExpiry(maxTtl))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.decoder");
+        Gauge.builder("jwt.decoder.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("Share of JWT decodes answered from the verified-token cache")
+                .register(meterRegistry);
+    }
+
+    public void setJwtValidator(OAuth2TokenValidator<Jwt> validator) {
+        this.validator = validator;
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        String key = signatureOf(token);
+        if (key != null) {
+            Jwt cached = cache.getIfPresent(key);
+            if (cached != null && cached.getTokenValue().equals(token)) {
+                return validate(cached);
+            }
+        }
+
+        Jwt jwt = delegate.decode(token);
+        if (key != null) {
+            cache.put(key, jwt);
+        }
+        return validate(jwt);
+    }
+
+    private Jwt validate(Jwt jwt) {
+        OAuth2TokenValidatorResult result = validator.validate(jwt);
+        if (result.hasErrors()) {
+            String description = result.getErrors().iterator().next().getDescription();
+            throw new JwtValidationException(description, result.getErrors());
+        }
+        return jwt;
+    }
+
+    /** Evicts every cached token, e.g. after a revocation */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    // Base64url signature after the last dot; null for anything that is not a three-part JWS
+    private static String signatureOf(String token) {
+        if (token == null) {
+            return null;
+        }
+        int dot = token.lastIndexOf('.');
+        return dot > 0 && dot < token.length() - 1 ? token.substring(dot + 1) : null;
+    }
+
+    private static final class UntilExpiry implements Expiry<String, Jwt> {
+
+        private final long maxTtlNanos;
+
+        private UntilExpiry(Duration maxTtl) {
+            this.maxTtlNanos = maxTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String key, Jwt jwt, long currentTime) {
+            Instant expiresAt = jwt.getExpiresAt();
+            if (expiresAt == null) {
+                return maxTtlNanos;
+            }
+            long untilExpiry = Duration.between(Instant.now(), expiresAt).toNanos();
+            return Math.max(0, Math.min(untilExpiry, maxTtlNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, jwt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
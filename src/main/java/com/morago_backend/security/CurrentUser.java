@@ -0,0 +1,28 @@
+package com.morago_backend.security;
+
+import com.morago_backend.entity.UserRole;
+
+import java.util.Set;
+
+/**
+ * The authenticated caller as described by the access token: user id, phone (the token subject) and role names.
+ * Built without touching the database; see {@link CurrentUserProvider}.
+ */
+public record CurrentUser(Long id, String phone, Set<String> roles) {
+
+    public boolean hasRole(UserRole role) {
+        return roles.contains(role.name());
+    }
+
+    public boolean isAdmin() {
+        return hasRole(UserRole.ADMINISTRATOR);
+    }
+
+    public boolean isInterpreter() {
+        return hasRole(UserRole.INTERPRETER);
+    }
+
+    public boolean isClient() {
+        return hasRole(UserRole.CLIENT);
+    }
+}
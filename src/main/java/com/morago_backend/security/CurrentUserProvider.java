@@ -0,0 +1,110 @@
+package com.morago_backend.security;
+
+import com.morago_backend.entity.User;
+import com.morago_backend.exception.ResourceNotFoundException;
+import com.morago_backend.repository.UserRepository;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves the {@link CurrentUser} from the security context once per request. Access tokens carry the
+ * {@code id} and {@code roles} claims, so role and ownership checks need no database access. Only that id and
+ * those claims are cached for the request; the {@link User} entity is loaded by callers that actually need its
+ * state, inside their own transaction, since an entity kept across transactions would be detached.
+ */
+@Component
+public class CurrentUserProvider {
+
+    private static final String CURRENT_USER_ATTRIBUTE = CurrentUserProvider.class.getName() + ".user";
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final UserRepository userRepository;
+
+    public CurrentUserProvider(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    public CurrentUser get() {
+        return requestScoped(CURRENT_USER_ATTRIBUTE, this::resolve);
+    }
+
+    public Long getId() {
+        return get().id();
+    }
+
+    /**
+     * The caller's entity, loaded on every call so it belongs to the caller's transaction (with open-in-view off,
+     * a request-cached instance would be detached in the next one). Within one transaction repeated calls are
+     * answered from the persistence context.
+     */
+    public User getEntity() {
+        return userRepository.findById(getId())
+                .orElseThrow(() -> new ResourceNotFoundException("Current user not found"));
+    }
+
+    // ========== HELPERS ==========
+    private CurrentUser resolve() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new AuthenticationCredentialsNotFoundException("No authenticated user");
+        }
+
+        Object principal = authentication.getPrincipal();
+        if (principal instanceof User user) {
+            Set<String> roles = user.getRoles().stream().map(Enum::name).collect(Collectors.toSet());
+            return new CurrentUser(user.getId(), user.getPhone(), roles);
+        }
+
+        Set<String> roles = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .filter(authority -> authority.startsWith(ROLE_PREFIX))
+                .map(authority -> authority.substring(ROLE_PREFIX.length()))
+                .collect(Collectors.toCollection(HashSet::new));
+        Long id = principal instanceof Jwt jwt ? idClaim(jwt) : null;
+        if (id == null) {
+            // Tokens issued without the id claim: one lookup, then cached with the rest of the request
+            id = userRepository.findByPhone(authentication.getName())
+                    .orElseThrow(() -> new ResourceNotFoundException("Current user not found"))
+                    .getId();
+        }
+        return new CurrentUser(id, authentication.getName(), Set.copyOf(roles));
+    }
+
+    private static Long idClaim(Jwt jwt) {
+        Object id = jwt.getClaim("id");
+        if (id instanceof Number number) {
+            return number.longValue();
+        }
+        if (id instanceof String text && !text.isBlank()) {
+            return Long.valueOf(text);
+        }
+        return null;
+    }
+
+    // Outside a web request (schedulers, socket handlers) nothing is cached
+    @SuppressWarnings("unchecked")
+    private static <T> T requestScoped(String attribute, Supplier<T> loader) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return loader.get();
+        }
+        Object cached = attributes.getAttribute(attribute, RequestAttributes.SCOPE_REQUEST);
+        if (cached != null) {
+            return (T) cached;
+        }
+        T value = loader.get();
+        attributes.setAttribute(attribute, value, RequestAttributes.SCOPE_REQUEST);
+        return value;
+    }
+}
@@ -0,0 +1,120 @@
+package com.morago_backend.security;
+
+import com.morago_backend.entity.PasswordReset;
+import com.morago_backend.repository.PasswordResetRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Reset code store over {@code password_resets}, for deployments where the request and verify calls may land on
+ * different nodes. Keeps one row per phone; the attempt counter is incremented in SQL before the code is
+ * compared, so concurrent guesses are all counted, and expired rows are bulk-deleted on a schedule.
+ */
+@Component
+@ConditionalOnProperty(name = "password-reset.store.mode", havingValue = "database")
+public class DatabaseResetCodeStore implements ResetCodeStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatabaseResetCodeStore.class);
+
+    private final PasswordResetRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ttl;
+
+    public DatabaseResetCodeStore(PasswordResetRepository repository,
+                                  TransactionTemplate transactionTemplate,
+                                  @Value("${password-reset.code-ttl-minutes:15}") long ttlMinutes) {
+        this.repository = repository;
+        this.transactionTemplate = transactionTemplate;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+    }
+
+    @Override
+    public ResetCode issue(String phone, int code) {
+        PasswordReset saved = transactionTemplate.execute(status -> {
+            repository.deleteByPhone(phone);
+            PasswordReset entity = new PasswordReset();
+            entity.setPhone(phone);
+            entity.setResetCode(code);
+            return repository.save(entity);
+        });
+        return toResetCode(saved);
+    }
+
+    @Override
+    public Optional<ResetCode> find(String phone) {
+        LocalDateTime now = LocalDateTime.now();
+        return repository.findTopByPhoneOrderByCreatedAtDatetimeDesc(phone)
+                .filter(entity -> entity.getCreatedAtDatetime() != null)
+                .map(this::toResetCode)
+                .filter(reset -> !reset.isExpired(now));
+    }
+
+    @Override
+    public Optional<ResetCode> reserveAttempt(String phone) {
+        Optional<ResetCode> current = find(phone);
+        if (current.isEmpty()) {
+            return Optional.empty();
+        }
+        ResetCode reset = current.get();
+        // The UPDATE holds the row lock until commit, so the read-back returns this caller's own count;
+        // no row updated means the code was removed or re-issued in the meantime
+        Integer attempts = transactionTemplate.execute(status ->
+                repository.incrementFailedAttempts(reset.id()) > 0
+                        ? repository.findFailedAttemptsById(reset.id()).orElse(null)
+                        : null);
+        return attempts == null ? Optional.empty() : Optional.of(reset.withFailedAttempts(attempts));
+    }
+
+    @Override
+    public boolean markVerified(String phone) {
+        Optional<ResetCode> current = find(phone);
+        if (current.isEmpty()) {
+            return false;
+        }
+        Integer updated = transactionTemplate.execute(status -> repository.markVerified(current.get().id()));
+        return updated != null && updated > 0;
+    }
+
+    @Override
+    public void remove(String phone) {
+        transactionTemplate.executeWithoutResult(status -> repository.deleteByPhone(phone));
+    }
+
+    @Override
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    @Scheduled(fixedDelayString = "${password-reset.store.purge-interval-ms:300000}")
+    public void purgeExpired() {
+        try {
+            Integer purged = transactionTemplate.execute(status ->
+                    repository.deleteCreatedBefore(LocalDateTime.now().minus(ttl)));
+            if (purged != null && purged > 0) {
+                logger.info("Purged {} expired password reset codes", purged);
+            }
+        } catch (Exception e) {
+            logger.error("Error purging expired password reset codes", e);
+        }
+    }
+
+    private ResetCode toResetCode(PasswordReset entity) {
+        return new ResetCode(
+                entity.getId(),
+                entity.getPhone(),
+                entity.getResetCode(),
+                entity.getFailedAttempts(),
+                entity.isVerified(),
+                entity.getCreatedAtDatetime(),
+                entity.getCreatedAtDatetime().plus(ttl));
+    }
+}
@@ -0,0 +1,141 @@
+package com.morago_backend.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Single-node reset code store. Lookups and attempt counting are per-phone map operations; expired codes are
+ * evicted by a hashed timer wheel, so each tick only looks at the codes due in that slot instead of scanning
+ * the whole map. Codes do not survive a restart, which only means a user has to request a new one.
+ */
+@Component
+@ConditionalOnProperty(name = "password-reset.store.mode", havingValue = "memory", matchIfMissing = true)
+public class InMemoryResetCodeStore implements ResetCodeStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryResetCodeStore.class);
+
+    private static final int WHEEL_SLOTS = 512;
+
+    private final Map<String, ResetCode> codes = new ConcurrentHashMap<>();
+    private final Queue<String>[] wheel;
+    private final Duration ttl;
+    private final long tickMs;
+    private long lastTick;
+
+    @SuppressWarnings("unchecked")
+    public InMemoryResetCodeStore(@Value("${password-reset.code-ttl-minutes:15}") long ttlMinutes,
+                                  @Value("${password-reset.store.tick-ms:1000}") long tickMs) {
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+        this.tickMs = tickMs;
+        this.wheel = new Queue[WHEEL_SLOTS];
+        for (int i = 0; i < WHEEL_SLOTS; i++) {
+            wheel[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.lastTick = System.currentTimeMillis() / tickMs;
+    }
+
+    @Override
+    public ResetCode issue(String phone, int code) {
+        LocalDateTime now = LocalDateTime.now();
+        ResetCode reset = new ResetCode(null, phone, code, 0, false, now, now.plus(ttl));
+        codes.put(phone, reset);
+        wheel[slotOf(reset)].add(phone);
+        return reset;
+    }
+
+    @Override
+    public Optional<ResetCode> find(String phone) {
+        ResetCode reset = codes.get(phone);
+        return reset == null || reset.isExpired(LocalDateTime.now()) ? Optional.empty() : Optional.of(reset);
+    }
+
+    @Override
+    public Optional<ResetCode> reserveAttempt(String phone) {
+        LocalDateTime now = LocalDateTime.now();
+        // computeIfPresent runs atomically per key, so each caller gets back its own count
+        return Optional.ofNullable(codes.computeIfPresent(phone, (key, reset) ->
+                reset.isExpired(now) ? null : reset.withFailedAttempts(reset.failedAttempts() + 1)));
+    }
+
+    @Override
+    public boolean markVerified(String phone) {
+        LocalDateTime now = LocalDateTime.now();
+        return codes.computeIfPresent(phone, (key, reset) -> reset.isExpired(now) ? null : reset.asVerified()) != null;
+    }
+
+    @Override
+    public void remove(String phone) {
+        // Its wheel entry is dropped when the slot comes round
+        codes.remove(phone);
+    }
+
+    @Override
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    /** Codes currently held, expired or not; for tests */
+    int size() {
+        return codes.size();
+    }
+
+    // ========== TIMER WHEEL ==========
+    @Scheduled(fixedRateString = "${password-reset.store.tick-ms:1000}")
+    public synchronized void advance() {
+        long currentTick = System.currentTimeMillis() / tickMs;
+        // After a long pause every slot is due once; no need to go round more than one turn
+        long from = Math.max(lastTick + 1, currentTick - WHEEL_SLOTS + 1);
+        int evicted = 0;
+        for (long tick = from; tick <= currentTick; tick++) {
+            evicted += expire((int) Math.floorMod(tick, (long) WHEEL_SLOTS));
+        }
+        lastTick = currentTick;
+        if (evicted > 0) {
+            logger.debug("Evicted {} expired password reset codes", evicted);
+        }
+    }
+
+    // Entries not yet due (later rounds of the wheel) go back into their slot; stale ones (the phone was
+    // re-issued into another slot, or removed) are dropped
+    private int expire(int slot) {
+        Queue<String> queue = wheel[slot];
+        LocalDateTime now = LocalDateTime.now();
+        int evicted = 0;
+        for (int pending = queue.size(); pending > 0; pending--) {
+            String phone = queue.poll();
+            if (phone == null) {
+                break;
+            }
+            ResetCode reset = codes.get(phone);
+            if (reset == null || slotOf(reset) != slot) {
+                continue;
+            }
+            if (reset.isExpired(now)) {
+                if (codes.remove(phone, reset)) {
+                    evicted++;
+                }
+            } else {
+                queue.add(phone);
+            }
+        }
+        return evicted;
+    }
+
+    private int slotOf(ResetCode reset) {
+        long expiresAtMs = reset.expiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return (int) Math.floorMod(expiresAtMs / tickMs, (long) WHEEL_SLOTS);
+    }
+}
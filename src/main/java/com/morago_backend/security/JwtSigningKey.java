@@ -0,0 +1,36 @@
+package com.morago_backend.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+
+/**
+ * HMAC key for issuing and parsing our own tokens, decoded once at startup together with a reusable
+ * (thread-safe) parser.
+ */
+@Component
+public class JwtSigningKey {
+
+    private final SecretKey key;
+    private final JwtParser parser;
+
+    public JwtSigningKey(@Value("${security.jwt.secret}") String base64Secret) {
+        this.key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(base64Secret));
+        this.parser = Jwts.parser().verifyWith(key).build();
+    }
+
+    public SecretKey getKey() {
+        return key;
+    }
+
+    /** Verifies the signature and expiry and returns the claims */
+    public Claims parseClaims(String token) {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+}
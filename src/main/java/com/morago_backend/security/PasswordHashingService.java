@@ -0,0 +1,184 @@
+package com.morago_backend.security;
+
+import com.morago_backend.exception.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The application's {@link PasswordEncoder}. BCrypt work runs on a small dedicated pool with a bounded queue, so a
+ * burst of logins waits in line (or is turned away with 503) instead of pinning every servlet thread on hashing.
+ * New hashes are written as {@code {bcrypt}...} with a cost calibrated at startup against a target latency; legacy
+ * unprefixed hashes still match and are reported by {@link #upgradeEncoding} so they get rehashed on next login.
+ */
+@Component
+public class PasswordHashingService implements PasswordEncoder, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHashingService.class);
+
+    private static final String BCRYPT_ID = "bcrypt";
+    private static final int CALIBRATION_STRENGTH = 10;
+
+    private final DelegatingPasswordEncoder delegate;
+    private final ThreadPoolExecutor pool;
+    private final ExecutorService executor;
+    private final long timeoutMs;
+    private final int strength;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejected;
+
+    public PasswordHashingService(@Value("${security.password.bcrypt.strength:0}") int configuredStrength,
+                                  @Value("${security.password.bcrypt.target-ms:250}") long targetMs,
+                                  @Value("${security.password.bcrypt.min-strength:10}") int minStrength,
+                                  @Value("${security.password.bcrypt.max-strength:14}") int maxStrength,
+                                  @Value("${security.password.hashing.threads:0}") int threads,
+                                  @Value("${security.password.hashing.queue-capacity:64}") int queueCapacity,
+                                  @Value("${security.password.hashing.timeout-ms:5000}") long timeoutMs,
+                                  MeterRegistry meterRegistry) {
+        this.strength = configuredStrength > 0
+                ? configuredStrength
+                : calibrate(targetMs, minStrength, maxStrength);
+        this.timeoutMs = timeoutMs;
+
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+        this.delegate = new DelegatingPasswordEncoder(BCRYPT_ID, Map.of(BCRYPT_ID, bcrypt));
+        // Hashes stored before the {id} prefix was introduced are plain BCrypt
+        this.delegate.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        // Pool size, active and queued tasks, plus executor/executor.idle timers (idle = time spent queued)
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "password.hashing");
+
+        this.encodeTimer = Timer.builder("password.hashing.duration")
+                .description("Time to hash or verify a password, including time queued for the hashing pool")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hashing.duration")
+                .description("Time to hash or verify a password, including time queued for the hashing pool")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("password.hashing.rejected")
+                .description("Hashing requests turned away because the queue was full or the wait timed out")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.bcrypt.strength", this, service -> service.strength)
+                .description("BCrypt cost used for new password hashes")
+                .register(meterRegistry);
+
+        logger.info("Password hashing: bcrypt strength={} threads={} queueCapacity={}", strength, poolSize, queueCapacity);
+    }
+
+    // ========== PASSWORD ENCODER ==========
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return encodeTimer.record(() -> submit(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        Boolean matched = matchesTimer.record(() -> submit(() -> delegate.matches(rawPassword, encodedPassword)));
+        return Boolean.TRUE.equals(matched);
+    }
+
+    // Only parses the stored hash, so it stays on the caller's thread
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return encodedPassword != null && delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    // ========== EXECUTION ==========
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            logger.warn("Password hashing queue is full ({} queued)", pool.getQueue().size());
+            throw new PasswordHashingUnavailableException("Server is busy, please retry shortly");
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            logger.warn("Password hashing did not complete within {} ms", timeoutMs);
+            throw new PasswordHashingUnavailableException("Server is busy, please retry shortly");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException("Password hashing was interrupted");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Password hashing failed", cause);
+        }
+    }
+
+    // ========== CALIBRATION ==========
+    // Each extra BCrypt round doubles the work, so one timed hash is enough to pick the cost
+    private static int calibrate(long targetMs, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(CALIBRATION_STRENGTH);
+        probe.encode("calibration"); // warm-up
+
+        long start = System.nanoTime();
+        probe.encode("calibration");
+        long estimateMs = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+        int strength = CALIBRATION_STRENGTH;
+        while (strength < maxStrength && estimateMs * 2 <= targetMs) {
+            strength++;
+            estimateMs *= 2;
+        }
+        while (strength > minStrength && estimateMs > targetMs) {
+            strength--;
+            estimateMs /= 2;
+        }
+        strength = Math.max(minStrength, Math.min(maxStrength, strength));
+        logger.info("Calibrated bcrypt strength={} (~{} ms per hash, target {} ms)", strength, estimateMs, targetMs);
+        return strength;
+    }
+
+    @Override
+    public void destroy() {
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,27 @@
+package com.morago_backend.security;
+
+import java.time.LocalDateTime;
+
+/**
+ * A password reset code as held by a {@link ResetCodeStore}. The id is only set by stores that persist codes.
+ */
+public record ResetCode(Long id,
+                        String phone,
+                        int code,
+                        int failedAttempts,
+                        boolean verified,
+                        LocalDateTime createdAt,
+                        LocalDateTime expiresAt) {
+
+    public boolean isExpired(LocalDateTime now) {
+        return !now.isBefore(expiresAt);
+    }
+
+    ResetCode withFailedAttempts(int attempts) {
+        return new ResetCode(id, phone, code, attempts, verified, createdAt, expiresAt);
+    }
+
+    ResetCode asVerified() {
+        return new ResetCode(id, phone, code, failedAttempts, true, createdAt, expiresAt);
+    }
+}
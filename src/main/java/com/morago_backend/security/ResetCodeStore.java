@@ -0,0 +1,31 @@
+package com.morago_backend.security;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Holds the current password reset code per phone, at most one, together with its verification attempt count.
+ * Codes expire after {@link #getTtl()}; expired codes are never returned.
+ */
+public interface ResetCodeStore {
+
+    /** Stores a new code for the phone, replacing any previous one and its attempt count */
+    ResetCode issue(String phone, int code);
+
+    /** The phone's unexpired code, if any */
+    Optional<ResetCode> find(String phone);
+
+    /**
+     * Counts a verification attempt against the phone's current code before the caller compares it, so
+     * concurrent guesses each get a distinct count and none can slip past the limit.
+     * @return the current code with the attempt counted, or empty when there is no current code
+     */
+    Optional<ResetCode> reserveAttempt(String phone);
+
+    /** Marks the current code as verified so the password may be changed; false when there is no current code */
+    boolean markVerified(String phone);
+
+    void remove(String phone);
+
+    Duration getTtl();
+}
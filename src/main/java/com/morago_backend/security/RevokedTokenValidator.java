@@ -0,0 +1,33 @@
+package com.morago_backend.security;
+
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+/**
+ * Rejects access tokens that were revoked individually (logout) or issued before the user's session cutoff
+ * (password change, "log out everywhere"). Both checks are in-memory lookups in {@link TokenRevocationStore}.
+ */
+public class RevokedTokenValidator implements OAuth2TokenValidator<Jwt> {
+
+    private static final OAuth2Error REVOKED =
+            new OAuth2Error(OAuth2ErrorCodes.INVALID_TOKEN, "The token has been revoked", null);
+
+    private final TokenRevocationStore revocationStore;
+
+    public RevokedTokenValidator(TokenRevocationStore revocationStore) {
+        this.revocationStore = revocationStore;
+    }
+
+    @Override
+    public OAuth2TokenValidatorResult validate(Jwt jwt) {
+        Object id = jwt.getClaims().get("id");
+        Long userId = id instanceof Number number ? number.longValue() : null;
+        if (revocationStore.isCutOff(userId, jwt.getIssuedAt()) || revocationStore.isRevoked(jwt.getId())) {
+            return OAuth2TokenValidatorResult.failure(REVOKED);
+        }
+        return OAuth2TokenValidatorResult.success();
+    }
+}
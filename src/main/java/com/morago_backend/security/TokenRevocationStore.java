@@ -0,0 +1,217 @@
+package com.morago_backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.morago_backend.entity.TokenRevocation;
+import com.morago_backend.repository.TokenRevocationRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Revoked token ids and per-user cutoffs, checked without touching the database on the hot path.
+ * Token ids live in a Bloom filter: a miss (the common case) is final, a hit is confirmed against
+ * {@code token_revocations} and the answer remembered. Cutoffs are few and kept exactly in a map.
+ * Every node mirrors the table by polling rows newer than the last one it has seen, and rebuilds the
+ * filter from unexpired rows after purging so it does not fill up with dead ids.
+ */
+@Component
+public class TokenRevocationStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationStore.class);
+
+    private final TokenRevocationRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final long expectedEntries;
+    private final double falsePositiveRate;
+    private final int batchSize;
+    private final long sessionTtlMs;
+
+    private final Map<Long, Instant> cutoffs = new ConcurrentHashMap<>();
+    private final Cache<String, Boolean> confirmed;
+    private volatile BloomFilter filter;
+    private long lastSeenId;
+
+    public TokenRevocationStore(TokenRevocationRepository repository,
+                                TransactionTemplate transactionTemplate,
+                                MeterRegistry meterRegistry,
+                                @Value("${security.jwt.revocation.expected-entries:100000}") long expectedEntries,
+                                @Value("${security.jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate,
+                                @Value("${security.jwt.revocation.batch-size:500}") int batchSize,
+                                @Value("${security.jwt.refresh-expiration-ms:86400000}") long sessionTtlMs) {
+        this.repository = repository;
+        this.transactionTemplate = transactionTemplate;
+        this.expectedEntries = expectedEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        this.batchSize = batchSize;
+        this.sessionTtlMs = sessionTtlMs;
+        this.filter = new BloomFilter(expectedEntries, falsePositiveRate);
+        this.confirmed = Caffeine.newBuilder().maximumSize(10_000).build();
+
+        Gauge.builder("jwt.revocation.cutoffs", cutoffs, Map::size)
+                .description("Users with a session cutoff in effect")
+                .register(meterRegistry);
+        Gauge.builder("jwt.revocation.filter.bytes", this, store -> store.filter.sizeInBytes())
+                .description("Memory held by the revoked-token Bloom filter")
+                .register(meterRegistry);
+    }
+
+    // ========== CHECKS ==========
+    public boolean isRevoked(String jti) {
+        if (jti == null || !filter.mightContain(jti)) {
+            return false;
+        }
+        return confirmed.get(jti, repository::existsByJti);
+    }
+
+    /** True when the user's sessions were cut off after this token was issued */
+    public boolean isCutOff(Long userId, Instant issuedAt) {
+        if (userId == null || issuedAt == null) {
+            return false;
+        }
+        Instant cutoff = cutoffs.get(userId);
+        return cutoff != null && issuedAt.isBefore(cutoff);
+    }
+
+    // ========== REVOCATION ==========
+    /**
+     * Revokes one token until it expires.
+     * @return false when the token had already been revoked (e.g. a refresh token presented twice)
+     */
+    public boolean revoke(String jti, Long userId, Instant expiresAt) {
+        if (isRevoked(jti)) {
+            return false;
+        }
+        TokenRevocation revocation = new TokenRevocation();
+        revocation.setJti(jti);
+        revocation.setUserId(userId);
+        revocation.setExpiresAt(toLocal(expiresAt));
+        try {
+            repository.save(revocation);
+        } catch (DataIntegrityViolationException e) {
+            // Another node revoked it first
+            remember(jti);
+            return false;
+        }
+        remember(jti);
+        return true;
+    }
+
+    /** Rejects every token of the user issued up to now, e.g. on password change or "log out everywhere" */
+    public void revokeAllForUser(Long userId) {
+        // iat has second precision, so the cutoff does too; tokens issued later in this same second survive
+        Instant cutoff = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        TokenRevocation revocation = new TokenRevocation();
+        revocation.setUserId(userId);
+        revocation.setIssuedBefore(toLocal(cutoff));
+        revocation.setExpiresAt(toLocal(cutoff.plusMillis(sessionTtlMs)));
+        repository.save(revocation);
+        cutoffs.merge(userId, cutoff, (a, b) -> a.isAfter(b) ? a : b);
+        logger.info("Revoked all sessions for user id={}", userId);
+    }
+
+    // ========== REPLICATION ==========
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${security.jwt.revocation.sync-interval-ms:1000}",
+            initialDelayString = "${security.jwt.revocation.sync-interval-ms:1000}")
+    public synchronized void sync() {
+        try {
+            List<TokenRevocation> rows;
+            do {
+                rows = repository.findAfter(lastSeenId, PageRequest.of(0, batchSize));
+                for (TokenRevocation row : rows) {
+                    apply(row);
+                    lastSeenId = row.getId();
+                }
+            } while (rows.size() == batchSize);
+        } catch (Exception e) {
+            logger.error("Error syncing token revocations", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${security.jwt.revocation.purge-interval-ms:600000}",
+            initialDelayString = "${security.jwt.revocation.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        try {
+            Integer purged = transactionTemplate.execute(status -> repository.deleteExpired(LocalDateTime.now()));
+            if (purged != null && purged > 0) {
+                logger.info("Purged {} expired token revocations", purged);
+            }
+        } catch (Exception e) {
+            logger.error("Error purging expired token revocations", e);
+        }
+        // Also picks up rows another node committed out of id order, which sync() may have stepped over
+        rebuild();
+    }
+
+    // Reads the high-water mark first, so rows inserted while loading are picked up by the next sync.
+    // A token revoked on this node during the swap is missing from the new filter until that sync.
+    private synchronized void rebuild() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            long maxId = repository.findMaxId();
+            List<String> jtis = repository.findActiveJtis(now);
+            List<TokenRevocation> activeCutoffs = repository.findActiveCutoffs(now);
+
+            BloomFilter fresh = new BloomFilter(Math.max(expectedEntries, jtis.size() * 2L), falsePositiveRate);
+            jtis.forEach(fresh::put);
+            Map<Long, Instant> freshCutoffs = new ConcurrentHashMap<>();
+            for (TokenRevocation row : activeCutoffs) {
+                freshCutoffs.merge(row.getUserId(), toInstant(row.getIssuedBefore()), (a, b) -> a.isAfter(b) ? a : b);
+            }
+
+            filter = fresh;
+            Instant stale = Instant.now().minusMillis(sessionTtlMs);
+            cutoffs.values().removeIf(cutoff -> cutoff.isBefore(stale));
+            freshCutoffs.forEach((userId, cutoff) -> cutoffs.merge(userId, cutoff, (a, b) -> a.isAfter(b) ? a : b));
+            lastSeenId = Math.max(lastSeenId, maxId);
+            logger.info("Loaded {} revoked tokens and {} session cutoffs", jtis.size(), freshCutoffs.size());
+        } catch (Exception e) {
+            logger.error("Error loading token revocations", e);
+        }
+    }
+
+    // ========== HELPERS ==========
+    private void apply(TokenRevocation row) {
+        if (row.getJti() != null) {
+            remember(row.getJti());
+        }
+        if (row.getIssuedBefore() != null && row.getUserId() != null) {
+            cutoffs.merge(row.getUserId(), toInstant(row.getIssuedBefore()), (a, b) -> a.isAfter(b) ? a : b);
+        }
+    }
+
+    private void remember(String jti) {
+        filter.put(jti);
+        confirmed.put(jti, Boolean.TRUE);
+    }
+
+    private static LocalDateTime toLocal(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
+
+    private static Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
+}
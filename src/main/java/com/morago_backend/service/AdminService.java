@@ -9,7 +9,8 @@ import com.morago_backend.entity.User;
 import com.morago_backend.entity.UserRole;
 import com.morago_backend.exception.ResourceNotFoundException;
 import com.morago_backend.repository.UserRepository;
-import com.corundumstudio.socketio.SocketIOServer;
+import com.morago_backend.security.TokenRevocationStore;
+import com.morago_backend.specification.FilterDefinitions;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,8 +26,9 @@ import java.util.stream.Collectors;
 public class AdminService {
 
     private final UserRepository userRepository;
-    private final SocketIOServer socketServer;
+    private final SocketEventPublisher eventPublisher;
     private final PasswordEncoder passwordEncoder;
+    private final TokenRevocationStore revocationStore;
 
     private static final Logger logger = LoggerFactory.getLogger(AdminService.class);
 
@@ -44,7 +46,7 @@ public class AdminService {
 
             User saved = userRepository.save(user);
             UserResponseDTO responseDTO = mapToResponse(saved);
-            socketServer.getBroadcastOperations().sendEvent("userCreated", responseDTO);
+            eventPublisher.publishToRoom(SocketRooms.ADMINS, "userCreated", responseDTO);
             logger.info("User created successfully with id={}", saved.getId());
             return responseDTO;
         } catch (Exception e) {
@@ -60,7 +62,8 @@ public class AdminService {
                     .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
             if (dto.getPhone() != null) existing.setPhone(dto.getPhone());
-            if (dto.getPassword() != null && !dto.getPassword().isBlank()) {
+            boolean passwordChanged = dto.getPassword() != null && !dto.getPassword().isBlank();
+            if (passwordChanged) {
                 existing.setPassword(passwordEncoder.encode(dto.getPassword()));
             }
             if (dto.getFirstName() != null) existing.setFirstName(dto.getFirstName());
@@ -70,8 +73,11 @@ public class AdminService {
             if (dto.getRole() != null) existing.setRoles(parseRolesFromRequest(dto));
 
             User saved = userRepository.save(existing);
+            if (passwordChanged) {
+                revocationStore.revokeAllForUser(saved.getId());
+            }
             UserResponseDTO responseDTO = mapToResponse(saved);
-            socketServer.getBroadcastOperations().sendEvent("userUpdated", responseDTO);
+            eventPublisher.publishToRooms(SocketRooms.usersAndAdmins(saved.getId()), "userUpdated", responseDTO);
             logger.info("User updated successfully with id={}", saved.getId());
             return responseDTO;
         } catch (Exception e) {
@@ -84,7 +90,7 @@ public class AdminService {
     public void delete(Long id) {
         try {
             userRepository.deleteById(id);
-            socketServer.getBroadcastOperations().sendEvent("userDeleted", id);
+            eventPublisher.publishToRooms(SocketRooms.usersAndAdmins(id), "userDeleted", id);
             logger.info("User deleted successfully with id={}", id);
         } catch (Exception e) {
             logger.error("Error deleting user with id=" + id, e);
@@ -99,8 +105,9 @@ public class AdminService {
 
     // ========== GET ALL WITH PAGINATION & FILTER ==========
     public PagedResponse<UserResponseDTO> findAllDTOWithPaginationAndFilter(PaginationRequest pagination, FilterRequest filter) {
-        Pageable pageable = PageRequest.of(pagination.getPage(), pagination.getSize());
-        Page<User> page = applyFilters(userRepository.findAll(pageable), filter);
+        Page<User> page = userRepository.findAll(
+                FilterDefinitions.USERS.toSpecification(filter),
+                FilterDefinitions.USERS.toPageable(pagination));
         List<UserResponseDTO> content = page.getContent().stream()
                 .map(this::mapToResponse)
                 .toList();
@@ -131,37 +138,4 @@ public class AdminService {
         dto.setUpdatedAtDatetime(user.getUpdatedAt());
         return dto;
     }
-
-    private Page<User> applyFilters(Page<User> page, FilterRequest filter) {
-        if (filter == null) return page;
-
-        List<User> filtered = page.getContent();
-
-        if (filter.hasSearch()) {
-            String term = filter.getSearch().toLowerCase();
-            filtered = filtered.stream()
-                    .filter(u -> u.getPhone().toLowerCase().contains(term) ||
-                            (u.getFirstName() != null && u.getFirstName().toLowerCase().contains(term)) ||
-                            (u.getLastName() != null && u.getLastName().toLowerCase().contains(term)))
-                    .toList();
-        }
-
-        if (filter.hasFilters()) {
-            if (filter.getFilters().containsKey("role")) {
-                String roleFilter = filter.getFilters().get("role").toString();
-                filtered = filtered.stream()
-                        .filter(u -> u.getRoles().stream()
-                                .anyMatch(r -> r.name().equalsIgnoreCase(roleFilter)))
-                        .toList();
-            }
-            if (filter.getFilters().containsKey("active")) {
-                boolean activeFilter = Boolean.parseBoolean(filter.getFilters().get("active").toString());
-                filtered = filtered.stream()
-                        .filter(u -> Boolean.TRUE.equals(u.getIsActive()) == activeFilter)
-                        .toList();
-            }
-        }
-
-        return new PageImpl<>(filtered, page.getPageable(), page.getTotalElements());
-    }
 }
@@ -6,19 +6,20 @@ import com.morago_backend.payload.ClientSignupRequest;
 import com.morago_backend.payload.SignupResponse;
 import com.morago_backend.payload.TranslatorSignupRequest;
 import com.morago_backend.repository.UserRepository;
+import com.morago_backend.security.JwtSigningKey;
+import com.morago_backend.security.TokenRevocationStore;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import javax.crypto.SecretKey;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -31,31 +32,38 @@ public class AuthService {
     private final AuthenticationManager authenticationManager;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
-    private final SecretKey jwtSecret;
+    private final JwtSigningKey signingKey;
+    private final TokenRevocationStore revocationStore;
     private final long jwtExpirationMs;
     private final long refreshTokenExpirationMs;
 
     public AuthService(AuthenticationManager authenticationManager,
                        UserRepository userRepository,
                        PasswordEncoder passwordEncoder,
-                       @Value("${security.jwt.secret}") String base64Secret,
+                       JwtSigningKey signingKey,
+                       TokenRevocationStore revocationStore,
                        @Value("${security.jwt.expiration-ms:3600000}") long jwtExpirationMs,
                        @Value("${security.jwt.refresh-expiration-ms:86400000}") long refreshTokenExpirationMs) {
         this.authenticationManager = authenticationManager;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
-        this.jwtSecret = Keys.hmacShaKeyFor(Decoders.BASE64.decode(base64Secret));
+        this.signingKey = signingKey;
+        this.revocationStore = revocationStore;
         this.jwtExpirationMs = jwtExpirationMs;
         this.refreshTokenExpirationMs = refreshTokenExpirationMs;
     }
 
-    public String login(String phone, String password) {
-        authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(phone, password));
-
-        User user = userRepository.findByPhone(phone)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+    /**
+     * Authenticates the credentials and issues access and refresh tokens
+     * @return AuthResponse for the authenticated user
+     */
+    public AuthResponse login(String phone, String password) {
+        Authentication authentication = authenticationManager.authenticate(
+                new UsernamePasswordAuthenticationToken(phone, password));
 
-        return generateAccessToken(user);
+        // UserDetailsServiceImpl returns the entity itself, so no second lookup is needed
+        User user = (User) authentication.getPrincipal();
+        return createAuthResponse(user);
     }
 
     public SignupResponse signupClient(ClientSignupRequest request) {
@@ -171,13 +179,14 @@ public class AuthService {
         long exp = now + jwtExpirationMs;
 
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(user.getPhone())
                 .claim("roles", roles)
                 .claim("id", user.getId())
                 .claim("type", "access")
                 .setIssuedAt(new Date(now))
                 .setExpiration(new Date(exp))
-                .signWith(jwtSecret)
+                .signWith(signingKey.getKey())
                 .compact();
     }
 
@@ -191,12 +200,13 @@ public class AuthService {
         long exp = now + refreshTokenExpirationMs;
 
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(user.getPhone())
                 .claim("id", user.getId())
                 .claim("type", "refresh")
                 .setIssuedAt(new Date(now))
                 .setExpiration(new Date(exp))
-                .signWith(jwtSecret)
+                .signWith(signingKey.getKey())
                 .compact();
     }
 
@@ -246,26 +256,38 @@ public class AuthService {
     }
 
     /**
-     * Refreshes access token using a valid refresh token
+     * Rotates a refresh token: the presented token is revoked and a new access/refresh pair is issued.
+     * A refresh token can therefore be used once; presenting it again is rejected.
      * @param refreshToken The refresh token
-     * @return New AuthResponse with fresh access token
+     * @return New AuthResponse with fresh access and refresh tokens
      */
     public AuthResponse refreshAccessToken(String refreshToken) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(jwtSecret)
-                    .build()
-                    .parseSignedClaims(refreshToken)
-                    .getPayload();
+            Claims claims = signingKey.parseClaims(refreshToken);
 
             String tokenType = claims.get("type", String.class);
             if (!"refresh".equals(tokenType)) {
                 throw new IllegalArgumentException("Invalid token type. Expected refresh token.");
             }
 
+            Long userId = claims.get("id", Long.class);
+            if (revocationStore.isCutOff(userId, claims.getIssuedAt().toInstant())) {
+                throw new IllegalArgumentException("Refresh token has been revoked");
+            }
+            // Tokens issued before jti was introduced cannot be tracked; they are rotated into ones that can
+            String jti = claims.getId();
+            if (jti != null && !revocationStore.revoke(jti, userId, claims.getExpiration().toInstant())) {
+                logger.warn("Refresh token reuse detected for user id={}", userId);
+                throw new IllegalArgumentException("Refresh token has already been used");
+            }
+
+            // Reloaded so role changes and deactivation take effect at the next rotation
             String phone = claims.getSubject();
             User user = userRepository.findByPhone(phone)
                     .orElseThrow(() -> new RuntimeException("User not found"));
+            if (!user.isEnabled()) {
+                throw new IllegalArgumentException("User is deactivated");
+            }
 
             logger.info("Refreshing access token for user: {}", phone);
             return createAuthResponse(user);
@@ -276,6 +298,39 @@ public class AuthService {
         }
     }
 
+    /**
+     * Revokes the given refresh token and, when present, the access token of the current request.
+     * With {@code everywhere} every token the user holds is cut off instead.
+     * @param refreshToken The refresh token to revoke; an expired or invalid one is ignored
+     * @param accessTokenId jti of the caller's access token, or null
+     * @param accessTokenExpiresAt Expiry of the caller's access token, or null
+     */
+    public void logout(String refreshToken, String accessTokenId, Instant accessTokenExpiresAt, boolean everywhere) {
+        Claims claims;
+        try {
+            claims = signingKey.parseClaims(refreshToken);
+        } catch (Exception e) {
+            logger.info("Logout with an invalid or expired refresh token: {}", e.getMessage());
+            return;
+        }
+        if (!"refresh".equals(claims.get("type", String.class))) {
+            throw new IllegalArgumentException("Invalid token type. Expected refresh token.");
+        }
+
+        Long userId = claims.get("id", Long.class);
+        if (everywhere) {
+            revocationStore.revokeAllForUser(userId);
+            return;
+        }
+        if (claims.getId() != null) {
+            revocationStore.revoke(claims.getId(), userId, claims.getExpiration().toInstant());
+        }
+        if (accessTokenId != null && accessTokenExpiresAt != null) {
+            revocationStore.revoke(accessTokenId, userId, accessTokenExpiresAt);
+        }
+        logger.info("Logged out user id={}", userId);
+    }
+
     /**
      * Validates a token and extracts the phone number
      * @param token JWT token to validate
@@ -283,11 +338,7 @@ public class AuthService {
      */
     public String validateTokenAndGetPhone(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(jwtSecret)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            Claims claims = signingKey.parseClaims(token);
             
             return claims.getSubject();
         } catch (Exception e) {
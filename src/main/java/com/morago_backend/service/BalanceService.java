@@ -0,0 +1,110 @@
+package com.morago_backend.service;
+
+import com.morago_backend.entity.User;
+import com.morago_backend.exception.ResourceNotFoundException;
+import com.morago_backend.repository.UserRepository;
+import org.hibernate.Hibernate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+
+/**
+ * Moves money on users.balance with atomic UPDATE statements instead of read-modify-write on the entity.
+ * The conditional debit both checks and applies the amount in one statement, and the row lock it takes is
+ * held until the caller's transaction ends, so the before/after values read back here are exactly the ones
+ * this transaction produced.
+ */
+@Service
+public class BalanceService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BalanceService.class);
+
+    private final UserRepository userRepository;
+
+    public BalanceService(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    /** Result of one balance movement, read from the locked row */
+    public static final class BalanceChange {
+        private final User user;
+        private final BigDecimal balanceBefore;
+        private final BigDecimal balanceAfter;
+
+        private BalanceChange(User user, BigDecimal balanceBefore, BigDecimal balanceAfter) {
+            this.user = user;
+            this.balanceBefore = balanceBefore;
+            this.balanceAfter = balanceAfter;
+        }
+
+        public User getUser() {
+            return user;
+        }
+
+        public BigDecimal getBalanceBefore() {
+            return balanceBefore;
+        }
+
+        public BigDecimal getBalanceAfter() {
+            return balanceAfter;
+        }
+    }
+
+    // ========== DEBIT ==========
+    /**
+     * @throws ResourceNotFoundException if the user does not exist
+     * @throws IllegalStateException if the balance is lower than the amount
+     */
+    @Transactional
+    public BalanceChange debit(Long userId, BigDecimal amount) {
+        requirePositive(amount);
+        if (userRepository.debitIfSufficient(userId, amount) == 0) {
+            if (!userRepository.existsById(userId)) {
+                throw new ResourceNotFoundException("User not found with id " + userId);
+            }
+            throw new IllegalStateException("Insufficient balance for user id " + userId);
+        }
+        BigDecimal after = currentBalance(userId);
+        logger.info("Debited {} from user id={}, balance now {}", amount, userId, after);
+        return change(userId, after.add(amount), after);
+    }
+
+    // ========== CREDIT ==========
+    /**
+     * @throws ResourceNotFoundException if the user does not exist
+     */
+    @Transactional
+    public BalanceChange credit(Long userId, BigDecimal amount) {
+        requirePositive(amount);
+        if (userRepository.credit(userId, amount) == 0) {
+            throw new ResourceNotFoundException("User not found with id " + userId);
+        }
+        BigDecimal after = currentBalance(userId);
+        logger.info("Credited {} to user id={}, balance now {}", amount, userId, after);
+        return change(userId, after.subtract(amount), after);
+    }
+
+    // ========== HELPERS ==========
+    private BigDecimal currentBalance(Long userId) {
+        return userRepository.findBalanceById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with id " + userId));
+    }
+
+    private BalanceChange change(Long userId, BigDecimal before, BigDecimal after) {
+        User user = userRepository.getReferenceById(userId);
+        // Bulk updates bypass the persistence context; keep an already-loaded entity in step with the row
+        if (Hibernate.isInitialized(user)) {
+            user.setBalance(after);
+        }
+        return new BalanceChange(user, before, after);
+    }
+
+    private void requirePositive(BigDecimal amount) {
+        if (amount == null || amount.signum() <= 0) {
+            throw new IllegalArgumentException("Amount must be positive");
+        }
+    }
+}
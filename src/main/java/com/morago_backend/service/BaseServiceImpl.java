@@ -3,8 +3,10 @@ package com.morago_backend.service;
 import com.morago_backend.dto.dtoRequest.FilterRequest;
 import com.morago_backend.dto.dtoRequest.PaginationRequest;
 import com.morago_backend.dto.dtoResponse.PagedResponse;
+import com.morago_backend.specification.FilterDefinition;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
 import java.util.List;
 import java.util.Optional;
@@ -16,14 +18,17 @@ public abstract class BaseServiceImpl<T, ID> implements BaseService<T, ID> {
 
     protected abstract JpaRepository<T, ID> getRepository();
 
+    protected abstract JpaSpecificationExecutor<T> getSpecificationExecutor();
+
+    // Search/filter/sort whitelist for the entity
+    protected abstract FilterDefinition<T> getFilterDefinition();
+
     //=== Find all with pagination and optional filtering ===//
     @Override
     public PagedResponse<T> findAll(PaginationRequest pagination, FilterRequest filter) {
-        Sort sort = Sort.by(pagination.isAscending() ? Sort.Direction.ASC : Sort.Direction.DESC,
-                pagination.getSortBy());
-        Pageable pageable = PageRequest.of(pagination.getPage(), pagination.getSize(), sort);
+        Pageable pageable = getFilterDefinition().toPageable(pagination);
 
-        Page<T> page = applyFilters(getRepository().findAll(pageable), filter);
+        Page<T> page = getSpecificationExecutor().findAll(getFilterDefinition().toSpecification(filter), pageable);
 
         return new PagedResponse<>(page.getContent(), page.getNumber(), page.getSize(), page.getTotalElements());
     }
@@ -61,14 +66,9 @@ public abstract class BaseServiceImpl<T, ID> implements BaseService<T, ID> {
         getRepository().deleteById(id);
     }
 
-    //=== Count entities (subclass can override for filtered count) ===//
+    //=== Count entities matching the filter ===//
     @Override
     public long count(FilterRequest filter) {
-        return getRepository().count();
-    }
-
-    //=== Apply filters (override in subclass if needed) ===//
-    protected Page<T> applyFilters(Page<T> page, FilterRequest filter) {
-        return page;
+        return getSpecificationExecutor().count(getFilterDefinition().toSpecification(filter));
     }
 }
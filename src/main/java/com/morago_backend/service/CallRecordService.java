@@ -2,22 +2,22 @@ package com.morago_backend.service;
 
 import com.morago_backend.dto.dtoRequest.CallRecordRequestDTO;
 import com.morago_backend.dto.dtoResponse.CallRecordResponseDTO;
+import com.morago_backend.dto.dtoResponse.CursorPage;
 import com.morago_backend.entity.CallRecord;
-import com.morago_backend.entity.TransactionType;
-import com.morago_backend.entity.User;
 import com.morago_backend.exception.ResourceNotFoundException;
 import com.morago_backend.repository.CallRecordRepository;
-import com.morago_backend.repository.UserRepository;
-import com.corundumstudio.socketio.SocketIOServer;
+import com.morago_backend.util.CursorCodec;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,9 +25,8 @@ import java.util.stream.Collectors;
 public class CallRecordService {
 
     private final CallRecordRepository repository;
-    private final SocketIOServer socketServer;
-    private final UserRepository userRepository;
-    private final TransactionService transactionService;
+    private final SocketEventPublisher eventPublisher;
+    private final CallSettlementService callSettlementService;
     private static final Logger logger = LoggerFactory.getLogger(CallRecordService.class);
 
     // ========== CREATE ==========
@@ -36,9 +35,10 @@ public class CallRecordService {
             logger.info("Creating call record with data={}", dto);
             CallRecord entity = mapToEntity(dto);
             CallRecord saved = repository.save(entity);
-            socketServer.getBroadcastOperations().sendEvent("callCreated", saved);
+            CallRecordResponseDTO response = mapToResponse(saved);
+            eventPublisher.publishToRooms(participantRooms(saved), "callCreated", response);
             logger.info("Call record created with id={}", saved.getId());
-            return mapToResponse(saved);
+            return response;
         } catch (Exception e) {
             logger.error("Error creating call record", e);
             throw e;
@@ -59,13 +59,42 @@ public class CallRecordService {
         }
     }
 
+    // ========== READ PAGE (KEYSET) ==========
+    @Transactional(readOnly = true)
+    public CursorPage<CallRecordResponseDTO> findPage(String cursor, Integer size) {
+        try {
+            int limit = CursorCodec.pageSize(size);
+            CursorCodec.Cursor after = CursorCodec.decode(cursor);
+            logger.info("Fetching call records page after={}, size={}", after, limit);
+            Pageable pageable = Pageable.ofSize(limit + 1);
+
+            List<CallRecord> rows = after == null
+                    ? repository.findFirstPage(pageable)
+                    : repository.findPageAfter(after.createdAt(), after.id(), pageable);
+
+            boolean hasNext = rows.size() > limit;
+            List<CallRecord> page = hasNext ? rows.subList(0, limit) : rows;
+            String nextCursor = null;
+            if (hasNext) {
+                CallRecord last = page.get(page.size() - 1);
+                nextCursor = CursorCodec.encode(last.getCreatedAtDatetime(), last.getId());
+            }
+            return new CursorPage<>(page.stream().map(this::mapToResponse).collect(Collectors.toList()), nextCursor);
+        } catch (Exception e) {
+            logger.error("Error fetching call records page", e);
+            throw e;
+        }
+    }
+
     // ========== READ BY ID ==========
     public CallRecordResponseDTO findById(Long id) {
         try {
             logger.info("Fetching call record by id={}", id);
             CallRecord entity = repository.findById(id)
                     .orElseThrow(() -> new ResourceNotFoundException("CallRecord not found with id " + id));
-            return mapToResponse(entity);
+            CallRecordResponseDTO response = mapToResponse(entity);
+            response.setSettlementStatus(callSettlementService.statusOf(id));
+            return response;
         } catch (Exception e) {
             logger.error("Error fetching call record id={}", id, e);
             throw e;
@@ -77,12 +106,10 @@ public class CallRecordService {
     public CallRecordResponseDTO update(Long id, CallRecordRequestDTO dto) {
         try {
             logger.info("Updating call record id={}", id);
-            CallRecord existing = repository.findById(id)
+            // Row lock so two concurrent completions of the same call cannot both settle it
+            CallRecord existing = repository.findForUpdateById(id)
                     .orElseThrow(() -> new ResourceNotFoundException("CallRecord not found with id " + id));
 
-            Boolean wasEnded = existing.getEndCall();
-            String previousStatusText = existing.getCallStatus();
-
             if (dto.getDurationSeconds() != null) existing.setDurationSeconds(dto.getDurationSeconds());
             if (dto.getStatus() != null) existing.setStatus(dto.getStatus());
             if (dto.getSum() != null) existing.setSum(dto.getSum());
@@ -96,17 +123,23 @@ public class CallRecordService {
             if (dto.getCallStatus() != null) existing.setCallStatus(dto.getCallStatus());
             if (dto.getEndCall() != null) existing.setEndCall(dto.getEndCall());
 
-            boolean transitionsToEnded = (wasEnded == null || !wasEnded) && Boolean.TRUE.equals(existing.getEndCall());
-            boolean transitionsToCompleted = (!"COMPLETED".equalsIgnoreCase(previousStatusText))
-                    && "COMPLETED".equalsIgnoreCase(existing.getCallStatus());
-            if (transitionsToEnded || transitionsToCompleted) {
-                settleBalances(existing);
+            // Ending and completing are separate updates for the same call, and the sum may only come with the
+            // later one. The call is settled (and counted in the statistics rollups) once, on the first update
+            // that leaves it finished with a sum; settled_at marks that it happened
+            boolean finished = Boolean.TRUE.equals(existing.getEndCall())
+                    || "COMPLETED".equalsIgnoreCase(existing.getCallStatus());
+            String settlementStatus = null;
+            if (finished && existing.getSum() != null && existing.getSettledAtDatetime() == null) {
+                settlementStatus = callSettlementService.settleOrEnqueue(existing);
+                existing.setSettledAtDatetime(LocalDateTime.now());
             }
 
             CallRecord saved = repository.save(existing);
-            socketServer.getBroadcastOperations().sendEvent("callUpdated", saved);
+            CallRecordResponseDTO response = mapToResponse(saved);
+            response.setSettlementStatus(settlementStatus);
+            eventPublisher.publishToRooms(participantRooms(saved), "callUpdated", response);
             logger.info("Call record updated id={}", saved.getId());
-            return mapToResponse(saved);
+            return response;
         } catch (Exception e) {
             logger.error("Error updating call record id={}", id, e);
             throw e;
@@ -117,8 +150,11 @@ public class CallRecordService {
     public void delete(Long id) {
         try {
             logger.info("Deleting call record id={}", id);
-            repository.deleteById(id);
-            socketServer.getBroadcastOperations().sendEvent("callDeleted", id);
+            // Loaded first so the participants can be told; a missing id stays a no-op like deleteById
+            Optional<CallRecord> existing = repository.findById(id);
+            existing.ifPresent(repository::delete);
+            eventPublisher.publishToRooms(existing.map(CallRecordService::participantRooms)
+                    .orElseGet(() -> List.of(SocketRooms.ADMINS)), "callDeleted", id);
             logger.info("Call record deleted id={}", id);
         } catch (Exception e) {
             logger.error("Error deleting call record id={}", id, e);
@@ -126,6 +162,11 @@ public class CallRecordService {
         }
     }
 
+    // ========== HELPERS ==========
+    private static List<String> participantRooms(CallRecord call) {
+        return SocketRooms.usersAndAdmins(call.getCallerUserId(), call.getRecipientUserId());
+    }
+
     // ========== MAPPER ==========
     private CallRecordResponseDTO mapToResponse(CallRecord entity) {
         CallRecordResponseDTO dto = new CallRecordResponseDTO();
@@ -163,101 +204,4 @@ public class CallRecordService {
         entity.setEndCall(dto.getEndCall());
         return entity;
     }
-
-    // ========== BALANCE SETTLEMENT ==========
-    private void settleBalances(CallRecord call) {
-        try {
-            Long callerId = call.getCallerUserId();
-            Long interpreterId = call.getRecipientUserId();
-            BigDecimal sum = defaultZero(call.getSum());
-            BigDecimal commission = defaultZero(call.getCommission());
-
-            if (sum.signum() <= 0) return;
-            if (commission.compareTo(sum) > 0) throw new IllegalArgumentException("Commission cannot exceed total sum");
-
-            // Debit caller
-            User caller = debitUserBalance(callerId, sum);
-            
-            // Create transaction record for caller (payment for call)
-            transactionService.createDetailedTransaction(
-                caller,
-                TransactionType.CALL_PAYMENT,
-                sum,
-                "COMPLETED",
-                "Payment for call with interpreter",
-                call.getId(),
-                null,
-                null,
-                null,
-                "Call ID: " + call.getId() + ", Duration: " + call.getDurationSeconds() + "s"
-            );
-            logger.info("Transaction record created for caller userId={}, callId={}", callerId, call.getId());
-            
-            // Credit interpreter (if exists)
-            BigDecimal creditAmount = sum.subtract(commission);
-            if (interpreterId != null && creditAmount.signum() > 0) {
-                User interpreter = creditUserBalance(interpreterId, creditAmount);
-                
-                // Create transaction record for interpreter (earning from call)
-                transactionService.createDetailedTransaction(
-                    interpreter,
-                    TransactionType.CALL_EARNING,
-                    creditAmount,
-                    "COMPLETED",
-                    "Earning from interpreting call",
-                    call.getId(),
-                    null,
-                    null,
-                    null,
-                    "Call ID: " + call.getId() + ", Duration: " + call.getDurationSeconds() + "s"
-                );
-                logger.info("Transaction record created for interpreter userId={}, callId={}", interpreterId, call.getId());
-                
-                // Create commission transaction record if commission > 0
-                if (commission.signum() > 0) {
-                    transactionService.createDetailedTransaction(
-                        interpreter,
-                        TransactionType.COMMISSION,
-                        commission,
-                        "COMPLETED",
-                        "Platform commission deducted",
-                        call.getId(),
-                        null,
-                        null,
-                        null,
-                        "Call ID: " + call.getId()
-                    );
-                    logger.info("Commission transaction record created for callId={}", call.getId());
-                }
-            }
-        } catch (Exception e) {
-            logger.error("Error settling balances for call id={}", call.getId(), e);
-            throw e;
-        }
-    }
-
-    private BigDecimal defaultZero(BigDecimal value) {
-        return value == null ? BigDecimal.ZERO : value;
-    }
-
-    private User debitUserBalance(Long userId, BigDecimal amount) {
-        if (userId == null || amount.signum() <= 0) return null;
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id " + userId));
-        BigDecimal current = defaultZero(user.getBalance());
-        BigDecimal newBalance = current.subtract(amount);
-        if (newBalance.signum() < 0) throw new IllegalStateException("Insufficient balance for user id " + userId);
-        user.setBalance(newBalance);
-        return userRepository.save(user);
-    }
-
-    private User creditUserBalance(Long userId, BigDecimal amount) {
-        if (userId == null || amount.signum() <= 0) return null;
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id " + userId));
-        BigDecimal current = defaultZero(user.getBalance());
-        BigDecimal newBalance = current.add(amount);
-        user.setBalance(newBalance);
-        return userRepository.save(user);
-    }
 }
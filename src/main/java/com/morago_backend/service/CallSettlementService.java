@@ -0,0 +1,198 @@
+package com.morago_backend.service;
+
+import com.morago_backend.entity.CallRecord;
+import com.morago_backend.entity.SettlementOutbox;
+import com.morago_backend.entity.Transaction;
+import com.morago_backend.entity.TransactionType;
+import com.morago_backend.repository.SettlementOutboxRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+/**
+ * Balance settlement of completed calls. Settles inline by default; with settlement.async.enabled=true the call
+ * is enqueued in settlement_outbox in the same transaction and settled later by {@link SettlementWorker}.
+ */
+@Service
+public class CallSettlementService {
+
+    public static final String SETTLING = "SETTLING";
+    public static final String SETTLED = "SETTLED";
+    public static final String FAILED = "FAILED";
+
+    static final String OUTBOX_PENDING = "PENDING";
+    static final String OUTBOX_DONE = "DONE";
+    static final String OUTBOX_FAILED = "FAILED";
+
+    private static final Logger logger = LoggerFactory.getLogger(CallSettlementService.class);
+
+    private final TransactionService transactionService;
+    private final BalanceService balanceService;
+    private final SettlementOutboxRepository outboxRepository;
+    private final StatisticsService statisticsService;
+    private final LedgerService ledgerService;
+    private final boolean asyncEnabled;
+
+    public CallSettlementService(TransactionService transactionService,
+                                 BalanceService balanceService,
+                                 SettlementOutboxRepository outboxRepository,
+                                 StatisticsService statisticsService,
+                                 LedgerService ledgerService,
+                                 @Value("${settlement.async.enabled:false}") boolean asyncEnabled) {
+        this.transactionService = transactionService;
+        this.balanceService = balanceService;
+        this.outboxRepository = outboxRepository;
+        this.statisticsService = statisticsService;
+        this.ledgerService = ledgerService;
+        this.asyncEnabled = asyncEnabled;
+    }
+
+    // ========== ENTRY POINT ==========
+    /**
+     * Settles the call now, or enqueues it when async settlement is enabled. Enqueuing a call that already has an
+     * outbox row returns that row's status instead of inserting a second one; the caller holds the call's row
+     * lock, so two requests for the same call cannot both miss the existing row.
+     * @return the resulting settlement status (SETTLED, SETTLING or FAILED)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public String settleOrEnqueue(CallRecord call) {
+        if (!asyncEnabled) {
+            settle(call);
+            return SETTLED;
+        }
+        Optional<SettlementOutbox> existing = outboxRepository.findByCallRecordId(call.getId());
+        if (existing.isPresent()) {
+            logger.info("Call id={} already enqueued for settlement", call.getId());
+            return toSettlementStatus(existing.get());
+        }
+        SettlementOutbox entry = new SettlementOutbox();
+        entry.setCallRecordId(call.getId());
+        entry.setStatus(OUTBOX_PENDING);
+        outboxRepository.save(entry);
+        logger.info("Call id={} enqueued for settlement", call.getId());
+        return SETTLING;
+    }
+
+    /**
+     * @return SETTLING, SETTLED or FAILED for calls that went through the outbox, otherwise null
+     */
+    @Transactional(readOnly = true)
+    public String statusOf(Long callId) {
+        return outboxRepository.findByCallRecordId(callId)
+                .map(CallSettlementService::toSettlementStatus)
+                .orElse(null);
+    }
+
+    private static String toSettlementStatus(SettlementOutbox entry) {
+        return switch (entry.getStatus()) {
+            case OUTBOX_DONE -> SETTLED;
+            case OUTBOX_FAILED -> FAILED;
+            default -> SETTLING;
+        };
+    }
+
+    // ========== BALANCE SETTLEMENT ==========
+    /**
+     * Debits the caller, credits the interpreter and records the transactions, inside the caller's transaction.
+     * The call row must already be locked by the caller so a call is never settled twice.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void settle(CallRecord call) {
+        try {
+            Long callerId = call.getCallerUserId();
+            Long interpreterId = call.getRecipientUserId();
+            BigDecimal sum = defaultZero(call.getSum());
+            BigDecimal commission = defaultZero(call.getCommission());
+
+            if (sum.signum() <= 0) return;
+            if (commission.compareTo(sum) > 0) throw new IllegalArgumentException("Commission cannot exceed total sum");
+
+            // Dashboard rollups move in this transaction, so they only count calls whose settlement commits,
+            // with the amounts that were actually billed
+            statisticsService.recordSettledCall(call);
+
+            // Debit caller
+            Transaction payment = null;
+            if (callerId != null) {
+                BalanceService.BalanceChange debit = balanceService.debit(callerId, sum);
+
+                // Create transaction record for caller (payment for call)
+                payment = transactionService.createDetailedTransaction(
+                    debit.getUser(),
+                    TransactionType.CALL_PAYMENT,
+                    sum,
+                    "COMPLETED",
+                    "Payment for call with interpreter",
+                    call.getId(),
+                    null,
+                    null,
+                    null,
+                    "Call ID: " + call.getId() + ", Duration: " + call.getDurationSeconds() + "s",
+                    debit.getBalanceBefore(),
+                    debit.getBalanceAfter()
+                );
+                logger.info("Transaction record created for caller userId={}, callId={}", callerId, call.getId());
+            }
+
+            // Credit interpreter (if exists)
+            BigDecimal creditAmount = sum.subtract(commission);
+            if (interpreterId != null && creditAmount.signum() > 0) {
+                BalanceService.BalanceChange credit = balanceService.credit(interpreterId, creditAmount);
+
+                // Create transaction record for interpreter (earning from call)
+                transactionService.createDetailedTransaction(
+                    credit.getUser(),
+                    TransactionType.CALL_EARNING,
+                    creditAmount,
+                    "COMPLETED",
+                    "Earning from interpreting call",
+                    call.getId(),
+                    null,
+                    null,
+                    null,
+                    "Call ID: " + call.getId() + ", Duration: " + call.getDurationSeconds() + "s",
+                    credit.getBalanceBefore(),
+                    credit.getBalanceAfter()
+                );
+                logger.info("Transaction record created for interpreter userId={}, callId={}", interpreterId, call.getId());
+
+                // Create commission transaction record if commission > 0
+                // (already withheld from the credit above, so the interpreter's balance does not move)
+                if (commission.signum() > 0) {
+                    transactionService.createDetailedTransaction(
+                        credit.getUser(),
+                        TransactionType.COMMISSION,
+                        commission,
+                        "COMPLETED",
+                        "Platform commission deducted",
+                        call.getId(),
+                        null,
+                        null,
+                        null,
+                        "Call ID: " + call.getId(),
+                        credit.getBalanceAfter(),
+                        credit.getBalanceAfter()
+                    );
+                    logger.info("Commission transaction record created for callId={}", call.getId());
+                }
+            } else if (payment != null) {
+                // No earning or commission leg takes the payment back out of clearing; it is all platform revenue
+                ledgerService.releaseToRevenue(payment, sum);
+                logger.info("Payment for callId={} released to platform revenue", call.getId());
+            }
+        } catch (Exception e) {
+            logger.error("Error settling balances for call id={}", call.getId(), e);
+            throw e;
+        }
+    }
+
+    private BigDecimal defaultZero(BigDecimal value) {
+        return value == null ? BigDecimal.ZERO : value;
+    }
+}
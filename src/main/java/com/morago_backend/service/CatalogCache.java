@@ -0,0 +1,98 @@
+package com.morago_backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.morago_backend.cache.CacheInvalidationBus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache for reference data (categories, themes, languages) that only changes through admin CRUD.
+ * Lists are kept already serialized together with an ETag, so a hit costs neither a query nor JSON
+ * serialization, and a request whose If-None-Match matches is answered with 304 straight from the cache.
+ * Writers call {@link #invalidate}, which also reaches the other nodes through the {@link CacheInvalidationBus};
+ * the TTL only bounds staleness from writes that bypass the services or invalidations a node missed.
+ */
+@Component
+public class CatalogCache {
+
+    public static final String CATEGORIES = "categories";
+    public static final String THEMES = "themes";
+    public static final String LANGUAGES = "languages";
+
+    public static final String REGION = "catalog";
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogCache.class);
+
+    /** Serialized JSON body and its strong ETag (quoted) */
+    public record Entry(byte[] body, String etag) {
+    }
+
+    private final ObjectMapper objectMapper;
+    private final Cache<String, Entry> cache;
+    private final CacheInvalidationBus invalidationBus;
+
+    public CatalogCache(ObjectMapper objectMapper,
+                        MeterRegistry meterRegistry,
+                        CacheInvalidationBus invalidationBus,
+                        @Value("${catalog.cache.max-size:100}") long maxSize,
+                        @Value("${catalog.cache.ttl-ms:600000}") long ttlMs) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "catalog");
+        this.invalidationBus = invalidationBus;
+        invalidationBus.subscribe(REGION, cache::invalidate);
+    }
+
+    public Entry get(String key, Supplier<?> loader) {
+        return cache.get(key, k -> serialize(k, loader.get()));
+    }
+
+    /**
+     * Drops the given entries now and, inside a transaction, again after commit, so a concurrent read cannot
+     * re-cache the pre-commit state. Other nodes drop them once the transaction commits.
+     */
+    public void invalidate(String... keys) {
+        for (String key : keys) {
+            cache.invalidate(key);
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    for (String key : keys) {
+                        cache.invalidate(key);
+                    }
+                }
+            });
+        }
+        invalidationBus.publish(REGION, List.of(keys));
+    }
+
+    private Entry serialize(String key, Object value) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(value);
+            logger.debug("Cached catalog {} ({} bytes)", key, body.length);
+            return new Entry(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize catalog " + key, e);
+        }
+    }
+}
@@ -7,11 +7,13 @@ import com.morago_backend.dto.dtoResponse.CategoryResponseDTO;
 import com.morago_backend.entity.Category;
 import com.morago_backend.exception.ResourceNotFoundException;
 import com.morago_backend.repository.CategoryRepository;
-import com.corundumstudio.socketio.SocketIOServer;
+import com.morago_backend.specification.FilterDefinition;
+import com.morago_backend.specification.FilterDefinitions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -22,12 +24,14 @@ import java.util.stream.Collectors;
 public class CategoryService extends BaseServiceImpl<Category, Long> {
 
     private final CategoryRepository categoryRepository;
-    private final SocketIOServer socketServer;
+    private final SocketEventPublisher eventPublisher;
+    private final CatalogCache catalogCache;
     private static final Logger logger = LoggerFactory.getLogger(CategoryService.class);
 
-    public CategoryService(CategoryRepository categoryRepository, SocketIOServer socketServer) {
+    public CategoryService(CategoryRepository categoryRepository, SocketEventPublisher eventPublisher, CatalogCache catalogCache) {
         this.categoryRepository = categoryRepository;
-        this.socketServer = socketServer;
+        this.eventPublisher = eventPublisher;
+        this.catalogCache = catalogCache;
     }
 
     @Override
@@ -36,20 +40,13 @@ public class CategoryService extends BaseServiceImpl<Category, Long> {
     }
 
     @Override
-    protected Page<Category> applyFilters(Page<Category> page, FilterRequest filter) {
-        try {
-            if (filter == null || !filter.hasSearch()) return page;
-
-            String term = filter.getSearch().toLowerCase();
-            List<Category> filtered = page.getContent().stream()
-                    .filter(c -> c.getName().toLowerCase().contains(term))
-                    .collect(Collectors.toList());
+    protected JpaSpecificationExecutor<Category> getSpecificationExecutor() {
+        return categoryRepository;
+    }
 
-            return new PageImpl<>(filtered, page.getPageable(), page.getTotalElements());
-        } catch (Exception e) {
-            logger.error("Error applying filters to categories", e);
-            throw e;
-        }
+    @Override
+    protected FilterDefinition<Category> getFilterDefinition() {
+        return FilterDefinitions.CATEGORIES;
     }
 
     // ========== CREATE ==========
@@ -59,9 +56,11 @@ public class CategoryService extends BaseServiceImpl<Category, Long> {
             logger.info("Creating category with data={}", dto);
             Category category = mapToEntity(dto);
             Category saved = categoryRepository.save(category);
-            socketServer.getBroadcastOperations().sendEvent("categoryCreated", saved);
+            catalogCache.invalidate(CatalogCache.CATEGORIES);
+            CategoryResponseDTO response = mapToResponse(saved);
+            eventPublisher.publish("categoryCreated", response);
             logger.info("Category created id={}", saved.getId());
-            return mapToResponse(saved);
+            return response;
         } catch (Exception e) {
             logger.error("Error creating category", e);
             throw e;
@@ -80,9 +79,11 @@ public class CategoryService extends BaseServiceImpl<Category, Long> {
             existing.setIsActive(dto.getIsActive());
 
             Category saved = categoryRepository.save(existing);
-            socketServer.getBroadcastOperations().sendEvent("categoryUpdated", saved);
+            catalogCache.invalidate(CatalogCache.CATEGORIES);
+            CategoryResponseDTO response = mapToResponse(saved);
+            eventPublisher.publish("categoryUpdated", response);
             logger.info("Category updated id={}", saved.getId());
-            return mapToResponse(saved);
+            return response;
         } catch (Exception e) {
             logger.error("Error updating category id={}", id, e);
             throw e;
@@ -103,6 +104,12 @@ public class CategoryService extends BaseServiceImpl<Category, Long> {
         }
     }
 
+    // ========== READ ALL CACHED ==========
+    /** All categories as serialized JSON with an ETag; loaded from the database only on a cache miss */
+    public CatalogCache.Entry findAllCached() {
+        return catalogCache.get(CatalogCache.CATEGORIES, this::findAllDTO);
+    }
+
     // ========== READ BY ID DTO ==========
     /** Retrieves a category by ID as DTO */
     public Optional<CategoryResponseDTO> findByIdDTO(Long id) {
@@ -121,7 +128,9 @@ public class CategoryService extends BaseServiceImpl<Category, Long> {
         try {
             logger.info("Deleting category id={}", id);
             categoryRepository.deleteById(id);
-            socketServer.getBroadcastOperations().sendEvent("categoryDeleted", id);
+            // Themes reference their category
+            catalogCache.invalidate(CatalogCache.CATEGORIES, CatalogCache.THEMES);
+            eventPublisher.publish("categoryDeleted", id);
             logger.info("Category deleted id={}", id);
         } catch (Exception e) {
             logger.error("Error deleting category id={}", id, e);
@@ -133,15 +142,9 @@ public class CategoryService extends BaseServiceImpl<Category, Long> {
     /** Retrieves categories with filter and pagination */
     public Page<CategoryResponseDTO> getAllWithFilterAndPagination(FilterRequest filter, PaginationRequest pagination) {
         try {
-            Pageable pageable = PageRequest.of(pagination.getPage(), pagination.getSize());
-            Page<Category> page = categoryRepository.findAll(pageable);
-
-            if (filter != null && filter.hasSearch()) {
-                List<Category> filtered = page.getContent().stream()
-                        .filter(c -> c.getName().toLowerCase().contains(filter.getSearch().toLowerCase()))
-                        .toList();
-                page = new PageImpl<>(filtered, page.getPageable(), page.getTotalElements());
-            }
+            Page<Category> page = categoryRepository.findAll(
+                    FilterDefinitions.CATEGORIES.toSpecification(filter),
+                    FilterDefinitions.CATEGORIES.toPageable(pagination));
 
             return page.map(this::mapToResponse);
         } catch (Exception e) {
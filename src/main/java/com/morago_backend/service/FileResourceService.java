@@ -1,8 +1,8 @@
 package com.morago_backend.service;
 
+import com.morago_backend.dto.dtoResponse.FileResourceResponseDTO;
 import com.morago_backend.entity.FileResource;
 import com.morago_backend.repository.FileResourceRepository;
-import com.corundumstudio.socketio.SocketIOServer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -16,11 +16,11 @@ public class FileResourceService {
     private static final Logger logger = LoggerFactory.getLogger(FileResourceService.class);
 
     private final FileResourceRepository repository;
-    private final SocketIOServer socketServer;
+    private final SocketEventPublisher eventPublisher;
 
-    public FileResourceService(FileResourceRepository repository, SocketIOServer socketServer) {
+    public FileResourceService(FileResourceRepository repository, SocketEventPublisher eventPublisher) {
         this.repository = repository;
-        this.socketServer = socketServer;
+        this.eventPublisher = eventPublisher;
     }
 
     // ====== CREATE ======
@@ -28,7 +28,7 @@ public class FileResourceService {
         try {
             logger.info("Creating new FileResource with path={}", entity.getPath());
             FileResource saved = repository.save(entity);
-            socketServer.getBroadcastOperations().sendEvent("fileResourceCreated", saved);
+            eventPublisher.publishToRoom(SocketRooms.ADMINS, "fileResourceCreated", toDTO(saved));
             logger.info("FileResource created with id={}", saved.getId());
             return saved;
         } catch (Exception e) {
@@ -71,7 +71,7 @@ public class FileResourceService {
             existing.setType(updated.getType());
 
             FileResource saved = repository.save(existing);
-            socketServer.getBroadcastOperations().sendEvent("fileResourceUpdated", saved);
+            eventPublisher.publishToRoom(SocketRooms.ADMINS, "fileResourceUpdated", toDTO(saved));
             logger.info("FileResource updated with id={}", saved.getId());
             return saved;
         } catch (Exception e) {
@@ -85,11 +85,23 @@ public class FileResourceService {
         try {
             logger.info("Deleting FileResource with id={}", id);
             repository.deleteById(id);
-            socketServer.getBroadcastOperations().sendEvent("fileResourceDeleted", id);
+            eventPublisher.publishToRoom(SocketRooms.ADMINS, "fileResourceDeleted", id);
             logger.info("FileResource deleted with id={}", id);
         } catch (Exception e) {
             logger.error("Error deleting FileResource with id={}", id, e);
             throw e;
         }
     }
+
+    // ====== MAPPER ======
+    private FileResourceResponseDTO toDTO(FileResource entity) {
+        FileResourceResponseDTO dto = new FileResourceResponseDTO();
+        dto.setId(entity.getId());
+        dto.setOriginType(entity.getOriginType());
+        dto.setPath(entity.getPath());
+        dto.setType(entity.getType());
+        dto.setCreatedAtDatetime(entity.getCreatedAtDatetime());
+        dto.setUpdatedAtDatetime(entity.getUpdatedAtDatetime());
+        return dto;
+    }
 }
@@ -6,7 +6,6 @@ import com.morago_backend.entity.File;
 import com.morago_backend.entity.Theme;
 import com.morago_backend.exception.ResourceNotFoundException;
 import com.morago_backend.repository.FileRepository;
-import com.corundumstudio.socketio.SocketIOServer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -22,14 +21,14 @@ public class FileService {
     private static final Logger logger = LoggerFactory.getLogger(FileService.class);
 
     private final FileRepository fileRepository;
-    private final SocketIOServer socketServer;
+    private final SocketEventPublisher eventPublisher;
     private final StorageService storageService;
 
     public FileService(FileRepository fileRepository,
-                       SocketIOServer socketServer,
+                       SocketEventPublisher eventPublisher,
                        StorageService storageService) {
         this.fileRepository = fileRepository;
-        this.socketServer = socketServer;
+        this.eventPublisher = eventPublisher;
         this.storageService = storageService;
     }
 
@@ -72,9 +71,10 @@ public class FileService {
             }
 
             File saved = fileRepository.save(file);
-            socketServer.getBroadcastOperations().sendEvent("fileCreated", saved);
+            FileResponseDTO response = toDTO(saved);
+            eventPublisher.publishToRooms(fileRooms(saved), "fileCreated", response);
             logger.info("File created with id={}", saved.getId());
-            return toDTO(saved);
+            return response;
         } catch (Exception e) {
             logger.error("Error creating File with title={}", dto.getOriginalTitle(), e);
             throw e;
@@ -132,9 +132,10 @@ public class FileService {
             }
 
             File saved = fileRepository.save(existing);
-            socketServer.getBroadcastOperations().sendEvent("fileUpdated", saved);
+            FileResponseDTO response = toDTO(saved);
+            eventPublisher.publishToRooms(fileRooms(saved), "fileUpdated", response);
             logger.info("File updated with id={}", saved.getId());
-            return toDTO(saved);
+            return response;
         } catch (Exception e) {
             logger.error("Error updating File with id={}", id, e);
             throw e;
@@ -153,11 +154,15 @@ public class FileService {
             }
 
             fileRepository.deleteById(id);
-            socketServer.getBroadcastOperations().sendEvent("fileDeleted", id);
+            eventPublisher.publishToRooms(fileRooms(existing), "fileDeleted", id);
             logger.info("File deleted with id={}", id);
         } catch (Exception e) {
             logger.error("Error deleting File with id={}", id, e);
             throw e;
         }
     }
+
+    private static List<String> fileRooms(File file) {
+        return SocketRooms.usersAndAdmins(file.getUser() != null ? file.getUser().getId() : null);
+    }
 }
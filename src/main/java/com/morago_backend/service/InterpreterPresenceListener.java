@@ -0,0 +1,102 @@
+package com.morago_backend.service;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.SocketIOServer;
+import com.morago_backend.config.SocketIOConfig;
+import com.morago_backend.entity.UserRole;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Marks interpreters online while they hold at least one authenticated Socket.IO connection,
+ * which keeps translator_profiles.is_online and the availability index current.
+ * <p>
+ * Connect and disconnect listeners run on the netty event loop, so only the connection count is kept there;
+ * the database write is handed to a single presence thread. Connection counts are per JVM: with several
+ * Socket.IO nodes, an interpreter connected to two of them is marked offline when either side's last
+ * connection closes, until their next connect.
+ */
+@Component
+public class InterpreterPresenceListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(InterpreterPresenceListener.class);
+
+    private final SocketIOServer server;
+    private final TranslatorProfileService translatorProfileService;
+
+    // Open connections per interpreter user id (an interpreter may have several tabs/devices)
+    private final ConcurrentHashMap<Long, Integer> connections = new ConcurrentHashMap<>();
+
+    private final ExecutorService presenceWriter = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "interpreter-presence");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public InterpreterPresenceListener(SocketIOServer server, TranslatorProfileService translatorProfileService) {
+        this.server = server;
+        this.translatorProfileService = translatorProfileService;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        presenceWriter.shutdown();
+    }
+
+    @PostConstruct
+    public void init() {
+        server.addConnectListener(this::onConnect);
+        server.addDisconnectListener(this::onDisconnect);
+    }
+
+    private void onConnect(SocketIOClient client) {
+        Long userId = interpreterId(client);
+        if (userId == null) {
+            return;
+        }
+        if (connections.merge(userId, 1, Integer::sum) == 1) {
+            syncPresence(userId);
+        }
+    }
+
+    private void onDisconnect(SocketIOClient client) {
+        Long userId = interpreterId(client);
+        if (userId == null) {
+            return;
+        }
+        Integer remaining = connections.computeIfPresent(userId, (id, count) -> count > 1 ? count - 1 : null);
+        if (remaining == null) {
+            syncPresence(userId);
+        }
+    }
+
+    // The write reads the count when it runs rather than taking the flag from the listener, so a connect and
+    // a disconnect racing on two event loops cannot leave the stored status behind the count
+    private void syncPresence(Long userId) {
+        presenceWriter.execute(() -> {
+            boolean online = connections.containsKey(userId);
+            try {
+                translatorProfileService.updateOnlineStatus(userId, online);
+            } catch (Exception e) {
+                logger.error("Failed to update presence for interpreter userId={}", userId, e);
+            }
+        });
+    }
+
+    private Long interpreterId(SocketIOClient client) {
+        Long userId = client.get(SocketIOConfig.CLIENT_USER_ID);
+        List<String> roles = client.get(SocketIOConfig.CLIENT_ROLES);
+        if (userId == null || roles == null || !roles.contains(UserRole.INTERPRETER.name())) {
+            return null;
+        }
+        return userId;
+    }
+}
@@ -1,12 +1,10 @@
 package com.morago_backend.service;
 
+import com.morago_backend.security.JwtSigningKey;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
 import java.util.Date;
 import java.util.Map;
-import javax.crypto.SecretKey;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
@@ -14,12 +12,15 @@ import org.springframework.stereotype.Service;
 @Service
 public class JwtService {
 
-    @Value("${security.jwt.secret}")
-    private String secret;
+    private final JwtSigningKey signingKey;
 
     @Value("${security.jwt.expiration-ms:3600000}")
     private long expirationMs;
 
+    public JwtService(JwtSigningKey signingKey) {
+        this.signingKey = signingKey;
+    }
+
     public String extractUsername(String token) {
 
         return extractAllClaims(token).getSubject();
@@ -38,7 +39,7 @@ public class JwtService {
             .subject(userDetails.getUsername())
             .issuedAt(now)
             .expiration(expiry)
-            .signWith(getSignInKey(), Jwts.SIG.HS256)
+            .signWith(signingKey.getKey(), Jwts.SIG.HS256)
             .compact();
     }
 
@@ -53,16 +54,7 @@ public class JwtService {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-            .verifyWith(getSignInKey())
-            .build()
-            .parseSignedClaims(token)
-            .getPayload();
-    }
-
-    private SecretKey getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secret);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return signingKey.parseClaims(token);
     }
 }
 
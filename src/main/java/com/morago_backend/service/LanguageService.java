@@ -8,11 +8,10 @@ import com.morago_backend.dto.dtoResponse.PagedResponse;
 import com.morago_backend.entity.Language;
 import com.morago_backend.exception.ResourceNotFoundException;
 import com.morago_backend.repository.LanguageRepository;
-import com.corundumstudio.socketio.SocketIOServer;
+import com.morago_backend.specification.FilterDefinitions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -22,12 +21,14 @@ import java.util.stream.Collectors;
 public class LanguageService {
 
     private final LanguageRepository repository;
-    private final SocketIOServer socketServer;
+    private final SocketEventPublisher eventPublisher;
+    private final CatalogCache catalogCache;
     private static final Logger logger = LoggerFactory.getLogger(LanguageService.class);
 
-    public LanguageService(LanguageRepository repository, SocketIOServer socketServer) {
+    public LanguageService(LanguageRepository repository, SocketEventPublisher eventPublisher, CatalogCache catalogCache) {
         this.repository = repository;
-        this.socketServer = socketServer;
+        this.eventPublisher = eventPublisher;
+        this.catalogCache = catalogCache;
     }
 
     private LanguageResponseDTO toDTO(Language entity) {
@@ -50,9 +51,11 @@ public class LanguageService {
         try {
             logger.info("Creating language with name={}", dto.getName());
             Language saved = repository.save(fromDTO(dto));
-            socketServer.getBroadcastOperations().sendEvent("languageCreated", saved);
+            catalogCache.invalidate(CatalogCache.LANGUAGES);
+            LanguageResponseDTO response = toDTO(saved);
+            eventPublisher.publish("languageCreated", response);
             logger.info("Language created with id={}", saved.getId());
-            return toDTO(saved);
+            return response;
         } catch (Exception e) {
             logger.error("Error creating language with name={}", dto.getName(), e);
             throw e;
@@ -72,22 +75,18 @@ public class LanguageService {
         }
     }
 
+    // ========== READ all cached ==========
+    /** All languages as serialized JSON with an ETag; loaded from the database only on a cache miss */
+    public CatalogCache.Entry findAllCached() {
+        return catalogCache.get(CatalogCache.LANGUAGES, this::findAll);
+    }
+
     // ========== READ paged + filtered ==========
     public PagedResponse<LanguageResponseDTO> findAll(PaginationRequest pagination, FilterRequest filter) {
         try {
-            PageRequest pageRequest = PageRequest.of(pagination.getPage(), pagination.getSize());
-            Page<Language> page = repository.findAll(pageRequest);
-
-            if (filter != null && filter.hasSearch()) {
-                String searchTerm = filter.getSearch().toLowerCase();
-                page = new org.springframework.data.domain.PageImpl<>(
-                        page.getContent().stream()
-                                .filter(l -> l.getName().toLowerCase().contains(searchTerm))
-                                .collect(Collectors.toList()),
-                        pageRequest,
-                        page.getTotalElements()
-                );
-            }
+            Page<Language> page = repository.findAll(
+                    FilterDefinitions.LANGUAGES.toSpecification(filter),
+                    FilterDefinitions.LANGUAGES.toPageable(pagination));
 
             List<LanguageResponseDTO> content = page.getContent().stream()
                     .map(this::toDTO)
@@ -127,9 +126,11 @@ public class LanguageService {
 
             existing.setName(dto.getName());
             Language saved = repository.save(existing);
-            socketServer.getBroadcastOperations().sendEvent("languageUpdated", saved);
+            catalogCache.invalidate(CatalogCache.LANGUAGES);
+            LanguageResponseDTO response = toDTO(saved);
+            eventPublisher.publish("languageUpdated", response);
             logger.info("Language updated id={}", saved.getId());
-            return toDTO(saved);
+            return response;
         } catch (Exception e) {
             logger.error("Error updating language id={}", id, e);
             throw e;
@@ -145,7 +146,8 @@ public class LanguageService {
                 throw new ResourceNotFoundException("Language not found with id " + id);
             }
             repository.deleteById(id);
-            socketServer.getBroadcastOperations().sendEvent("languageDeleted", id);
+            catalogCache.invalidate(CatalogCache.LANGUAGES);
+            eventPublisher.publish("languageDeleted", id);
             logger.info("Language deleted id={}", id);
         } catch (Exception e) {
             logger.error("Error deleting language id={}", id, e);
@@ -0,0 +1,209 @@
+package com.morago_backend.service;
+
+import com.morago_backend.entity.LedgerAccountType;
+import com.morago_backend.entity.LedgerEntry;
+import com.morago_backend.entity.LedgerSnapshot;
+import com.morago_backend.entity.Transaction;
+import com.morago_backend.repository.LedgerEntryRepository;
+import com.morago_backend.repository.LedgerSnapshotProgressRepository;
+import com.morago_backend.repository.LedgerSnapshotRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Double-entry ledger behind the transactions table. Every completed transaction becomes a balanced
+ * posting across user wallets and platform accounts; platform accounts only ever receive appended
+ * entries, so they have no shared row to contend on.
+ *
+ * Balances are answered from the latest snapshot plus the short tail of entries after it. Snapshots are
+ * written by a scheduled job once an account has accumulated {@code ledger.snapshot.every-postings}
+ * entries, ignoring entries younger than the settle lag so a transaction that committed late (with a
+ * lower id) is never skipped. How far the job has scanned is kept in {@code ledger_snapshot_progress}, so
+ * instances share it and a restart resumes where the last run stopped.
+ */
+@Service
+public class LedgerService {
+
+    public static final long PLATFORM_OWNER_ID = 0L;
+
+    private static final Logger logger = LoggerFactory.getLogger(LedgerService.class);
+
+    private final LedgerEntryRepository entryRepository;
+    private final LedgerSnapshotRepository snapshotRepository;
+    private final LedgerSnapshotProgressRepository progressRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int snapshotEveryPostings;
+    private final long settleLagSeconds;
+
+    public LedgerService(LedgerEntryRepository entryRepository,
+                         LedgerSnapshotRepository snapshotRepository,
+                         LedgerSnapshotProgressRepository progressRepository,
+                         TransactionTemplate transactionTemplate,
+                         @Value("${ledger.snapshot.every-postings:100}") int snapshotEveryPostings,
+                         @Value("${ledger.snapshot.settle-lag-seconds:60}") long settleLagSeconds) {
+        this.entryRepository = entryRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.progressRepository = progressRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.snapshotEveryPostings = snapshotEveryPostings;
+        this.settleLagSeconds = settleLagSeconds;
+    }
+
+    // ========== POSTING ==========
+    /**
+     * Appends the balanced legs for a saved transaction. Only completed transactions move money.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void post(Transaction transaction) {
+        if (!"COMPLETED".equalsIgnoreCase(transaction.getStatus())) {
+            return;
+        }
+        Long userId = transaction.getUser().getId();
+        BigDecimal amount = transaction.getAmount();
+
+        switch (transaction.getTransactionType()) {
+            case DEPOSIT -> legs(transaction,
+                    LedgerAccountType.USER_WALLET, userId,
+                    LedgerAccountType.PLATFORM_CASH, PLATFORM_OWNER_ID, amount);
+            case WITHDRAWAL -> legs(transaction,
+                    LedgerAccountType.PLATFORM_CASH, PLATFORM_OWNER_ID,
+                    LedgerAccountType.USER_WALLET, userId, amount);
+            case CALL_PAYMENT -> legs(transaction,
+                    LedgerAccountType.PLATFORM_CLEARING, PLATFORM_OWNER_ID,
+                    LedgerAccountType.USER_WALLET, userId, amount);
+            case CALL_EARNING, REFUND -> legs(transaction,
+                    LedgerAccountType.USER_WALLET, userId,
+                    LedgerAccountType.PLATFORM_CLEARING, PLATFORM_OWNER_ID, amount);
+            case COMMISSION -> legs(transaction,
+                    LedgerAccountType.PLATFORM_REVENUE, PLATFORM_OWNER_ID,
+                    LedgerAccountType.PLATFORM_CLEARING, PLATFORM_OWNER_ID, amount);
+            case ADJUSTMENT -> {
+                // amount is the new balance; post only the difference
+                if (transaction.getBalanceBefore() != null && transaction.getBalanceAfter() != null) {
+                    legs(transaction,
+                            LedgerAccountType.USER_WALLET, userId,
+                            LedgerAccountType.PLATFORM_REVENUE, PLATFORM_OWNER_ID,
+                            transaction.getBalanceAfter().subtract(transaction.getBalanceBefore()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Moves what a call payment left in clearing into platform revenue, for calls where no interpreter earning
+     * (and so no commission) takes it out. The entries reference the payment transaction.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void releaseToRevenue(Transaction payment, BigDecimal amount) {
+        legs(payment,
+                LedgerAccountType.PLATFORM_REVENUE, PLATFORM_OWNER_ID,
+                LedgerAccountType.PLATFORM_CLEARING, PLATFORM_OWNER_ID, amount);
+    }
+
+    /** Posts {@code amount} into the credited account and out of the debited one */
+    private void legs(Transaction transaction,
+                      LedgerAccountType creditedType, Long creditedOwner,
+                      LedgerAccountType debitedType, Long debitedOwner,
+                      BigDecimal amount) {
+        if (amount == null || amount.signum() == 0) {
+            return;
+        }
+        entryRepository.save(entry(transaction.getId(), creditedType, creditedOwner, amount));
+        entryRepository.save(entry(transaction.getId(), debitedType, debitedOwner, amount.negate()));
+        logger.debug("Posted transaction id={}: {} {} -> {} {}", transaction.getId(),
+                amount, debitedType, creditedType, creditedOwner);
+    }
+
+    private LedgerEntry entry(Long transactionId, LedgerAccountType type, Long ownerId, BigDecimal amount) {
+        LedgerEntry entry = new LedgerEntry();
+        entry.setTransactionId(transactionId);
+        entry.setAccountType(type);
+        entry.setAccountOwnerId(ownerId);
+        entry.setAmount(amount);
+        return entry;
+    }
+
+    // ========== BALANCE QUERIES ==========
+    @Transactional(readOnly = true)
+    public BigDecimal balanceAt(LedgerAccountType type, Long ownerId, LocalDateTime at) {
+        Optional<LedgerSnapshot> snapshot = snapshotRepository
+                .findTopByAccountTypeAndAccountOwnerIdAndAsOfDatetimeLessThanEqualOrderByLastEntryIdDesc(type, ownerId, at);
+        BigDecimal base = snapshot.map(LedgerSnapshot::getBalance).orElse(BigDecimal.ZERO);
+        long afterId = snapshot.map(LedgerSnapshot::getLastEntryId).orElse(0L);
+        return base.add(entryRepository.sumTail(type, ownerId, afterId, at));
+    }
+
+    @Transactional(readOnly = true)
+    public BigDecimal currentBalance(LedgerAccountType type, Long ownerId) {
+        return balanceAt(type, ownerId, LocalDateTime.now());
+    }
+
+    // ========== SNAPSHOTS ==========
+    @Scheduled(fixedDelayString = "${ledger.snapshot.interval-ms:300000}",
+            initialDelayString = "${ledger.snapshot.interval-ms:300000}")
+    public void takeSnapshots() {
+        try {
+            long scannedUpToId = progressRepository.findScannedUpToId().orElse(0L);
+            Long horizon = entryRepository.findMaxIdCreatedBefore(LocalDateTime.now().minusSeconds(settleLagSeconds));
+            if (horizon == null || horizon <= scannedUpToId) {
+                return;
+            }
+            int written = 0;
+            for (Object[] account : entryRepository.findAccountsTouchedBetween(scannedUpToId, horizon)) {
+                if (snapshotIfDue((LedgerAccountType) account[0], (Long) account[1], horizon)) {
+                    written++;
+                }
+            }
+            // Written after the snapshots: a run that dies midway is rescanned, and rewritten snapshots are
+            // rejected by their unique key
+            transactionTemplate.executeWithoutResult(status -> progressRepository.advance(horizon));
+            logger.debug("Ledger snapshot run up to entry id={}: {} snapshots written", horizon, written);
+        } catch (Exception e) {
+            logger.error("Error taking ledger snapshots", e);
+        }
+    }
+
+    private boolean snapshotIfDue(LedgerAccountType type, Long ownerId, long horizon) {
+        Optional<LedgerSnapshot> previous = snapshotRepository
+                .findTopByAccountTypeAndAccountOwnerIdOrderByLastEntryIdDesc(type, ownerId);
+        long afterId = previous.map(LedgerSnapshot::getLastEntryId).orElse(0L);
+
+        List<Object[]> rows = entryRepository.summarizeTail(type, ownerId, afterId, horizon);
+        Object[] tail = rows.get(0);
+        long count = (Long) tail[0];
+        if (count < snapshotEveryPostings) {
+            return false;
+        }
+        Long lastEntryId = (Long) tail[2];
+
+        LedgerSnapshot snapshot = new LedgerSnapshot();
+        snapshot.setAccountType(type);
+        snapshot.setAccountOwnerId(ownerId);
+        snapshot.setLastEntryId(lastEntryId);
+        snapshot.setBalance(previous.map(LedgerSnapshot::getBalance).orElse(BigDecimal.ZERO).add((BigDecimal) tail[1]));
+        snapshot.setEntryCount(previous.map(LedgerSnapshot::getEntryCount).orElse(0L) + count);
+        snapshot.setAsOfDatetime(entryRepository.findById(lastEntryId)
+                .map(LedgerEntry::getCreatedAtDatetime)
+                .orElseGet(LocalDateTime::now));
+        try {
+            snapshotRepository.save(snapshot);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // Another instance wrote the same snapshot first
+            logger.debug("Ledger snapshot for {} {} at entry id={} already exists", type, ownerId, lastEntryId);
+            return false;
+        }
+    }
+}
@@ -5,7 +5,6 @@ import com.morago_backend.dto.dtoResponse.NotificationResponseDTO;
 import com.morago_backend.entity.Notification;
 import com.morago_backend.exception.ResourceNotFoundException;
 import com.morago_backend.repository.NotificationRepository;
-import com.corundumstudio.socketio.SocketIOServer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -19,11 +18,11 @@ public class NotificationService {
     private static final Logger logger = LoggerFactory.getLogger(NotificationService.class);
 
     private final NotificationRepository repository;
-    private final SocketIOServer socketServer;
+    private final SocketEventPublisher eventPublisher;
 
-    public NotificationService(NotificationRepository repository, SocketIOServer socketServer) {
+    public NotificationService(NotificationRepository repository, SocketEventPublisher eventPublisher) {
         this.repository = repository;
-        this.socketServer = socketServer;
+        this.eventPublisher = eventPublisher;
     }
 
     // ========== CREATE ==========
@@ -42,12 +41,11 @@ public class NotificationService {
             // ========== SOCKET.IO ==========
             if (saved.getUserId() != null) {
                 // Send to user-specific room
-                socketServer.getRoomOperations("user_" + saved.getUserId())
-                        .sendEvent("notificationCreated", toResponse(saved));
+                eventPublisher.publishToRoom(SocketRooms.user(saved.getUserId()), "notificationCreated", toResponse(saved));
                 logger.info("Notification sent to user room user_{}", saved.getUserId());
             } else {
                 // Broadcast to all users
-                socketServer.getBroadcastOperations().sendEvent("notificationCreated", toResponse(saved));
+                eventPublisher.publish("notificationCreated", toResponse(saved));
                 logger.info("Notification broadcasted to all users");
             }
 
@@ -102,11 +100,10 @@ public class NotificationService {
 
             // ========== SOCKET.IO ==========
             if (saved.getUserId() != null) {
-                socketServer.getRoomOperations("user_" + saved.getUserId())
-                        .sendEvent("notificationUpdated", toResponse(saved));
+                eventPublisher.publishToRoom(SocketRooms.user(saved.getUserId()), "notificationUpdated", toResponse(saved));
                 logger.info("Notification update sent to user room user_{}", saved.getUserId());
             } else {
-                socketServer.getBroadcastOperations().sendEvent("notificationUpdated", toResponse(saved));
+                eventPublisher.publish("notificationUpdated", toResponse(saved));
                 logger.info("Notification update broadcasted to all users");
             }
 
@@ -122,15 +119,19 @@ public class NotificationService {
     public void delete(Long id) {
         try {
             logger.info("Deleting notification with id={}", id);
-            if (!repository.existsById(id)) {
+            Notification existing = repository.findById(id).orElseThrow(() -> {
                 logger.warn("Notification not found with id={}", id);
-                throw new ResourceNotFoundException("Notification not found with id " + id);
-            }
-            repository.deleteById(id);
+                return new ResourceNotFoundException("Notification not found with id " + id);
+            });
+            repository.delete(existing);
 
-            // Broadcast deletion
-            socketServer.getBroadcastOperations().sendEvent("notificationDeleted", id);
-            logger.info("Notification deletion broadcasted, id={}", id);
+            // Same audience as the notification itself
+            if (existing.getUserId() != null) {
+                eventPublisher.publishToRoom(SocketRooms.user(existing.getUserId()), "notificationDeleted", id);
+            } else {
+                eventPublisher.publish("notificationDeleted", id);
+            }
+            logger.info("Notification deletion published, id={}", id);
         } catch (Exception e) {
             logger.error("Error deleting notification with id={}", id, e);
             throw e;
@@ -1,41 +1,43 @@
 package com.morago_backend.service;
 
 import com.morago_backend.dto.dtoResponse.PasswordResetResponseDTO;
-import com.morago_backend.entity.PasswordReset;
 import com.morago_backend.entity.User;
+import com.morago_backend.exception.PasswordHashingUnavailableException;
 import com.morago_backend.exception.ResourceNotFoundException;
-import com.morago_backend.repository.PasswordResetRepository;
 import com.morago_backend.repository.UserRepository;
-import com.corundumstudio.socketio.SocketIOServer;
+import com.morago_backend.security.ResetCode;
+import com.morago_backend.security.ResetCodeStore;
+import com.morago_backend.security.TokenRevocationStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
 import java.util.Random;
 
 @Service
 public class PasswordResetService {
 
     private static final Logger logger = LoggerFactory.getLogger(PasswordResetService.class);
-    private static final int CODE_EXPIRY_MINUTES = 15; // Reset code expires in 15 minutes
     private static final int MAX_ATTEMPTS = 5; // Maximum verification attempts
     private static final Random random = new Random();
 
-    private final PasswordResetRepository repository;
+    private final ResetCodeStore codeStore;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
-    private final SocketIOServer socketServer;
+    private final SocketEventPublisher eventPublisher;
+    private final TokenRevocationStore revocationStore;
 
-    public PasswordResetService(PasswordResetRepository repository,
+    public PasswordResetService(ResetCodeStore codeStore,
                                 UserRepository userRepository,
                                 PasswordEncoder passwordEncoder,
-                                SocketIOServer socketServer) {
-        this.repository = repository;
+                                SocketEventPublisher eventPublisher,
+                                TokenRevocationStore revocationStore) {
+        this.codeStore = codeStore;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
-        this.socketServer = socketServer;
+        this.eventPublisher = eventPublisher;
+        this.revocationStore = revocationStore;
     }
 
     /**
@@ -46,17 +48,6 @@ public class PasswordResetService {
         return 100000 + random.nextInt(900000);
     }
 
-    /**
-     * Check if a reset code has expired
-     */
-    private boolean isCodeExpired(PasswordReset reset) {
-        if (reset.getCreatedAtDatetime() == null) {
-            return true;
-        }
-        LocalDateTime expiryTime = reset.getCreatedAtDatetime().plusMinutes(CODE_EXPIRY_MINUTES);
-        return LocalDateTime.now().isAfter(expiryTime);
-    }
-
     // ========== CREATE RESET REQUEST ==========
     public PasswordResetResponseDTO create(String phone) {
         try {
@@ -69,20 +60,17 @@ public class PasswordResetService {
             // Generate secure random 6-digit code
             Integer resetCode = generateResetCode();
 
-            PasswordReset entity = new PasswordReset();
-            entity.setPhone(phone);
-            entity.setResetCode(resetCode);
-
-            PasswordReset saved = repository.save(entity);
+            // Replaces any earlier code for this phone and resets its attempt counter
+            ResetCode saved = codeStore.issue(phone, resetCode);
 
             // In production, send SMS with the code instead of returning it
             // For now, we return it for testing purposes
             logger.info("Generated reset code for phone={}: {}", phone, resetCode);
             
-            socketServer.getRoomOperations(phone).sendEvent("passwordResetCreated", saved);
+            eventPublisher.publishToRoom(phone, "passwordResetCreated", toDTO(saved));
 
             PasswordResetResponseDTO dto = toDTO(saved);
-            dto.setMessage("Reset code generated and valid for " + CODE_EXPIRY_MINUTES + " minutes. In production, this would be sent via SMS.");
+            dto.setMessage("Reset code generated and valid for " + codeStore.getTtl().toMinutes() + " minutes. In production, this would be sent via SMS.");
             return dto;
         } catch (ResourceNotFoundException e) {
             logger.error("User not found for phone={}: {}", phone, e.getMessage());
@@ -97,22 +85,28 @@ public class PasswordResetService {
     // ========== VERIFY RESET CODE ==========
     public PasswordResetResponseDTO verifyCode(String phone, Integer code) {
         try {
-            PasswordReset reset = repository.findTopByPhoneOrderByCreatedAtDatetimeDesc(phone)
-                    .orElseThrow(() -> new IllegalArgumentException("No active reset request found"));
-
-            // Check if code has expired
-            if (isCodeExpired(reset)) {
-                logger.warn("Expired reset code for phone={}", phone);
-                throw new IllegalArgumentException("Reset code has expired. Please request a new one.");
+            // Count the attempt before comparing, so concurrent guesses cannot all pass a stale check.
+            // Expired codes are never returned by the store
+            ResetCode reset = codeStore.reserveAttempt(phone)
+                    .orElseThrow(() -> new IllegalArgumentException("No active reset request found or the code has expired. Please request a new one."));
+
+            if (reset.failedAttempts() > MAX_ATTEMPTS) {
+                codeStore.remove(phone);
+                throw new IllegalArgumentException("Too many invalid attempts. Please request a new reset code.");
             }
 
             // Verify the code
-            if (!reset.getResetCode().equals(code)) {
-                logger.warn("Invalid reset code attempt for phone={}", phone);
+            if (code == null || reset.code() != code) {
+                logger.warn("Invalid reset code attempt {} of {} for phone={}", reset.failedAttempts(), MAX_ATTEMPTS, phone);
+                if (reset.failedAttempts() >= MAX_ATTEMPTS) {
+                    codeStore.remove(phone);
+                    throw new IllegalArgumentException("Too many invalid attempts. Please request a new reset code.");
+                }
                 throw new IllegalArgumentException("Invalid reset code");
             }
 
-            // Code is valid
+            // Code is valid; the password may now be changed until the code expires
+            codeStore.markVerified(phone);
             logger.info("Reset code verified successfully for phone={}", phone);
             PasswordResetResponseDTO dto = toDTO(reset);
             dto.setMessage("Code verified successfully. You can now reset your password.");
@@ -132,14 +126,12 @@ public class PasswordResetService {
             // Validate password strength
             validatePassword(newPassword);
 
-            // Verify that a valid reset request exists
-            PasswordReset reset = repository.findTopByPhoneOrderByCreatedAtDatetimeDesc(phone)
-                    .orElseThrow(() -> new IllegalArgumentException("No reset request found. Please request a password reset first."));
-
-            // Check if code has expired
-            if (isCodeExpired(reset)) {
-                logger.warn("Attempting to reset password with expired code for phone={}", phone);
-                throw new IllegalArgumentException("Reset session has expired. Please request a new reset code.");
+            // Verify that an unexpired, verified reset request exists
+            ResetCode reset = codeStore.find(phone)
+                    .orElseThrow(() -> new IllegalArgumentException("No active reset request found or the reset session has expired. Please request a new reset code."));
+            if (!reset.verified()) {
+                logger.warn("Attempting to reset password without a verified code for phone={}", phone);
+                throw new IllegalArgumentException("Reset code has not been verified. Please verify the code first.");
             }
 
             // Find user by phone
@@ -150,9 +142,11 @@ public class PasswordResetService {
             String encoded = passwordEncoder.encode(newPassword);
             user.setPassword(encoded);
             userRepository.save(user);
+            // Sessions opened with the old password must not outlive it
+            revocationStore.revokeAllForUser(user.getId());
 
-            // Invalidate the reset request by deleting it
-            repository.delete(reset);
+            // Invalidate the reset request
+            codeStore.remove(phone);
             logger.info("Password reset completed successfully for phone={}", phone);
 
             // Create response DTO
@@ -161,14 +155,15 @@ public class PasswordResetService {
             dto.setMessage("Password updated successfully. You can now log in with your new password.");
 
             // Optional: send event via Socket.IO if needed
-            if (socketServer != null) {
-                socketServer.getRoomOperations(phone).sendEvent("passwordUpdated", dto);
-            }
+            eventPublisher.publishToRoom(phone, "passwordUpdated", dto);
 
             return dto;
         } catch (IllegalArgumentException e) {
             // Re-throw validation errors
             throw e;
+        } catch (PasswordHashingUnavailableException e) {
+            // Hashing pool saturated: surfaces as 503 rather than a generic failure
+            throw e;
         } catch (Exception e) {
             logger.error("Error updating password for phone={}: {}", phone, e.getMessage(), e);
             throw new RuntimeException("Failed to update password");
@@ -211,13 +206,13 @@ public class PasswordResetService {
     }
 
     // ========== MAPPER ==========
-    private PasswordResetResponseDTO toDTO(PasswordReset entity) {
+    private PasswordResetResponseDTO toDTO(ResetCode reset) {
         PasswordResetResponseDTO dto = new PasswordResetResponseDTO();
-        dto.setId(entity.getId());
-        dto.setPhone(entity.getPhone());
-        dto.setResetCode(entity.getResetCode());
-        dto.setCreatedAtDatetime(entity.getCreatedAtDatetime());
-        dto.setUpdatedAtDatetime(entity.getUpdatedAtDatetime());
+        dto.setId(reset.id());
+        dto.setPhone(reset.phone());
+        dto.setResetCode(reset.code());
+        dto.setCreatedAtDatetime(reset.createdAt());
+        dto.setUpdatedAtDatetime(reset.createdAt());
         return dto;
     }
 }
@@ -5,11 +5,12 @@ import com.morago_backend.dto.dtoResponse.RatingResponseDTO;
 import com.morago_backend.entity.Rating;
 import com.morago_backend.exception.ResourceNotFoundException;
 import com.morago_backend.repository.RatingRepository;
-import com.corundumstudio.socketio.SocketIOServer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -19,22 +20,28 @@ public class RatingService {
     private static final Logger logger = LoggerFactory.getLogger(RatingService.class);
 
     private final RatingRepository ratingRepository;
-    private final SocketIOServer socketServer;
+    private final SocketEventPublisher eventPublisher;
+    private final RatingSummaryService ratingSummaryService;
 
-    public RatingService(RatingRepository ratingRepository, SocketIOServer socketServer) {
+    public RatingService(RatingRepository ratingRepository, SocketEventPublisher eventPublisher,
+                         RatingSummaryService ratingSummaryService) {
         this.ratingRepository = ratingRepository;
-        this.socketServer = socketServer;
+        this.eventPublisher = eventPublisher;
+        this.ratingSummaryService = ratingSummaryService;
     }
 
     // ========== CREATE ==========
+    @Transactional
     public RatingResponseDTO create(RatingRequestDTO dto) {
         try {
             logger.info("Creating rating from user {} to user {}", dto.getWhoUserId(), dto.getToWhomUserId());
             Rating entity = mapToEntity(dto);
             Rating saved = ratingRepository.save(entity);
-            socketServer.getBroadcastOperations().sendEvent("ratingCreated", saved);
+            ratingSummaryService.onRatingCreated(saved);
+            RatingResponseDTO response = mapToResponse(saved);
+            eventPublisher.publishToRooms(SocketRooms.usersAndAdmins(saved.getWhoUserId(), saved.getToWhomUserId()), "ratingCreated", response);
             logger.info("Rating created with id={}", saved.getId());
-            return mapToResponse(saved);
+            return response;
         } catch (Exception e) {
             logger.error("Error creating rating from user {} to user {}", dto.getWhoUserId(), dto.getToWhomUserId(), e);
             throw e;
@@ -68,20 +75,25 @@ public class RatingService {
     }
 
     // ========== UPDATE ==========
+    @Transactional
     public RatingResponseDTO update(Long id, RatingRequestDTO dto) {
         try {
             logger.info("Updating rating with id={}", id);
             Rating existing = ratingRepository.findById(id)
                     .orElseThrow(() -> new ResourceNotFoundException("Rating not found with id " + id));
+            Long previousUserId = existing.getToWhomUserId();
+            BigDecimal previousGrade = existing.getGrade();
 
             existing.setWhoUserId(dto.getWhoUserId());
             existing.setToWhomUserId(dto.getToWhomUserId());
             existing.setGrade(dto.getGrade());
 
             Rating saved = ratingRepository.save(existing);
-            socketServer.getBroadcastOperations().sendEvent("ratingUpdated", saved);
+            ratingSummaryService.onRatingUpdated(previousUserId, previousGrade, saved);
+            RatingResponseDTO response = mapToResponse(saved);
+            eventPublisher.publishToRooms(SocketRooms.usersAndAdmins(previousUserId, saved.getWhoUserId(), saved.getToWhomUserId()), "ratingUpdated", response);
             logger.info("Rating updated with id={}", saved.getId());
-            return mapToResponse(saved);
+            return response;
         } catch (Exception e) {
             logger.error("Error updating rating with id={}", id, e);
             throw e;
@@ -89,15 +101,18 @@ public class RatingService {
     }
 
     // ========== DELETE ==========
+    @Transactional
     public void delete(Long id) {
         try {
             logger.info("Deleting rating with id={}", id);
-            if (!ratingRepository.existsById(id)) {
+            Rating existing = ratingRepository.findById(id).orElse(null);
+            if (existing == null) {
                 logger.warn("Rating not found with id={}", id);
                 throw new ResourceNotFoundException("Rating not found with id " + id);
             }
-            ratingRepository.deleteById(id);
-            socketServer.getBroadcastOperations().sendEvent("ratingDeleted", id);
+            ratingRepository.delete(existing);
+            ratingSummaryService.onRatingDeleted(existing);
+            eventPublisher.publishToRooms(SocketRooms.usersAndAdmins(existing.getWhoUserId(), existing.getToWhomUserId()), "ratingDeleted", id);
             logger.info("Rating deleted with id={}", id);
         } catch (Exception e) {
             logger.error("Error deleting rating with id={}", id, e);
@@ -0,0 +1,89 @@
+package com.morago_backend.service;
+
+import com.morago_backend.entity.Rating;
+import com.morago_backend.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Keeps users.ratings (average), users.total_ratings and users.rating_sum in step with the ratings table.
+ * Deltas are applied with a single UPDATE inside the caller's transaction, so the summary commits or rolls
+ * back together with the rating row itself.
+ */
+@Service
+public class RatingSummaryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RatingSummaryService.class);
+
+    private final UserRepository userRepository;
+
+    public RatingSummaryService(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    // ========== RATING CREATED ==========
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onRatingCreated(Rating rating) {
+        if (rating.getGrade() != null) {
+            applyDelta(rating.getToWhomUserId(), rating.getGrade(), 1);
+        }
+    }
+
+    // ========== RATING UPDATED ==========
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onRatingUpdated(Long previousUserId, BigDecimal previousGrade, Rating rating) {
+        Long userId = rating.getToWhomUserId();
+        BigDecimal grade = rating.getGrade();
+
+        if (Objects.equals(previousUserId, userId) && previousGrade != null && grade != null) {
+            // Same recipient: only the sum (and therefore the average) moves
+            applyDelta(userId, grade.subtract(previousGrade), 0);
+            return;
+        }
+        if (previousGrade != null) {
+            applyDelta(previousUserId, previousGrade.negate(), -1);
+        }
+        if (grade != null) {
+            applyDelta(userId, grade, 1);
+        }
+    }
+
+    // ========== RATING DELETED ==========
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onRatingDeleted(Rating rating) {
+        if (rating.getGrade() != null) {
+            applyDelta(rating.getToWhomUserId(), rating.getGrade().negate(), -1);
+        }
+    }
+
+    // ========== RECONCILE ==========
+    @Scheduled(cron = "${ratings.summary.reconcile-cron:0 30 3 * * *}")
+    @Transactional
+    public void reconcileAll() {
+        try {
+            logger.info("Rebuilding rating summaries from ratings table");
+            int updated = userRepository.rebuildRatingSummaries();
+            logger.info("Rating summaries rebuilt for {} users", updated);
+        } catch (Exception e) {
+            logger.error("Error rebuilding rating summaries", e);
+            throw e;
+        }
+    }
+
+    private void applyDelta(Long userId, BigDecimal gradeDelta, int countDelta) {
+        if (userId == null || (countDelta == 0 && gradeDelta.signum() == 0)) {
+            return;
+        }
+        int updated = userRepository.applyRatingDelta(userId, gradeDelta, countDelta);
+        if (updated == 0) {
+            logger.warn("Rating summary not updated, user not found id={}", userId);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.morago_backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.morago_backend.dto.dtoResponse.CallRecordExportRow;
+import com.morago_backend.dto.dtoResponse.TransactionExportRow;
+import com.morago_backend.repository.CallRecordRepository;
+import com.morago_backend.repository.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Writes report exports row by row from a forward-only database cursor, so heap use does not grow with the
+ * export size and the first bytes leave as soon as the query returns. Called from a StreamingResponseBody,
+ * i.e. on an async request thread; the read-only transaction (and its connection) is held until the last row.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReportExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReportExportService.class);
+
+    // Rows between explicit flushes; with a sync-flushing gzip stream each flush also emits compressed bytes
+    private static final int FLUSH_EVERY_ROWS = 1000;
+
+    private static final String[] TRANSACTION_HEADER = {
+            "id", "userId", "transactionType", "amount", "balanceBefore", "balanceAfter", "status",
+            "description", "depositId", "withdrawalId", "callRecordId", "createdAt"
+    };
+
+    private static final String[] CALL_RECORD_HEADER = {
+            "id", "callerUserId", "recipientUserId", "themeId", "durationSeconds", "sum", "commission",
+            "callStatus", "status", "createdAt"
+    };
+
+    private final TransactionRepository transactionRepository;
+    private final CallRecordRepository callRecordRepository;
+    private final ObjectMapper objectMapper;
+
+    // ========== TRANSACTIONS ==========
+    @Transactional(readOnly = true)
+    public long exportTransactions(Long userId, LocalDateTime from, LocalDateTime to,
+                                   ExportFormat format, OutputStream out) throws IOException {
+        long startedAt = System.currentTimeMillis();
+        try (Stream<TransactionExportRow> rows = transactionRepository.streamForExport(userId, from, to)) {
+            long written = write(rows, format, TRANSACTION_HEADER, row -> new Object[]{
+                    row.id(), row.userId(), row.transactionType(), row.amount(), row.balanceBefore(),
+                    row.balanceAfter(), row.status(), row.description(), row.depositId(), row.withdrawalId(),
+                    row.callRecordId(), row.createdAt()
+            }, out);
+            logger.info("Exported {} transactions as {} (userId={}, from={}, to={}) in {} ms",
+                    written, format, userId, from, to, System.currentTimeMillis() - startedAt);
+            return written;
+        } catch (IOException e) {
+            logger.warn("Transaction export aborted: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    // ========== CALL RECORDS ==========
+    @Transactional(readOnly = true)
+    public long exportCallRecords(LocalDateTime from, LocalDateTime to,
+                                  ExportFormat format, OutputStream out) throws IOException {
+        long startedAt = System.currentTimeMillis();
+        try (Stream<CallRecordExportRow> rows = callRecordRepository.streamForExport(from, to)) {
+            long written = write(rows, format, CALL_RECORD_HEADER, row -> new Object[]{
+                    row.id(), row.callerUserId(), row.recipientUserId(), row.themeId(), row.durationSeconds(),
+                    row.sum(), row.commission(), row.callStatus(), row.status(), row.createdAt()
+            }, out);
+            logger.info("Exported {} call records as {} (from={}, to={}) in {} ms",
+                    written, format, from, to, System.currentTimeMillis() - startedAt);
+            return written;
+        } catch (IOException e) {
+            logger.warn("Call record export aborted: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    // ========== WRITING ==========
+    private <T> long write(Stream<T> rows, ExportFormat format, String[] header,
+                           Function<T, Object[]> columns, OutputStream out) throws IOException {
+        // Not closed: closing would close the response stream, which belongs to the caller
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+        if (format == ExportFormat.CSV) {
+            writeCsvLine(writer, header);
+        }
+        writer.flush();
+
+        long count = 0;
+        Iterator<T> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            T row = iterator.next();
+            if (format == ExportFormat.CSV) {
+                writeCsvLine(writer, columns.apply(row));
+            } else {
+                writer.write(objectMapper.writeValueAsString(row));
+                writer.write('\n');
+            }
+            if (++count % FLUSH_EVERY_ROWS == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+        return count;
+    }
+
+    private static void writeCsvLine(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvField(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    private static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof LocalDateTime) {
+            return value.toString();
+        }
+        String text = value.toString();
+        // Free text opened in a spreadsheet must not be evaluated as a formula
+        if (!text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
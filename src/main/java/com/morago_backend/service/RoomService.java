@@ -8,13 +8,15 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 public class RoomService {
 
     private static final Logger logger = LoggerFactory.getLogger(RoomService.class);
 
-    private final Map<String, Room> rooms = new HashMap<>();
+    // Room metadata is kept per node; live seats are tracked by RoomRegistry
+    private final Map<String, Room> rooms = new ConcurrentHashMap<>();
 
     // ========== CREATE ROOM ==========
     public RoomResponseDTO createRoom(RoomRequestDTO request) {
@@ -0,0 +1,148 @@
+package com.morago_backend.service;
+
+import com.morago_backend.dto.dtoResponse.CallSettlementResponseDTO;
+import com.morago_backend.entity.CallRecord;
+import com.morago_backend.entity.SettlementOutbox;
+import com.morago_backend.repository.CallRecordRepository;
+import com.morago_backend.repository.SettlementOutboxRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Drains settlement_outbox. A batch of pending calls is claimed with SKIP LOCKED (so several instances can
+ * run side by side) and settled in one transaction, letting Hibernate group the outbox and balance writes into
+ * JDBC batches. If the batch fails, its calls are retried one transaction each so a single bad call cannot
+ * block the others; a call that keeps failing is marked FAILED after settlement.async.max-attempts.
+ */
+@Component
+@ConditionalOnProperty(name = "settlement.async.enabled", havingValue = "true")
+public class SettlementWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(SettlementWorker.class);
+
+    private final SettlementOutboxRepository outboxRepository;
+    private final CallRecordRepository callRecordRepository;
+    private final CallSettlementService callSettlementService;
+    private final TransactionTemplate transactionTemplate;
+    private final SocketEventPublisher eventPublisher;
+    private final int batchSize;
+    private final int maxAttempts;
+
+    public SettlementWorker(SettlementOutboxRepository outboxRepository,
+                            CallRecordRepository callRecordRepository,
+                            CallSettlementService callSettlementService,
+                            TransactionTemplate transactionTemplate,
+                            SocketEventPublisher eventPublisher,
+                            @Value("${settlement.async.batch-size:50}") int batchSize,
+                            @Value("${settlement.async.max-attempts:5}") int maxAttempts) {
+        this.outboxRepository = outboxRepository;
+        this.callRecordRepository = callRecordRepository;
+        this.callSettlementService = callSettlementService;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+    }
+
+    // ========== DRAIN ==========
+    @Scheduled(fixedDelayString = "${settlement.async.poll-interval-ms:1000}")
+    public void drain() {
+        try {
+            int processed;
+            do {
+                processed = drainBatch();
+            } while (processed == batchSize);
+        } catch (Exception e) {
+            logger.error("Error draining settlement outbox", e);
+        }
+    }
+
+    private int drainBatch() {
+        List<Long> claimedIds = new ArrayList<>();
+        List<CallSettlementResponseDTO> results = new ArrayList<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (SettlementOutbox entry : outboxRepository.claimByStatus(CallSettlementService.OUTBOX_PENDING, Pageable.ofSize(batchSize))) {
+                    claimedIds.add(entry.getId());
+                    results.add(settle(entry));
+                }
+            });
+        } catch (Exception e) {
+            logger.warn("Settlement batch of {} calls failed, retrying one by one", claimedIds.size(), e);
+            results.clear();
+            for (Long outboxId : claimedIds) {
+                settleAlone(outboxId).ifPresent(results::add);
+            }
+        }
+
+        // Only announced once the balances are committed
+        for (CallSettlementResponseDTO result : results) {
+            eventPublisher.publishToRooms(
+                    SocketRooms.usersAndAdmins(result.getCallerUserId(), result.getRecipientUserId()), "callSettled", result);
+        }
+        if (!claimedIds.isEmpty()) {
+            logger.info("Settled batch of {} calls", claimedIds.size());
+        }
+        return claimedIds.size();
+    }
+
+    private Optional<CallSettlementResponseDTO> settleAlone(Long outboxId) {
+        try {
+            return Optional.ofNullable(transactionTemplate.execute(status ->
+                    outboxRepository.findForUpdateById(outboxId)
+                            .filter(entry -> CallSettlementService.OUTBOX_PENDING.equals(entry.getStatus()))
+                            .map(this::settle)
+                            .orElse(null)));
+        } catch (Exception e) {
+            logger.error("Settlement failed for outbox id={}", outboxId, e);
+            return Optional.ofNullable(transactionTemplate.execute(status -> recordFailure(outboxId, e)));
+        }
+    }
+
+    // ========== HELPERS ==========
+    private CallSettlementResponseDTO settle(SettlementOutbox entry) {
+        entry.setAttempts(entry.getAttempts() + 1);
+        Optional<CallRecord> call = callRecordRepository.findForUpdateById(entry.getCallRecordId());
+        if (call.isEmpty()) {
+            entry.setStatus(CallSettlementService.OUTBOX_FAILED);
+            entry.setLastError("Call record not found");
+            return new CallSettlementResponseDTO(entry.getCallRecordId(), null, null, CallSettlementService.FAILED);
+        }
+        callSettlementService.settle(call.get());
+        entry.setStatus(CallSettlementService.OUTBOX_DONE);
+        entry.setLastError(null);
+        return toResult(call.get(), CallSettlementService.SETTLED);
+    }
+
+    /** Counts the failed attempt; returns a FAILED result once the call has run out of attempts */
+    private CallSettlementResponseDTO recordFailure(Long outboxId, Exception error) {
+        SettlementOutbox entry = outboxRepository.findForUpdateById(outboxId).orElse(null);
+        if (entry == null || !CallSettlementService.OUTBOX_PENDING.equals(entry.getStatus())) {
+            return null;
+        }
+        entry.setAttempts(entry.getAttempts() + 1);
+        String message = String.valueOf(error.getMessage());
+        entry.setLastError(message.length() > 1000 ? message.substring(0, 1000) : message);
+        if (entry.getAttempts() < maxAttempts) {
+            return null;
+        }
+        entry.setStatus(CallSettlementService.OUTBOX_FAILED);
+        return callRecordRepository.findById(entry.getCallRecordId())
+                .map(call -> toResult(call, CallSettlementService.FAILED))
+                .orElseGet(() -> new CallSettlementResponseDTO(entry.getCallRecordId(), null, null, CallSettlementService.FAILED));
+    }
+
+    private CallSettlementResponseDTO toResult(CallRecord call, String settlementStatus) {
+        return new CallSettlementResponseDTO(call.getId(), call.getCallerUserId(), call.getRecipientUserId(), settlementStatus);
+    }
+}
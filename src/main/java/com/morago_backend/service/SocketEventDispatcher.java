@@ -0,0 +1,225 @@
+package com.morago_backend.service;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.SocketIOServer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.morago_backend.entity.SocketEventOutbox;
+import com.morago_backend.repository.SocketEventOutboxRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Sends committed Socket.IO events on a dedicated thread. Events queued while the previous batch was being sent
+ * are drained together, and within a batch repeated events for the same target and entity collapse into the
+ * latest one.
+ * <p>
+ * An outbox row is sent by whoever holds its row lock: the after-commit batch and the sweep both lock their rows
+ * with SKIP LOCKED, send them and delete them in the same transaction, so a row is never sent by two instances.
+ * Sending is node-local: events go to the sockets connected to the instance that sends them, so with several
+ * Socket.IO nodes a client only receives the events dispatched by the node it is connected to.
+ */
+@Component
+public class SocketEventDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(SocketEventDispatcher.class);
+
+    /** Event ready to send; {@code outboxId} is null for events that were never written to the outbox */
+    public record PendingEvent(Long outboxId, String name, String payload, List<String> rooms) {
+    }
+
+    private final SocketIOServer socketServer;
+    private final SocketEventOutboxRepository outboxRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final long sweepAgeMs;
+
+    private final BlockingQueue<PendingEvent> queue = new LinkedBlockingQueue<>();
+    // Outbox rows queued on this instance; the local sweep leaves them to the dispatch loop
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private Thread worker;
+    private volatile boolean running;
+
+    public SocketEventDispatcher(SocketIOServer socketServer,
+                                 SocketEventOutboxRepository outboxRepository,
+                                 TransactionTemplate transactionTemplate,
+                                 ObjectMapper objectMapper,
+                                 @Value("${socket.events.batch-size:200}") int batchSize,
+                                 @Value("${socket.events.sweep-age-ms:30000}") long sweepAgeMs) {
+        this.socketServer = socketServer;
+        this.outboxRepository = outboxRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.sweepAgeMs = sweepAgeMs;
+    }
+
+    // ========== LIFECYCLE ==========
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "socket-event-dispatcher");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        worker.interrupt();
+    }
+
+    public void enqueue(PendingEvent event) {
+        if (event.outboxId() != null) {
+            inFlight.add(event.outboxId());
+        }
+        queue.offer(event);
+    }
+
+    // ========== DISPATCH LOOP ==========
+    private void run() {
+        List<PendingEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, batchSize - 1);
+                dispatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                logger.error("Error dispatching socket events", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // Outbox rows are claimed before sending; the ones another instance's sweep already took are left to it
+    private void dispatch(List<PendingEvent> batch) {
+        List<Long> ids = batch.stream().map(PendingEvent::outboxId).filter(id -> id != null).toList();
+        if (ids.isEmpty()) {
+            send(batch);
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<SocketEventOutbox> claimed = outboxRepository.claimByIds(ids);
+                Set<Long> claimedIds = new HashSet<>();
+                claimed.forEach(row -> claimedIds.add(row.getId()));
+                send(batch.stream()
+                        .filter(event -> event.outboxId() == null || claimedIds.contains(event.outboxId()))
+                        .toList());
+                outboxRepository.deleteAllInBatch(claimed);
+            });
+        } finally {
+            ids.forEach(inFlight::remove);
+        }
+    }
+
+    // ========== SWEEP ==========
+    /** Sends and removes outbox rows whose after-commit dispatch never happened */
+    @Scheduled(fixedDelayString = "${socket.events.sweep-interval-ms:10000}",
+            initialDelayString = "${socket.events.sweep-interval-ms:10000}")
+    public void sweep() {
+        try {
+            Integer swept = transactionTemplate.execute(status -> {
+                LocalDateTime before = LocalDateTime.now().minusNanos(sweepAgeMs * 1_000_000);
+                List<SocketEventOutbox> rows = outboxRepository.claimCreatedBefore(before, Pageable.ofSize(batchSize));
+                List<PendingEvent> events = new ArrayList<>();
+                List<SocketEventOutbox> claimed = new ArrayList<>();
+                for (SocketEventOutbox row : rows) {
+                    if (!inFlight.contains(row.getId())) {
+                        events.add(toPendingEvent(row));
+                        claimed.add(row);
+                    }
+                }
+                send(events);
+                outboxRepository.deleteAllInBatch(claimed);
+                return claimed.size();
+            });
+            if (swept != null && swept > 0) {
+                logger.info("Socket event sweep dispatched {} leftover events", swept);
+            }
+        } catch (Exception e) {
+            logger.error("Error sweeping socket event outbox", e);
+        }
+    }
+
+    // ========== HELPERS ==========
+    private void send(List<PendingEvent> events) {
+        for (Map.Entry<PendingEvent, JsonNode> entry : coalesce(events).values()) {
+            PendingEvent event = entry.getKey();
+            try {
+                if (event.rooms().isEmpty()) {
+                    socketServer.getBroadcastOperations().sendEvent(event.name(), entry.getValue());
+                } else if (event.rooms().size() == 1) {
+                    socketServer.getRoomOperations(event.rooms().get(0)).sendEvent(event.name(), entry.getValue());
+                } else {
+                    // A socket in several target rooms (e.g. its own user room and admins) gets the event once
+                    Map<UUID, SocketIOClient> recipients = new LinkedHashMap<>();
+                    for (String room : event.rooms()) {
+                        for (SocketIOClient client : socketServer.getRoomOperations(room).getClients()) {
+                            recipients.putIfAbsent(client.getSessionId(), client);
+                        }
+                    }
+                    for (SocketIOClient client : recipients.values()) {
+                        client.sendEvent(event.name(), entry.getValue());
+                    }
+                }
+            } catch (Exception e) {
+                logger.error("Error sending socket event {} to {}", event.name(), event.rooms(), e);
+            }
+        }
+    }
+
+    /**
+     * Keeps one event per (name, rooms, payload id), holding the position of the first and the payload of the last.
+     * Payloads without an id only collapse when identical.
+     */
+    private Map<String, Map.Entry<PendingEvent, JsonNode>> coalesce(List<PendingEvent> events) {
+        Map<String, Map.Entry<PendingEvent, JsonNode>> latest = new LinkedHashMap<>();
+        for (PendingEvent event : events) {
+            JsonNode payload;
+            try {
+                payload = objectMapper.readTree(event.payload());
+            } catch (Exception e) {
+                logger.error("Dropping socket event {} with unreadable payload", event.name(), e);
+                continue;
+            }
+            String identity = payload != null && payload.isObject() && payload.hasNonNull("id")
+                    ? "id:" + payload.get("id").asText()
+                    : event.payload();
+            latest.put(event.name() + '|' + event.rooms() + '|' + identity, Map.entry(event, payload));
+        }
+        return latest;
+    }
+
+    private PendingEvent toPendingEvent(SocketEventOutbox row) {
+        List<String> rooms = row.getTargetRooms() == null || row.getTargetRooms().isBlank()
+                ? List.of()
+                : Arrays.asList(row.getTargetRooms().split(","));
+        return new PendingEvent(row.getId(), row.getEventName(), row.getPayload(), rooms);
+    }
+}
@@ -0,0 +1,95 @@
+package com.morago_backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.morago_backend.entity.SocketEventOutbox;
+import com.morago_backend.repository.SocketEventOutboxRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Single entry point for server-to-client Socket.IO events. Inside a read-write transaction the event is written
+ * to socket_event_outbox and handed to the {@link SocketEventDispatcher} only after commit, so rolled-back changes
+ * are never announced and the request thread never pays for the fan-out. Outside a transaction the event is
+ * handed over immediately.
+ */
+@Component
+public class SocketEventPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(SocketEventPublisher.class);
+
+    private final SocketEventOutboxRepository outboxRepository;
+    private final SocketEventDispatcher dispatcher;
+    private final ObjectMapper objectMapper;
+
+    public SocketEventPublisher(SocketEventOutboxRepository outboxRepository,
+                                SocketEventDispatcher dispatcher,
+                                ObjectMapper objectMapper) {
+        this.outboxRepository = outboxRepository;
+        this.dispatcher = dispatcher;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Event for every connected client. Prefer {@link #publishToRooms} (see {@link SocketRooms}) unless the event
+     * really concerns everyone, such as catalog changes.
+     */
+    public void publish(String event, Object payload) {
+        enqueue(List.of(), event, payload);
+    }
+
+    public void publishToRoom(String room, String event, Object payload) {
+        publishToRooms(List.of(room), event, payload);
+    }
+
+    /** Event for the clients in the given rooms; a client in several of them receives it once */
+    public void publishToRooms(Collection<String> rooms, String event, Object payload) {
+        if (rooms.isEmpty()) {
+            logger.debug("Socket event {} has no target rooms, skipping", event);
+            return;
+        }
+        enqueue(List.copyOf(rooms), event, payload);
+    }
+
+    // Empty targetRooms means broadcast
+    private void enqueue(List<String> targetRooms, String event, Object payload) {
+        String json = toJson(event, payload);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatcher.enqueue(new SocketEventDispatcher.PendingEvent(null, event, json, targetRooms));
+            return;
+        }
+
+        Long outboxId = null;
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            SocketEventOutbox row = new SocketEventOutbox();
+            row.setEventName(event);
+            row.setPayload(json);
+            row.setTargetRooms(targetRooms.isEmpty() ? null : String.join(",", targetRooms));
+            outboxId = outboxRepository.save(row).getId();
+        }
+
+        SocketEventDispatcher.PendingEvent pending = new SocketEventDispatcher.PendingEvent(outboxId, event, json, targetRooms);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatcher.enqueue(pending);
+            }
+        });
+    }
+
+    private String toJson(String event, Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize payload of socket event " + event, e);
+        }
+    }
+}
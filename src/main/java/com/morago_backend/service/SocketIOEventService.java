@@ -5,7 +5,16 @@ import com.corundumstudio.socketio.SocketIOServer;
 import com.corundumstudio.socketio.listener.ConnectListener;
 import com.corundumstudio.socketio.listener.DisconnectListener;
 import com.corundumstudio.socketio.annotation.OnEvent;
+import com.morago_backend.signaling.IceCandidateCoalescer;
+import com.morago_backend.signaling.RoomRegistry;
+import com.morago_backend.signaling.SignalTarget;
+import com.morago_backend.signaling.SignalingBus;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import jakarta.annotation.PostConstruct;
@@ -13,26 +22,41 @@ import jakarta.annotation.PostConstruct;
 @Service
 public class SocketIOEventService {
 
+    private static final Logger logger = LoggerFactory.getLogger(SocketIOEventService.class);
+
+    private static final String CALLS_NAMESPACE = "/calls";
+
     private final SocketIOServer server;
+    private final RoomRegistry roomRegistry;
+    private final SignalingBus signalingBus;
+    private final IceCandidateCoalescer candidateCoalescer;
     private SocketIONamespace notificationsNs;
     private SocketIONamespace callsNs;
 
-    public SocketIOEventService(SocketIOServer server) {
+    public SocketIOEventService(SocketIOServer server,
+                                RoomRegistry roomRegistry,
+                                SignalingBus signalingBus,
+                                IceCandidateCoalescer candidateCoalescer) {
         this.server = server;
+        this.roomRegistry = roomRegistry;
+        this.signalingBus = signalingBus;
+        this.candidateCoalescer = candidateCoalescer;
     }
 
     @PostConstruct
     public void init() {
         this.notificationsNs = server.addNamespace("/notifications");
-        this.callsNs = server.addNamespace("/calls");
+        this.callsNs = server.addNamespace(CALLS_NAMESPACE);
 
         ConnectListener commonConnect = client -> { };
         DisconnectListener commonDisconnect = client -> { };
 
         notificationsNs.addConnectListener(commonConnect);
         notificationsNs.addDisconnectListener(commonDisconnect);
-        callsNs.addConnectListener(commonConnect);
-        callsNs.addDisconnectListener(commonDisconnect);
+        // Call peers may be connected to another node; the registry records where each session lives.
+        // Keyed by namespace, so leaving /calls does not free the client's seats in the default namespace
+        callsNs.addConnectListener(client -> roomRegistry.attach(CALLS_NAMESPACE, client.getSessionId()));
+        callsNs.addDisconnectListener(client -> roomRegistry.detach(CALLS_NAMESPACE, client.getSessionId()));
     }
 
     @OnEvent("notify")
@@ -43,22 +67,56 @@ public class SocketIOEventService {
     // Call signaling events for WebRTC: offer, answer, candidate, hangup
     @OnEvent("offer")
     public void onOffer(com.corundumstudio.socketio.SocketIOClient client, SignalPayload payload) {
-        callsNs.getClient(UUID.fromString(payload.getTo())).sendEvent("offer", payload);
+        route("offer", payload);
     }
 
     @OnEvent("answer")
     public void onAnswer(com.corundumstudio.socketio.SocketIOClient client, SignalPayload payload) {
-        callsNs.getClient(UUID.fromString(payload.getTo())).sendEvent("answer", payload);
+        route("answer", payload);
     }
 
+    // Trickled candidates are coalesced per (sender, peer) into one "candidates" event
     @OnEvent("candidate")
     public void onCandidate(com.corundumstudio.socketio.SocketIOClient client, SignalPayload payload) {
-        callsNs.getClient(UUID.fromString(payload.getTo())).sendEvent("candidate", payload);
+        if (!candidateCoalescer.isEnabled()) {
+            candidateCoalescer.recordUnbatched();
+            route("candidate", payload);
+            return;
+        }
+        candidateCoalescer.add(List.of(client.getSessionId(), payload.getTo()), payload.getData(), isEndOfCandidates(payload),
+                (List<Object> batch) -> route("candidates", new SignalBatch(payload.getFrom(), payload.getTo(), batch)));
     }
 
     @OnEvent("hangup")
     public void onHangup(com.corundumstudio.socketio.SocketIOClient client, SignalPayload payload) {
-        callsNs.getClient(UUID.fromString(payload.getTo())).sendEvent("hangup", payload);
+        route("hangup", payload);
+    }
+
+    // Sends to the peer session on whichever node it is connected to
+    private void route(String event, SignalPayload payload) {
+        route(event, payload.getTo(), payload);
+    }
+
+    private void route(String event, String to, Object payload) {
+        UUID target = UUID.fromString(to);
+        Optional<String> nodeId = roomRegistry.locate(CALLS_NAMESPACE, target);
+        if (nodeId.isEmpty()) {
+            logger.debug("Dropping {} for session {}: not connected", event, target);
+            return;
+        }
+        signalingBus.send(new SignalTarget(nodeId.get(), CALLS_NAMESPACE, target), event, payload);
+    }
+
+    // A null or empty candidate is the sender's end-of-candidates marker
+    private static boolean isEndOfCandidates(SignalPayload payload) {
+        if (payload.getData() == null) {
+            return true;
+        }
+        if (payload.getData() instanceof Map<?, ?> data) {
+            Object candidate = data.get("candidate");
+            return candidate == null || candidate.toString().isEmpty();
+        }
+        return false;
     }
 
     public static class SignalPayload {
@@ -73,6 +131,22 @@ public class SocketIOEventService {
         public Object getData() { return data; }
         public void setData(Object data) { this.data = data; }
     }
+
+    public static class SignalBatch {
+        private String from;
+        private String to;
+        private List<Object> candidates;
+
+        public SignalBatch(String from, String to, List<Object> candidates) {
+            this.from = from;
+            this.to = to;
+            this.candidates = candidates;
+        }
+
+        public String getFrom() { return from; }
+        public String getTo() { return to; }
+        public List<Object> getCandidates() { return candidates; }
+    }
 }
 
 
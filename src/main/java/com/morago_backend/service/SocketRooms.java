@@ -0,0 +1,52 @@
+package com.morago_backend.service;
+
+import com.morago_backend.entity.UserRole;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Socket.IO room names. Every authenticated socket joins its own {@code user_{id}} room and one room per role,
+ * so events can be routed to the users concerned instead of broadcast to every connection.
+ */
+public final class SocketRooms {
+
+    public static final String ADMINS = "admins";
+    public static final String INTERPRETERS = "interpreters";
+    public static final String CLIENTS = "clients";
+
+    private SocketRooms() {
+    }
+
+    public static String user(Long userId) {
+        return "user_" + userId;
+    }
+
+    /** Role room for a role name from the JWT, or null for unknown roles */
+    public static String forRole(String role) {
+        if (UserRole.ADMINISTRATOR.name().equals(role)) return ADMINS;
+        if (UserRole.INTERPRETER.name().equals(role)) return INTERPRETERS;
+        if (UserRole.CLIENT.name().equals(role)) return CLIENTS;
+        return null;
+    }
+
+    /** Rooms of the given users (null ids are skipped) */
+    public static List<String> users(Long... userIds) {
+        Set<String> rooms = new LinkedHashSet<>();
+        for (Long userId : userIds) {
+            if (userId != null) {
+                rooms.add(user(userId));
+            }
+        }
+        return new ArrayList<>(rooms);
+    }
+
+    /** Rooms of the given users plus the admins room */
+    public static List<String> usersAndAdmins(Long... userIds) {
+        List<String> rooms = users(userIds);
+        rooms.add(ADMINS);
+        return rooms;
+    }
+}
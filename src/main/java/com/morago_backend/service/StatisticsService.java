@@ -0,0 +1,195 @@
+package com.morago_backend.service;
+
+import com.morago_backend.dto.dtoResponse.CallStatisticsResponseDTO;
+import com.morago_backend.dto.dtoResponse.WithdrawalBacklogResponseDTO;
+import com.morago_backend.entity.CallRecord;
+import com.morago_backend.repository.CallStatisticsDailyRepository;
+import com.morago_backend.repository.InterpreterActivityDailyRepository;
+import com.morago_backend.repository.WithdrawalRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Admin dashboard figures. Call figures come from daily rollups that settlement increments in its own
+ * transaction, so a report aggregates at most one row per day and theme instead of scanning calls and
+ * transactions; the withdrawal backlog is read live since only pending rows are involved.
+ */
+@Service
+@RequiredArgsConstructor
+public class StatisticsService {
+
+    // Rollup theme id for calls without a theme (the unique key cannot hold NULL)
+    private static final long NO_THEME = 0L;
+
+    private static final BigDecimal SECONDS_PER_MINUTE = BigDecimal.valueOf(60);
+
+    public enum Grouping {
+        DAY, WEEK, THEME;
+
+        public static Grouping parse(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Unsupported grouping: " + value + ". Allowed: day, week, theme");
+            }
+        }
+    }
+
+    private final CallStatisticsDailyRepository callStatisticsRepository;
+    private final InterpreterActivityDailyRepository activityRepository;
+    private final WithdrawalRepository withdrawalRepository;
+
+    private static final Logger logger = LoggerFactory.getLogger(StatisticsService.class);
+
+    // ========== ROLLUP UPDATES ==========
+    /**
+     * Adds a call to its day/theme bucket. Runs in the settlement transaction, so the rollup only moves when the
+     * balances do: a failed settlement rolls it back. Only calls billed with a positive sum are recorded. This adds on
+     * every call, so it relies on the caller settling each call once ({@code calls.settled_at_datetime}, and the
+     * outbox's one row per call when async).
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordSettledCall(CallRecord call) {
+        LocalDate day = call.getCreatedAtDatetime() != null ? call.getCreatedAtDatetime().toLocalDate() : LocalDate.now();
+        Long themeId = call.getThemeId() != null ? call.getThemeId() : NO_THEME;
+
+        callStatisticsRepository.increment(day, themeId,
+                defaultZero(call.getSum()),
+                defaultZero(call.getCommission()),
+                call.getDurationSeconds() != null ? call.getDurationSeconds() : 0L);
+        if (call.getRecipientUserId() != null) {
+            activityRepository.markActive(day, themeId, call.getRecipientUserId());
+        }
+    }
+
+    /**
+     * Recomputes the buckets of [from, to] from the calls table, e.g. to backfill history recorded before the
+     * rollups existed. Buckets in the range are replaced in one transaction.
+     */
+    @Transactional
+    public int rebuild(LocalDate from, LocalDate to) {
+        try {
+            validateRange(from, to);
+            LocalDateTime start = from.atStartOfDay();
+            LocalDateTime end = to.plusDays(1).atStartOfDay();
+
+            callStatisticsRepository.deleteBuckets(from, to);
+            activityRepository.deleteBuckets(from, to);
+            int buckets = callStatisticsRepository.insertFromCalls(start, end);
+            activityRepository.insertFromCalls(start, end);
+            logger.info("Rebuilt {} call statistics buckets for {}..{}", buckets, from, to);
+            return buckets;
+        } catch (Exception e) {
+            logger.error("Error rebuilding call statistics for {}..{}", from, to, e);
+            throw e;
+        }
+    }
+
+    // ========== REPORTS ==========
+    @Transactional(readOnly = true)
+    public List<CallStatisticsResponseDTO> getCallStatistics(Grouping grouping, LocalDate from, LocalDate to) {
+        try {
+            validateRange(from, to);
+            List<Object[]> rows = switch (grouping) {
+                case DAY -> callStatisticsRepository.summarizeByDay(from, to);
+                case WEEK -> callStatisticsRepository.summarizeByWeek(from, to);
+                case THEME -> callStatisticsRepository.summarizeByTheme(from, to);
+            };
+            List<CallStatisticsResponseDTO> result = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                result.add(mapToResponse(grouping, row));
+            }
+            return result;
+        } catch (Exception e) {
+            logger.error("Error fetching call statistics by {} for {}..{}", grouping, from, to, e);
+            throw e;
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public WithdrawalBacklogResponseDTO getWithdrawalBacklog() {
+        try {
+            List<WithdrawalBacklogResponseDTO.Day> days = new ArrayList<>();
+            long count = 0;
+            BigDecimal total = BigDecimal.ZERO;
+            for (Object[] row : withdrawalRepository.summarizePendingByDay()) {
+                WithdrawalBacklogResponseDTO.Day day = new WithdrawalBacklogResponseDTO.Day(
+                        toLocalDate(row[0]), toLong(row[1]), toDecimal(row[2]));
+                days.add(day);
+                count += day.getCount();
+                total = total.add(day.getTotal());
+            }
+            LocalDate oldest = days.isEmpty() ? null : days.get(0).getDay();
+            return new WithdrawalBacklogResponseDTO(count, total, oldest, days);
+        } catch (Exception e) {
+            logger.error("Error fetching withdrawal backlog", e);
+            throw e;
+        }
+    }
+
+    // ========== HELPERS ==========
+    private CallStatisticsResponseDTO mapToResponse(Grouping grouping, Object[] row) {
+        LocalDate periodStart = null;
+        Long themeId = null;
+        if (grouping == Grouping.THEME) {
+            long bucket = toLong(row[0]);
+            themeId = bucket == NO_THEME ? null : bucket;
+        } else {
+            periodStart = toLocalDate(row[0]);
+        }
+        BigDecimal minutes = toDecimal(row[5]).divide(SECONDS_PER_MINUTE, 2, RoundingMode.HALF_UP);
+        return new CallStatisticsResponseDTO(
+                periodStart,
+                themeId,
+                (String) row[1],
+                toLong(row[2]),
+                toDecimal(row[3]),
+                toDecimal(row[4]),
+                minutes,
+                toLong(row[6])
+        );
+    }
+
+    private static void validateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Both from and to dates are required");
+        }
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("to must not be before from");
+        }
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        if (value instanceof java.sql.Date date) {
+            return date.toLocalDate();
+        }
+        return (LocalDate) value;
+    }
+
+    private static long toLong(Object value) {
+        return value == null ? 0L : ((Number) value).longValue();
+    }
+
+    private static BigDecimal toDecimal(Object value) {
+        if (value == null) {
+            return BigDecimal.ZERO;
+        }
+        return value instanceof BigDecimal decimal ? decimal : new BigDecimal(value.toString());
+    }
+
+    private static BigDecimal defaultZero(BigDecimal value) {
+        return value == null ? BigDecimal.ZERO : value;
+    }
+}
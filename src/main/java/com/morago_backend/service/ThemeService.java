@@ -3,13 +3,14 @@ package com.morago_backend.service;
 import com.morago_backend.dto.dtoRequest.ThemeRequestDTO;
 import com.morago_backend.dto.dtoResponse.ThemeResponseDTO;
 import com.morago_backend.entity.Theme;
-import com.morago_backend.entity.Category;
 import com.morago_backend.exception.ResourceNotFoundException;
 import com.morago_backend.repository.ThemeRepository;
 import com.morago_backend.repository.CategoryRepository;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,8 +25,13 @@ public class ThemeService {
 
     private static final Logger logger = LoggerFactory.getLogger(ThemeService.class);
 
+    // Integrity constraint violation; MySQL narrows it to ER_NO_REFERENCED_ROW_2 for a missing parent row
+    private static final String INTEGRITY_VIOLATION_SQL_STATE = "23000";
+    private static final int MYSQL_NO_REFERENCED_ROW = 1452;
+
     private final ThemeRepository themeRepository;
     private final CategoryRepository categoryRepository;
+    private final CatalogCache catalogCache;
 
     // ========== CREATE ==========
     public ThemeResponseDTO create(ThemeRequestDTO dto) {
@@ -34,7 +40,8 @@ public class ThemeService {
             Theme theme = mapToEntity(dto);
             theme.setCreatedAt(LocalDateTime.now());
             theme.setUpdatedAt(LocalDateTime.now());
-            Theme saved = themeRepository.save(theme);
+            Theme saved = saveWithCategory(theme, dto.getCategoryId());
+            catalogCache.invalidate(CatalogCache.THEMES);
             logger.info("Theme created with id={}", saved.getId());
             return mapToResponseDTO(saved);
         } catch (Exception e) {
@@ -56,6 +63,13 @@ public class ThemeService {
         }
     }
 
+    // ========== READ ALL CACHED ==========
+    /** All themes as serialized JSON with an ETag; loaded from the database only on a cache miss */
+    @Transactional(readOnly = true)
+    public CatalogCache.Entry findAllCached() {
+        return catalogCache.get(CatalogCache.THEMES, this::findAll);
+    }
+
     // ========== READ by ID ==========
     public ThemeResponseDTO findById(Long id) {
         try {
@@ -87,12 +101,11 @@ public class ThemeService {
             existing.setUpdatedAt(LocalDateTime.now());
 
             if (dto.getCategoryId() != null) {
-                Category category = categoryRepository.findById(dto.getCategoryId())
-                        .orElseThrow(() -> new ResourceNotFoundException("Category not found with id " + dto.getCategoryId()));
-                existing.setCategory(category);
+                existing.setCategory(categoryRepository.getReferenceById(dto.getCategoryId()));
             }
 
-            Theme saved = themeRepository.save(existing);
+            Theme saved = saveWithCategory(existing, dto.getCategoryId());
+            catalogCache.invalidate(CatalogCache.THEMES);
             logger.info("Theme updated with id={}", saved.getId());
             return mapToResponseDTO(saved);
         } catch (Exception e) {
@@ -110,6 +123,7 @@ public class ThemeService {
                 throw new ResourceNotFoundException("Theme not found with id " + id);
             }
             themeRepository.deleteById(id);
+            catalogCache.invalidate(CatalogCache.THEMES);
             logger.info("Theme deleted with id={}", id);
         } catch (Exception e) {
             logger.error("Error deleting theme with id={}", id, e);
@@ -117,6 +131,33 @@ public class ThemeService {
         }
     }
 
+    // ========== CATEGORY REFERENCE ==========
+    /**
+     * Saves a theme whose category was set as an unloaded reference. The foreign key is what rejects an
+     * unknown category id, so the row is flushed here and only that violation becomes a 404.
+     */
+    private Theme saveWithCategory(Theme theme, Long categoryId) {
+        try {
+            return themeRepository.saveAndFlush(theme);
+        } catch (DataIntegrityViolationException e) {
+            if (categoryId != null && isMissingReferencedRow(e)) {
+                throw new ResourceNotFoundException("Category not found with id " + categoryId);
+            }
+            throw e;
+        }
+    }
+
+    // category_id is the only foreign key on themes, so a missing parent row can only be the category
+    private static boolean isMissingReferencedRow(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return INTEGRITY_VIOLATION_SQL_STATE.equals(violation.getSQLState())
+                        && violation.getErrorCode() == MYSQL_NO_REFERENCED_ROW;
+            }
+        }
+        return false;
+    }
+
     // ========== MAPPERS ==========
     private ThemeResponseDTO mapToResponseDTO(Theme theme) {
         ThemeResponseDTO dto = new ThemeResponseDTO();
@@ -147,9 +188,8 @@ public class ThemeService {
         theme.setIsActive(dto.getIsActive());
 
         if (dto.getCategoryId() != null) {
-            Category category = categoryRepository.findById(dto.getCategoryId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Category not found with id " + dto.getCategoryId()));
-            theme.setCategory(category);
+            // Only the foreign key is written, so a reference avoids loading the category
+            theme.setCategory(categoryRepository.getReferenceById(dto.getCategoryId()));
         }
         return theme;
     }
@@ -1,10 +1,12 @@
 package com.morago_backend.service;
 
 import com.morago_backend.dto.dtoRequest.TransactionFilterRequest;
+import com.morago_backend.dto.dtoResponse.CursorPage;
 import com.morago_backend.dto.dtoResponse.TransactionResponse;
 import com.morago_backend.entity.*;
 import com.morago_backend.repository.TransactionRepository;
 import com.morago_backend.repository.UserRepository;
+import com.morago_backend.util.CursorCodec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -24,6 +26,7 @@ public class TransactionService {
 
     private final TransactionRepository transactionRepository;
     private final UserRepository userRepository;
+    private final LedgerService ledgerService;
 
     /**
      * Create a new transaction record
@@ -48,7 +51,9 @@ public class TransactionService {
         BigDecimal balanceAfter = calculateBalanceAfter(user.getBalance(), amount, transactionType);
         transaction.setBalanceAfter(balanceAfter);
 
-        return transactionRepository.save(transaction);
+        Transaction savedTransaction = transactionRepository.save(transaction);
+        ledgerService.post(savedTransaction);
+        return savedTransaction;
     }
 
     /**
@@ -66,12 +71,37 @@ public class TransactionService {
             String bankName,
             String accountNumber,
             String notes
+    ) {
+        // Calculate balance after
+        BigDecimal balanceAfter = calculateBalanceAfter(user.getBalance(), amount, transactionType);
+        return createDetailedTransaction(user, transactionType, amount, status, description, relatedEntityId,
+                accountHolder, bankName, accountNumber, notes, user.getBalance(), balanceAfter);
+    }
+
+    /**
+     * Create transaction with the balances observed on the locked user row (see {@link BalanceService})
+     */
+    @Transactional
+    public Transaction createDetailedTransaction(
+            User user,
+            TransactionType transactionType,
+            BigDecimal amount,
+            String status,
+            String description,
+            Long relatedEntityId,
+            String accountHolder,
+            String bankName,
+            String accountNumber,
+            String notes,
+            BigDecimal balanceBefore,
+            BigDecimal balanceAfter
     ) {
         Transaction transaction = new Transaction();
         transaction.setUser(user);
         transaction.setTransactionType(transactionType);
         transaction.setAmount(amount);
-        transaction.setBalanceBefore(user.getBalance());
+        transaction.setBalanceBefore(balanceBefore);
+        transaction.setBalanceAfter(balanceAfter);
         transaction.setStatus(status);
         transaction.setDescription(description);
         transaction.setAccountHolder(accountHolder);
@@ -86,11 +116,8 @@ public class TransactionService {
             case CALL_PAYMENT, CALL_EARNING, COMMISSION -> transaction.setCallRecordId(relatedEntityId);
         }
 
-        // Calculate balance after
-        BigDecimal balanceAfter = calculateBalanceAfter(user.getBalance(), amount, transactionType);
-        transaction.setBalanceAfter(balanceAfter);
-
         Transaction savedTransaction = transactionRepository.save(transaction);
+        ledgerService.post(savedTransaction);
         log.info("Created transaction: type={}, amount={}, userId={}", 
                 transactionType, amount, user.getId());
         
@@ -107,6 +134,30 @@ public class TransactionService {
         return transactions.map(this::convertToResponse);
     }
 
+    /**
+     * Get a keyset page of transactions for a user, newest first.
+     * Fetches one extra row to learn whether a next page exists, so no count query is issued.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<TransactionResponse> getUserTransactionsByCursor(Long userId, String cursor, Integer size) {
+        int limit = CursorCodec.pageSize(size);
+        CursorCodec.Cursor after = CursorCodec.decode(cursor);
+        Pageable pageable = Pageable.ofSize(limit + 1);
+
+        List<Transaction> rows = after == null
+                ? transactionRepository.findFirstPageByUserId(userId, pageable)
+                : transactionRepository.findPageByUserIdAfter(userId, after.createdAt(), after.id(), pageable);
+
+        boolean hasNext = rows.size() > limit;
+        List<Transaction> page = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            Transaction last = page.get(page.size() - 1);
+            nextCursor = CursorCodec.encode(last.getCreatedAtDatetime(), last.getId());
+        }
+        return new CursorPage<>(page.stream().map(this::convertToResponse).toList(), nextCursor);
+    }
+
     /**
      * Get filtered transactions for a user
      */
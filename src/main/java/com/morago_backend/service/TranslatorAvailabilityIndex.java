@@ -0,0 +1,264 @@
+package com.morago_backend.service;
+
+import com.morago_backend.cache.CacheInvalidationBus;
+import com.morago_backend.dto.dtoResponse.AvailableInterpreterResponseDTO;
+import com.morago_backend.entity.Language;
+import com.morago_backend.entity.Theme;
+import com.morago_backend.entity.TranslatorProfile;
+import com.morago_backend.repository.TranslatorProfileRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory index of interpreters that are online, available and verified, keyed by theme id and language id.
+ * Write paths refresh single profiles in place (after commit) and tell the other nodes, which reload just that
+ * profile; a periodic sweep reconciles with the database.
+ */
+@Component
+public class TranslatorAvailabilityIndex {
+
+    public static final String REGION = "interpreter-availability";
+
+    private static final Logger logger = LoggerFactory.getLogger(TranslatorAvailabilityIndex.class);
+
+    private final TranslatorProfileRepository repository;
+    private final CacheInvalidationBus invalidationBus;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ConcurrentHashMap<Long, AvailableInterpreterResponseDTO> byProfile = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Set<Long>> byTheme = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Set<Long>> byLanguage = new ConcurrentHashMap<>();
+
+    // Last in-place change per profile, so a sweep never overwrites something newer than its own snapshot
+    private final ConcurrentHashMap<Long, Long> lastTouched = new ConcurrentHashMap<>();
+
+    public TranslatorAvailabilityIndex(TranslatorProfileRepository repository,
+                                       CacheInvalidationBus invalidationBus,
+                                       TransactionTemplate transactionTemplate) {
+        this.repository = repository;
+        this.invalidationBus = invalidationBus;
+        this.transactionTemplate = transactionTemplate;
+        invalidationBus.subscribe(REGION, key -> reload(Long.valueOf(key)));
+    }
+
+    // ========== LOOKUPS ==========
+    public List<AvailableInterpreterResponseDTO> findByTheme(Long themeId) {
+        return resolve(byTheme.getOrDefault(themeId, Collections.emptySet()));
+    }
+
+    public List<AvailableInterpreterResponseDTO> findByLanguage(Long languageId) {
+        return resolve(byLanguage.getOrDefault(languageId, Collections.emptySet()));
+    }
+
+    public List<AvailableInterpreterResponseDTO> findByThemeAndLanguage(Long themeId, Long languageId) {
+        Set<Long> themeMatches = byTheme.getOrDefault(themeId, Collections.emptySet());
+        Set<Long> languageMatches = byLanguage.getOrDefault(languageId, Collections.emptySet());
+        Set<Long> smaller = themeMatches.size() <= languageMatches.size() ? themeMatches : languageMatches;
+        Set<Long> larger = smaller == themeMatches ? languageMatches : themeMatches;
+        return resolve(smaller.stream().filter(larger::contains).collect(Collectors.toSet()));
+    }
+
+    public int size() {
+        return byProfile.size();
+    }
+
+    // ========== IN-PLACE UPDATES ==========
+    /**
+     * Re-indexes a profile from its entity state. Must be called while the profile's lazy collections are
+     * still loadable; if a transaction is active the index is only touched once it commits.
+     */
+    public void refresh(TranslatorProfile profile) {
+        Long profileId = profile.getId();
+        AvailableInterpreterResponseDTO entry = isEligible(profile) ? toEntry(profile) : null;
+
+        Runnable apply = () -> {
+            lastTouched.put(profileId, System.nanoTime());
+            if (entry != null) {
+                put(entry);
+            } else {
+                remove(profileId);
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+        invalidationBus.publish(REGION, List.of(profileId.toString()));
+    }
+
+    /** Re-reads one profile after another node changed it */
+    private void reload(Long profileId) {
+        AvailableInterpreterResponseDTO entry = transactionTemplate.execute(status -> repository.findById(profileId)
+                .filter(this::isEligible)
+                .map(this::toEntry)
+                .orElse(null));
+        lastTouched.put(profileId, System.nanoTime());
+        if (entry != null) {
+            put(entry);
+        } else {
+            remove(profileId);
+        }
+    }
+
+    private void put(AvailableInterpreterResponseDTO entry) {
+        Long profileId = entry.getTranslatorProfileId();
+        byProfile.compute(profileId, (id, previous) -> {
+            if (previous != null) {
+                unlink(byTheme, previous.getThemeIds(), id);
+                unlink(byLanguage, previous.getLanguageIds(), id);
+            }
+            link(byTheme, entry.getThemeIds(), id);
+            link(byLanguage, entry.getLanguageIds(), id);
+            return entry;
+        });
+    }
+
+    private void remove(Long profileId) {
+        byProfile.computeIfPresent(profileId, (id, previous) -> {
+            unlink(byTheme, previous.getThemeIds(), id);
+            unlink(byLanguage, previous.getLanguageIds(), id);
+            return null;
+        });
+    }
+
+    // ========== WARM-UP & CONSISTENCY SWEEP ==========
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reconcile();
+    }
+
+    @Scheduled(fixedDelayString = "${availability.index.sweep-interval-ms:60000}",
+            initialDelayString = "${availability.index.sweep-interval-ms:60000}")
+    public void sweep() {
+        reconcile();
+    }
+
+    private void reconcile() {
+        try {
+            long startedAt = System.nanoTime();
+            Map<Long, AvailableInterpreterResponseDTO> fresh = loadFromDatabase();
+
+            int changed = 0;
+            for (AvailableInterpreterResponseDTO entry : fresh.values()) {
+                if (!touchedSince(entry.getTranslatorProfileId(), startedAt)) {
+                    put(entry);
+                    changed++;
+                }
+            }
+            for (Long profileId : new ArrayList<>(byProfile.keySet())) {
+                if (!fresh.containsKey(profileId) && !touchedSince(profileId, startedAt)) {
+                    remove(profileId);
+                    changed++;
+                }
+            }
+            lastTouched.values().removeIf(touched -> touched - startedAt < 0);
+            logger.debug("Availability index reconciled: {} interpreters indexed, {} entries written", byProfile.size(), changed);
+        } catch (Exception e) {
+            logger.error("Error reconciling interpreter availability index", e);
+        }
+    }
+
+    private Map<Long, AvailableInterpreterResponseDTO> loadFromDatabase() {
+        Map<Long, Set<Long>> themeIds = groupPairs(repository.findAvailableInterpreterThemeIds());
+        Map<Long, Set<Long>> languageIds = groupPairs(repository.findAvailableInterpreterLanguageIds());
+
+        Map<Long, AvailableInterpreterResponseDTO> entries = new HashMap<>();
+        for (Object[] row : repository.findAvailableInterpreterRows()) {
+            Long profileId = (Long) row[0];
+            entries.put(profileId, new AvailableInterpreterResponseDTO(
+                    profileId,
+                    (Long) row[1],
+                    row[2] + " " + row[3],
+                    (String) row[4],
+                    themeIds.getOrDefault(profileId, Collections.emptySet()),
+                    languageIds.getOrDefault(profileId, Collections.emptySet())
+            ));
+        }
+        return entries;
+    }
+
+    // ========== HELPERS ==========
+    private boolean isEligible(TranslatorProfile profile) {
+        return Boolean.TRUE.equals(profile.getIsOnline())
+                && Boolean.TRUE.equals(profile.getIsAvailable())
+                && Boolean.TRUE.equals(profile.getIsVerified());
+    }
+
+    private AvailableInterpreterResponseDTO toEntry(TranslatorProfile profile) {
+        return new AvailableInterpreterResponseDTO(
+                profile.getId(),
+                profile.getUser() != null ? profile.getUser().getId() : null,
+                profile.getUser() != null ? profile.getUser().getFirstName() + " " + profile.getUser().getLastName() : null,
+                profile.getLevelOfKorean(),
+                profile.getThemes().stream().map(Theme::getId).collect(Collectors.toSet()),
+                profile.getLanguages().stream().map(Language::getId).collect(Collectors.toSet())
+        );
+    }
+
+    private boolean touchedSince(Long profileId, long since) {
+        Long touched = lastTouched.get(profileId);
+        return touched != null && touched - since >= 0;
+    }
+
+    private List<AvailableInterpreterResponseDTO> resolve(Set<Long> profileIds) {
+        List<AvailableInterpreterResponseDTO> result = new ArrayList<>(profileIds.size());
+        for (Long profileId : profileIds) {
+            AvailableInterpreterResponseDTO entry = byProfile.get(profileId);
+            if (entry != null) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    private static void link(ConcurrentHashMap<Long, Set<Long>> index, Set<Long> keys, Long profileId) {
+        for (Long key : keys) {
+            index.compute(key, (k, members) -> {
+                Set<Long> set = members != null ? members : ConcurrentHashMap.newKeySet();
+                set.add(profileId);
+                return set;
+            });
+        }
+    }
+
+    private static void unlink(ConcurrentHashMap<Long, Set<Long>> index, Set<Long> keys, Long profileId) {
+        for (Long key : keys) {
+            index.computeIfPresent(key, (k, members) -> {
+                members.remove(profileId);
+                return members.isEmpty() ? null : members;
+            });
+        }
+    }
+
+    private static Map<Long, Set<Long>> groupPairs(List<Object[]> rows) {
+        Map<Long, Set<Long>> grouped = new HashMap<>();
+        for (Object[] row : rows) {
+            grouped.computeIfAbsent((Long) row[0], k -> new HashSet<>()).add((Long) row[1]);
+        }
+        return grouped;
+    }
+}
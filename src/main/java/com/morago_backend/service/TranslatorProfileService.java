@@ -1,33 +1,31 @@
 package com.morago_backend.service;
 
-import com.corundumstudio.socketio.SocketIOServer;
 import com.morago_backend.dto.dtoRequest.FilterRequest;
 import com.morago_backend.dto.dtoRequest.PaginationRequest;
 import com.morago_backend.dto.dtoRequest.TranslatorProfileRequestDTO;
+import com.morago_backend.dto.dtoResponse.AvailableInterpreterResponseDTO;
 import com.morago_backend.dto.dtoResponse.TranslatorProfileResponseDTO;
 import com.morago_backend.dto.dtoResponse.TranslatorProfileWithRatingResponseDTO;
-import com.morago_backend.entity.Category;
-import com.morago_backend.entity.Rating;
 import com.morago_backend.entity.Theme;
 import com.morago_backend.entity.TranslatorProfile;
 import com.morago_backend.exception.ResourceNotFoundException;
 import com.morago_backend.repository.CategoryRepository;
-import com.morago_backend.repository.RatingRepository;
 import com.morago_backend.repository.ThemeRepository;
 import com.morago_backend.repository.TranslatorProfileRepository;
+import com.morago_backend.specification.FilterDefinitions;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -39,12 +37,9 @@ public class TranslatorProfileService {
 
     private final TranslatorProfileRepository repository;
     private final ThemeRepository themeRepository;
-    private final SocketIOServer socketServer;
-    private final RatingRepository ratingRepository;
+    private final SocketEventPublisher eventPublisher;
     private final CategoryRepository categoryRepository;
-
-    @Autowired
-    private TranslatorProfileRepository translatorProfileRepository;
+    private final TranslatorAvailabilityIndex availabilityIndex;
 
     // ========== READ ALL ==========
     public List<TranslatorProfileResponseDTO> findAll() {
@@ -77,46 +72,24 @@ public class TranslatorProfileService {
         try {
             logger.info("Fetching translators by category id={}", categoryId);
 
-            // Fetch category
-            Category category = categoryRepository.findById(categoryId)
-                    .orElseThrow(() -> new RuntimeException("Category not found with id " + categoryId));
-
-            // Get all translator profiles whose themes belong to this category
-            List<TranslatorProfile> translators = translatorProfileRepository.findAll().stream()
-                    .filter(tp -> tp.getThemes().stream()
-                            .anyMatch(theme -> theme.getCategory() != null && theme.getCategory().getId().equals(categoryId))
-                    )
-                    .toList();
-
-            // Map to DTO with average rating
-            return translators.stream().map(tp -> {
-                List<String> themeNames = tp.getThemes().stream()
-                        .map(Theme::getName)
-                        .toList();
-
-                List<Rating> ratings = ratingRepository.findByToWhomUserId(tp.getUser().getId());
-                BigDecimal avgRating = BigDecimal.ZERO;
-                if (!ratings.isEmpty()) {
-                    avgRating = ratings.stream()
-                            .map(Rating::getGrade)
-                            .reduce(BigDecimal.ZERO, BigDecimal::add).divide(BigDecimal.valueOf(ratings.size()), 2, RoundingMode.HALF_UP);
-                }
+            if (!categoryRepository.existsById(categoryId)) {
+                throw new RuntimeException("Category not found with id " + categoryId);
+            }
+
+            // One aggregate query for the translators, one batched query for their theme names
+            List<TranslatorProfileWithRatingResponseDTO> translators =
+                    repository.findWithAverageRatingByCategoryId(categoryId);
+            if (translators.isEmpty()) {
+                return translators;
+            }
+
+            Map<Long, TranslatorProfileWithRatingResponseDTO> byId = translators.stream()
+                    .collect(Collectors.toMap(TranslatorProfileWithRatingResponseDTO::getId, Function.identity()));
+            for (Object[] row : repository.findThemeNamesByProfileIds(byId.keySet())) {
+                byId.get((Long) row[0]).getThemes().add((String) row[1]);
+            }
 
-                return new TranslatorProfileWithRatingResponseDTO(
-                        tp.getId(),
-                        tp.getUser().getFirstName() + " " + tp.getUser().getLastName(), // name
-                        tp.getUser().getPhone(), // phone
-                        tp.getDateOfBirth(),
-                        tp.getIsAvailable(),
-                        tp.getIsOnline(),
-                        tp.getIsVerified(),
-                        tp.getLevelOfKorean(),
-                        themeNames,
-                        avgRating,
-                        tp.getCreatedAt(),
-                        tp.getUpdatedAt()
-                );
-            }).collect(Collectors.toList());
+            return translators;
 
         } catch (Exception ex) {
             logger.error("Error fetching translators by category id={}: {}", categoryId, ex.getMessage(), ex);
@@ -124,6 +97,12 @@ public class TranslatorProfileService {
         }
     }
 
+    // ========== FIND PROFILE ID BY USER ==========
+    public Long findProfileIdByUserId(Long userId) {
+        return repository.findIdByUserId(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("TranslatorProfile not found for user id " + userId));
+    }
+
     // ========== FIND BY PHONE ==========
     public TranslatorProfileResponseDTO findByPhone(String phone) {
         try {
@@ -153,9 +132,11 @@ public class TranslatorProfileService {
             existing.setUpdatedAt(LocalDateTime.now());
 
             TranslatorProfile saved = repository.save(existing);
-            socketServer.getBroadcastOperations().sendEvent("translatorProfileUpdated", saved);
+            availabilityIndex.refresh(saved);
+            TranslatorProfileResponseDTO response = mapToResponse(saved);
+            eventPublisher.publishToRooms(profileRooms(saved), "translatorProfileUpdated", response);
             logger.info("TranslatorProfile updated with id={}", saved.getId());
-            return mapToResponse(saved);
+            return response;
         } catch (Exception e) {
             logger.error("Error updating translatorProfile with id={}", id, e);
             throw e;
@@ -180,10 +161,12 @@ public class TranslatorProfileService {
             profile.setUpdatedAt(LocalDateTime.now());
 
             TranslatorProfile saved = repository.save(profile);
-            socketServer.getBroadcastOperations().sendEvent("translatorThemesUpdated", saved);
+            availabilityIndex.refresh(saved);
+            TranslatorProfileResponseDTO response = mapToResponse(saved);
+            eventPublisher.publishToRooms(profileRooms(saved), "translatorThemesUpdated", response);
             logger.info("Themes updated successfully for translatorProfile id={}", translatorId);
 
-            return mapToResponse(saved);
+            return response;
         } catch (Exception e) {
             logger.error("Error updating themes for translatorProfile id={}", translatorId, e);
             throw e;
@@ -199,31 +182,55 @@ public class TranslatorProfileService {
         profile.setUpdatedAt(LocalDateTime.now());
 
         TranslatorProfile saved = repository.save(profile);
-        socketServer.getBroadcastOperations().sendEvent("translatorAvailabilityUpdated", saved);
+        availabilityIndex.refresh(saved);
+        TranslatorProfileResponseDTO response = mapToResponse(saved);
+        eventPublisher.publishToRooms(profileRooms(saved), "translatorAvailabilityUpdated", response);
         logger.info("Availability updated for translatorProfile id={}", translatorId);
 
-        return mapToResponse(saved);
+        return response;
+    }
+
+    //========== UPDATE ONLINE STATUS (socket presence) ==========
+    public void updateOnlineStatus(Long userId, boolean online) {
+        try {
+            repository.findByUserId(userId).ifPresent(profile -> {
+                if (Boolean.valueOf(online).equals(profile.getIsOnline())) {
+                    return;
+                }
+                profile.setIsOnline(online);
+                profile.setUpdatedAt(LocalDateTime.now());
+                TranslatorProfile saved = repository.save(profile);
+                availabilityIndex.refresh(saved);
+                logger.info("Online status set to {} for translatorProfile id={}", online, saved.getId());
+            });
+        } catch (Exception e) {
+            logger.error("Error updating online status for user id={}", userId, e);
+            throw e;
+        }
+    }
+
+    // ========== FIND AVAILABLE (in-memory index) ==========
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<AvailableInterpreterResponseDTO> findAvailable(Long themeId, Long languageId) {
+        if (themeId != null && languageId != null) {
+            return availabilityIndex.findByThemeAndLanguage(themeId, languageId);
+        }
+        if (themeId != null) {
+            return availabilityIndex.findByTheme(themeId);
+        }
+        if (languageId != null) {
+            return availabilityIndex.findByLanguage(languageId);
+        }
+        throw new IllegalArgumentException("Either themeId or languageId is required");
     }
 
     // ========== PAGINATION + FILTER ==========
     public Page<TranslatorProfileResponseDTO> getAllWithFilterAndPagination(FilterRequest filter, PaginationRequest pagination) {
         try {
             logger.info("Fetching translatorProfiles with filter and pagination");
-            Pageable pageable = PageRequest.of(
-                    pagination.getPage(),
-                    pagination.getSize(),
-                    pagination.isAscending() ? Sort.by(pagination.getSortBy()).ascending() : Sort.by(pagination.getSortBy()).descending()
-            );
-
-            Page<TranslatorProfile> page = repository.findAll(pageable);
-
-            if (filter != null && filter.hasSearch()) {
-                String term = filter.getSearch().toLowerCase();
-                List<TranslatorProfile> filtered = page.getContent().stream()
-                        .filter(p -> p.getEmail().toLowerCase().contains(term))
-                        .toList();
-                page = new PageImpl<>(filtered, page.getPageable(), filtered.size());
-            }
+            Page<TranslatorProfile> page = repository.findAll(
+                    FilterDefinitions.TRANSLATOR_PROFILES.toSpecification(filter),
+                    FilterDefinitions.TRANSLATOR_PROFILES.toPageable(pagination));
 
             return page.map(this::mapToResponse);
         } catch (Exception e) {
@@ -245,6 +252,11 @@ public class TranslatorProfileService {
         dto.setCreatedAtDatetime(entity.getCreatedAt());
         dto.setUpdatedAtDatetime(entity.getUpdatedAt());
 
+        if (entity.getUser() != null) {
+            dto.setAverageRating(entity.getUser().getRatings());
+            dto.setTotalRatings(entity.getUser().getTotalRatings());
+        }
+
         if (entity.getThemes() != null) {
             dto.setThemes(entity.getThemes().stream()
                     .map(Theme::getName)
@@ -263,4 +275,11 @@ public class TranslatorProfileService {
         entity.setLevelOfKorean(dto.getLevelOfKorean());
         return entity;
     }
+
+    // Profile changes go to the interpreter and the admins. Clients looking for an interpreter query
+    // GET /api/translator-profiles/available (served from the availability index) instead of every connected
+    // client receiving every change
+    private static List<String> profileRooms(TranslatorProfile profile) {
+        return SocketRooms.usersAndAdmins(profile.getUser() != null ? profile.getUser().getId() : null);
+    }
 }
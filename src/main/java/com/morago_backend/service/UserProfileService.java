@@ -5,7 +5,6 @@ import com.morago_backend.dto.dtoResponse.UserProfileResponseDTO;
 import com.morago_backend.entity.UserProfile;
 import com.morago_backend.exception.ResourceNotFoundException;
 import com.morago_backend.repository.UserProfileRepository;
-import com.corundumstudio.socketio.SocketIOServer;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,7 +23,7 @@ public class UserProfileService {
     private static final Logger logger = LoggerFactory.getLogger(UserProfileService.class);
 
     private final UserProfileRepository repository;
-    private final SocketIOServer socketServer;
+    private final SocketEventPublisher eventPublisher;
 
     // ========== CREATE ==========
     public UserProfileResponseDTO create(UserProfileRequestDTO dto) {
@@ -34,9 +33,10 @@ public class UserProfileService {
             profile.setCreatedAt(LocalDateTime.now());
             profile.setUpdatedAt(LocalDateTime.now());
             UserProfile saved = repository.save(profile);
-            socketServer.getBroadcastOperations().sendEvent("userProfileCreated", saved);
+            UserProfileResponseDTO response = toDTO(saved);
+            eventPublisher.publishToRooms(SocketRooms.usersAndAdmins(response.getUserId()), "userProfileCreated", response);
             logger.info("UserProfile created with id={}", saved.getId());
-            return toDTO(saved);
+            return response;
         } catch (Exception e) {
             logger.error("Error creating userProfile", e);
             throw e;
@@ -80,9 +80,10 @@ public class UserProfileService {
             existing.setUpdatedAt(LocalDateTime.now());
 
             UserProfile saved = repository.save(existing);
-            socketServer.getBroadcastOperations().sendEvent("userProfileUpdated", saved);
+            UserProfileResponseDTO response = toDTO(saved);
+            eventPublisher.publishToRooms(SocketRooms.usersAndAdmins(response.getUserId()), "userProfileUpdated", response);
             logger.info("UserProfile updated with id={}", saved.getId());
-            return toDTO(saved);
+            return response;
         } catch (Exception e) {
             logger.error("Error updating userProfile with id={}", id, e);
             throw e;
@@ -93,12 +94,13 @@ public class UserProfileService {
     public void delete(Long id) {
         try {
             logger.info("Deleting userProfile with id={}", id);
-            if (!repository.existsById(id)) {
+            UserProfile existing = repository.findById(id).orElseThrow(() -> {
                 logger.warn("UserProfile not found with id={}", id);
-                throw new ResourceNotFoundException("UserProfile not found with id " + id);
-            }
-            repository.deleteById(id);
-            socketServer.getBroadcastOperations().sendEvent("userProfileDeleted", id);
+                return new ResourceNotFoundException("UserProfile not found with id " + id);
+            });
+            Long userId = existing.getUser() != null ? existing.getUser().getId() : null;
+            repository.delete(existing);
+            eventPublisher.publishToRooms(SocketRooms.usersAndAdmins(userId), "userProfileDeleted", id);
             logger.info("UserProfile deleted with id={}", id);
         } catch (Exception e) {
             logger.error("Error deleting userProfile with id={}", id, e);
@@ -7,21 +7,20 @@ import com.morago_backend.dto.dtoRequest.UserRequestDTO;
 import com.morago_backend.dto.dtoResponse.ChangePasswordResponseDTO;
 import com.morago_backend.dto.dtoResponse.PagedResponse;
 import com.morago_backend.dto.dtoResponse.UserResponseDTO;
+import com.morago_backend.entity.TransactionType;
 import com.morago_backend.entity.User;
-import com.morago_backend.entity.UserRole;
-import com.morago_backend.exception.ResourceNotFoundException;
+import com.morago_backend.exception.PasswordHashingUnavailableException;
 import com.morago_backend.repository.UserRepository;
-import com.corundumstudio.socketio.SocketIOServer;
+import com.morago_backend.security.CurrentUserProvider;
+import com.morago_backend.security.TokenRevocationStore;
+import com.morago_backend.specification.FilterDefinitions;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -33,49 +32,18 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
-    private final SocketIOServer socketServer;
+    private final SocketEventPublisher eventPublisher;
+    private final BalanceService balanceService;
+    private final TransactionService transactionService;
+    private final CurrentUserProvider currentUserProvider;
+    private final TokenRevocationStore revocationStore;
 
     private static final Logger logger = LoggerFactory.getLogger(UserService.class);
 
-    protected Page<User> applyFilters(Page<User> page, FilterRequest filter) {
-        if (filter == null) return page;
-
-        List<User> filtered = page.getContent();
-
-        if (filter.hasSearch()) {
-            String term = filter.getSearch().toLowerCase();
-            filtered = filtered.stream()
-                    .filter(u -> u.getPhone().toLowerCase().contains(term) ||
-                            (u.getFirstName() != null && u.getFirstName().toLowerCase().contains(term)) ||
-                            (u.getLastName() != null && u.getLastName().toLowerCase().contains(term)))
-                    .toList();
-        }
-
-        if (filter.hasFilters()) {
-            if (filter.getFilters().containsKey("role")) {
-                String roleFilter = filter.getFilters().get("role").toString();
-                filtered = filtered.stream()
-                        .filter(u -> u.getRoles().stream()
-                                .anyMatch(r -> r.name().equalsIgnoreCase(roleFilter)))
-                        .toList();
-            }
-            if (filter.getFilters().containsKey("active")) {
-                boolean activeFilter = Boolean.parseBoolean(filter.getFilters().get("active").toString());
-                filtered = filtered.stream()
-                        .filter(u -> Boolean.TRUE.equals(u.getIsActive()) == activeFilter)
-                        .toList();
-            }
-        }
-
-        return new PageImpl<>(filtered, page.getPageable(), page.getTotalElements());
-    }
-
     //=== Helper: get current authenticated user ===//
     private User getCurrentUserEntity() {
         try {
-            String phone = SecurityContextHolder.getContext().getAuthentication().getName();
-            return userRepository.findByPhone(phone)
-                    .orElseThrow(() -> new ResourceNotFoundException("Current user not found"));
+            return currentUserProvider.getEntity();
         } catch (Exception e) {
             logger.error("Error fetching current authenticated user", e);
             throw e;
@@ -101,13 +69,17 @@ public class UserService {
 
             if (request.getFirstName() != null) user.setFirstName(request.getFirstName());
             if (request.getLastName() != null) user.setLastName(request.getLastName());
-            if (request.getPassword() != null && !request.getPassword().isBlank()) {
+            boolean passwordChanged = request.getPassword() != null && !request.getPassword().isBlank();
+            if (passwordChanged) {
                 user.setPassword(passwordEncoder.encode(request.getPassword()));
             }
 
             User saved = userRepository.save(user);
+            if (passwordChanged) {
+                revocationStore.revokeAllForUser(saved.getId());
+            }
             UserResponseDTO dto = mapToResponse(saved);
-            socketServer.getBroadcastOperations().sendEvent("userUpdated", dto);
+            eventPublisher.publishToRooms(SocketRooms.usersAndAdmins(saved.getId()), "userUpdated", dto);
             logger.info("Updated profile for user id={}", saved.getId());
             return dto;
         } catch (Exception e) {
@@ -117,19 +89,34 @@ public class UserService {
     }
 
     //=== Deposit money (Client only) ===//
+    @Transactional
     public UserResponseDTO deposit(BigDecimal amount) {
         try {
-            User user = getCurrentUserEntity();
-            if (!user.getRoles().contains(UserRole.CLIENT)) {
+            if (!currentUserProvider.get().isClient()) {
                 throw new RuntimeException("Only clients can deposit");
             }
+            User user = getCurrentUserEntity();
 
             if (amount.compareTo(BigDecimal.ZERO) <= 0) throw new IllegalArgumentException("Amount must be positive");
 
-            user.setBalance(user.getBalance() == null ? amount : user.getBalance().add(amount));
-            User saved = userRepository.save(user);
-            socketServer.getBroadcastOperations().sendEvent("userDeposited", saved);
-            return mapToResponse(saved);
+            BalanceService.BalanceChange credit = balanceService.credit(user.getId(), amount);
+            transactionService.createDetailedTransaction(
+                    credit.getUser(),
+                    TransactionType.DEPOSIT,
+                    amount,
+                    "COMPLETED",
+                    "Deposit to account",
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    credit.getBalanceBefore(),
+                    credit.getBalanceAfter()
+            );
+            UserResponseDTO response = mapToResponse(user);
+            eventPublisher.publishToRooms(SocketRooms.usersAndAdmins(user.getId()), "userDeposited", response);
+            return response;
         } catch (Exception e) {
             logger.error("Error depositing", e);
             throw e;
@@ -175,6 +162,8 @@ public class UserService {
             // Update password
             user.setPassword(passwordEncoder.encode(request.getNewPassword()));
             userRepository.save(user);
+            // Every existing session, this one included, has to log in again with the new password
+            revocationStore.revokeAllForUser(user.getId());
             
             logger.info("Password changed successfully for user id={}, phone={}", user.getId(), user.getPhone());
             
@@ -184,12 +173,15 @@ public class UserService {
                 user.getPhone(),
                 LocalDateTime.now()
             );
-            socketServer.getBroadcastOperations().sendEvent("passwordChanged", response);
+            eventPublisher.publishToRoom(SocketRooms.user(user.getId()), "passwordChanged", response);
             
             return response;
         } catch (IllegalArgumentException e) {
             // Re-throw validation errors
             throw e;
+        } catch (PasswordHashingUnavailableException e) {
+            // Hashing pool saturated: surfaces as 503 rather than a generic failure
+            throw e;
         } catch (Exception e) {
             logger.error("Error changing password", e);
             throw new RuntimeException("Failed to change password: " + e.getMessage());
@@ -200,8 +192,9 @@ public class UserService {
     public PagedResponse<UserResponseDTO> findAllDTOWithPaginationAndFilter(PaginationRequest pagination, FilterRequest filter) {
         try {
             logger.info("Fetching users with pagination={} filter={}", pagination, filter);
-            Pageable pageable = PageRequest.of(pagination.getPage(), pagination.getSize());
-            Page<User> page = applyFilters(userRepository.findAll(pageable), filter);
+            Page<User> page = userRepository.findAll(
+                    FilterDefinitions.USERS.toSpecification(filter),
+                    FilterDefinitions.USERS.toPageable(pagination));
             List<UserResponseDTO> content = page.getContent().stream()
                     .map(this::mapToResponse)
                     .toList();
@@ -220,6 +213,8 @@ public class UserService {
         dto.setFirstName(user.getFirstName());
         dto.setLastName(user.getLastName());
         dto.setBalance(user.getBalance());
+        dto.setRatings(user.getRatings());
+        dto.setTotalRatings(user.getTotalRatings());
         dto.setRoles(user.getRoles().stream().map(Enum::name).collect(java.util.stream.Collectors.toSet()));
         return dto;
     }
@@ -3,15 +3,12 @@ package com.morago_backend.service;
 import com.morago_backend.dto.dtoResponse.WithdrawalResponseDTO;
 import com.morago_backend.entity.TransactionType;
 import com.morago_backend.entity.User;
-import com.morago_backend.entity.UserRole;
 import com.morago_backend.entity.Withdrawal;
-import com.morago_backend.repository.UserRepository;
 import com.morago_backend.repository.WithdrawalRepository;
-import com.corundumstudio.socketio.SocketIOServer;
+import com.morago_backend.security.CurrentUserProvider;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,22 +22,20 @@ import java.util.stream.Collectors;
 public class WithdrawalService {
 
     private final WithdrawalRepository repository;
-    private final UserRepository userRepository;
-    private final SocketIOServer socketServer;
+    private final SocketEventPublisher eventPublisher;
     private final TransactionService transactionService;
+    private final BalanceService balanceService;
+    private final CurrentUserProvider currentUserProvider;
 
     private static final Logger logger = LoggerFactory.getLogger(WithdrawalService.class);
 
     //=== Translator request withdrawal ===//
     @Transactional
     public WithdrawalResponseDTO requestWithdrawal(BigDecimal sum, String accountNumber, String accountHolder, String bankName) {
-        String phone = SecurityContextHolder.getContext().getAuthentication().getName();
-        User user = userRepository.findByPhone(phone)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        if (!user.getRoles().contains(UserRole.INTERPRETER)) {
+        if (!currentUserProvider.get().isInterpreter()) {
             throw new RuntimeException("Only translators can request withdrawal");
         }
+        User user = currentUserProvider.getEntity();
 
         if (sum.compareTo(BigDecimal.ZERO) <= 0) {
             throw new IllegalArgumentException("Amount must be positive");
@@ -60,15 +55,17 @@ public class WithdrawalService {
         w.setStatus("PENDING");
 
         Withdrawal saved = repository.save(w);
-        socketServer.getBroadcastOperations().sendEvent("withdrawalRequested", saved);
+        WithdrawalResponseDTO response = mapToResponse(saved);
+        eventPublisher.publishToRooms(SocketRooms.usersAndAdmins(saved.getUserId()), "withdrawalRequested", response);
         logger.info("Withdrawal requested for userId={} sum={}", user.getId(), sum);
-        return mapToResponse(saved);
+        return response;
     }
 
     //=== Admin approve/reject withdrawal ===//
     @Transactional
     public WithdrawalResponseDTO approveOrReject(Long withdrawalId, String status) {
-        Withdrawal w = repository.findById(withdrawalId)
+        // Row lock so concurrent approvals of the same withdrawal cannot both debit
+        Withdrawal w = repository.findForUpdateById(withdrawalId)
                 .orElseThrow(() -> new RuntimeException("Withdrawal not found"));
 
         if (!status.equalsIgnoreCase("APPROVED") && !status.equalsIgnoreCase("REJECTED")) {
@@ -80,18 +77,11 @@ public class WithdrawalService {
         Withdrawal saved = repository.save(w);
 
         if ("APPROVED".equalsIgnoreCase(status) && !"APPROVED".equalsIgnoreCase(prevStatus)) {
-            User user = userRepository.findById(w.getUserId())
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-            BigDecimal balance = user.getBalance() == null ? BigDecimal.ZERO : user.getBalance();
-            if (balance.compareTo(w.getSum()) < 0) {
-                throw new RuntimeException("Insufficient balance for withdrawal");
-            }
-            user.setBalance(balance.subtract(w.getSum()));
-            user = userRepository.save(user);
-            
+            BalanceService.BalanceChange debit = balanceService.debit(w.getUserId(), w.getSum());
+
             // Create transaction record
             transactionService.createDetailedTransaction(
-                user,
+                debit.getUser(),
                 TransactionType.WITHDRAWAL,
                 saved.getSum(),
                 "COMPLETED",
@@ -100,14 +90,17 @@ public class WithdrawalService {
                 saved.getAccountHolder(),
                 saved.getBankName(),
                 saved.getAccountNumber(),
-                "Withdrawal ID: " + saved.getId()
+                "Withdrawal ID: " + saved.getId(),
+                debit.getBalanceBefore(),
+                debit.getBalanceAfter()
             );
             logger.info("Transaction record created for withdrawal id={}", saved.getId());
         }
 
-        socketServer.getBroadcastOperations().sendEvent("withdrawalUpdated", saved);
+        WithdrawalResponseDTO response = mapToResponse(saved);
+        eventPublisher.publishToRooms(SocketRooms.usersAndAdmins(saved.getUserId()), "withdrawalUpdated", response);
         logger.info("Withdrawal id={} updated status={}", withdrawalId, status);
-        return mapToResponse(saved);
+        return response;
     }
 
     //=== Admin get all withdrawals ===//
@@ -123,8 +116,9 @@ public class WithdrawalService {
     //=== Admin delete withdrawal ===//
     @Transactional
     public void delete(Long id) {
+        Long userId = repository.findById(id).map(Withdrawal::getUserId).orElse(null);
         repository.deleteById(id);
-        socketServer.getBroadcastOperations().sendEvent("withdrawalDeleted", id);
+        eventPublisher.publishToRooms(SocketRooms.usersAndAdmins(userId), "withdrawalDeleted", id);
         logger.info("Withdrawal deleted id={}", id);
     }
 
@@ -0,0 +1,120 @@
+package com.morago_backend.signaling;
+
+import com.morago_backend.entity.SignalingSeat;
+import com.morago_backend.entity.SignalingSession;
+import com.morago_backend.repository.SignalingSeatRepository;
+import com.morago_backend.repository.SignalingSessionRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Registry shared by every node through the database, so any node can find the seats of a room and the node
+ * holding a session.
+ * <p>
+ * Socket.IO calls its listeners on the netty event loop, so each registry call here is a blocking statement on
+ * that thread: connect, disconnect and join are one or two primary-key or indexed writes, and routing a signal is
+ * one primary-key read. That keeps each call to a few milliseconds, but a slow database stalls every socket on the
+ * same worker; size {@code socketio.worker-threads} and the Hikari pool with that in mind.
+ */
+@Component
+@ConditionalOnProperty(name = "signaling.cluster.mode", havingValue = "database")
+public class DatabaseRoomRegistry implements RoomRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatabaseRoomRegistry.class);
+
+    private final SignalingSessionRepository sessionRepository;
+    private final SignalingSeatRepository seatRepository;
+    private final SignalingNode node;
+    private final TransactionTemplate transactionTemplate;
+
+    public DatabaseRoomRegistry(SignalingSessionRepository sessionRepository,
+                                SignalingSeatRepository seatRepository,
+                                SignalingNode node,
+                                TransactionTemplate transactionTemplate) {
+        this.sessionRepository = sessionRepository;
+        this.seatRepository = seatRepository;
+        this.node = node;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    @Transactional
+    public void attach(String namespace, UUID sessionId) {
+        sessionRepository.upsert(namespace, sessionId.toString(), node.getId());
+    }
+
+    @Override
+    @Transactional
+    public Set<String> detach(String namespace, UUID sessionId) {
+        String id = sessionId.toString();
+        Set<String> left = new HashSet<>(seatRepository.findRoomIdsBySession(namespace, id));
+        seatRepository.deleteBySession(namespace, id);
+        sessionRepository.deleteBySession(namespace, id);
+        return left;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> locate(String namespace, UUID sessionId) {
+        return sessionRepository.findById(new SignalingSession.Key(namespace, sessionId.toString()))
+                .map(SignalingSession::getNodeId);
+    }
+
+    @Override
+    @Transactional
+    public void join(String roomId, String userId, String namespace, UUID sessionId) {
+        sessionRepository.upsert(namespace, sessionId.toString(), node.getId());
+        seatRepository.upsert(roomId, userId, namespace, sessionId.toString(), node.getId(), "online");
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, RoomMember> members(String roomId) {
+        Map<String, RoomMember> members = new LinkedHashMap<>();
+        for (SignalingSeat seat : seatRepository.findByRoomId(roomId)) {
+            members.put(seat.getUserId(), new RoomMember(seat.getUserId(), seat.getNamespace(),
+                    UUID.fromString(seat.getSessionId()), seat.getNodeId(), seat.getStatus()));
+        }
+        return members;
+    }
+
+    // ========== NODE LIFECYCLE ==========
+    // Sessions die with the node; with a fixed signaling.node-id this also clears what a crashed run left behind
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStart() {
+        release();
+    }
+
+    @PreDestroy
+    public void onStop() {
+        release();
+    }
+
+    private void release() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                int seats = seatRepository.deleteByNodeId(node.getId());
+                int sessions = sessionRepository.deleteByNodeId(node.getId());
+                if (seats > 0 || sessions > 0) {
+                    logger.info("Released {} signaling sessions and {} seats of node {}", sessions, seats, node.getId());
+                }
+            });
+        } catch (Exception e) {
+            logger.error("Error releasing signaling sessions of node {}", node.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.morago_backend.signaling;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.morago_backend.entity.SignalingMessage;
+import com.morago_backend.repository.SignalingMessageRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Cross-node bus over a database table. Sessions on this node are delivered to directly; messages for other
+ * nodes are inserted and picked up by the target node's poller. Stands in for a pub/sub broker where none is
+ * available; the {@link SignalingBus} contract is the same.
+ */
+@Component
+@ConditionalOnProperty(name = "signaling.cluster.mode", havingValue = "database")
+public class DatabaseSignalingBus implements SignalingBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatabaseSignalingBus.class);
+
+    private final SignalingMessageRepository repository;
+    private final SignalingNode node;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${signaling.cluster.batch-size:200}")
+    private int batchSize;
+
+    @Value("${signaling.cluster.message-ttl-ms:30000}")
+    private long messageTtlMs;
+
+    public DatabaseSignalingBus(SignalingMessageRepository repository,
+                                SignalingNode node,
+                                ObjectMapper objectMapper,
+                                TransactionTemplate transactionTemplate) {
+        this.repository = repository;
+        this.node = node;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public void send(SignalTarget target, String event, Object payload) {
+        if (node.isLocal(target)) {
+            node.deliver(target, event, payload);
+            return;
+        }
+        SignalingMessage message = new SignalingMessage();
+        message.setTargetNode(target.nodeId());
+        message.setNamespace(target.namespace());
+        message.setSessionId(target.sessionId().toString());
+        message.setEventName(event);
+        message.setPayload(toJson(event, payload));
+        repository.save(message);
+    }
+
+    // ========== POLLING ==========
+    @Scheduled(fixedDelayString = "${signaling.cluster.poll-interval-ms:100}")
+    public void poll() {
+        try {
+            // Claimed and deleted before delivery: signaling is best-effort and a replayed offer is worse than a lost one
+            List<SignalingMessage> messages = transactionTemplate.execute(status -> {
+                List<SignalingMessage> pending = repository.findPendingForNode(node.getId(), PageRequest.of(0, batchSize));
+                if (!pending.isEmpty()) {
+                    repository.deleteAllInBatch(pending);
+                }
+                return pending;
+            });
+            if (messages == null) {
+                return;
+            }
+            for (SignalingMessage message : messages) {
+                deliver(message);
+            }
+        } catch (Exception e) {
+            logger.error("Error polling signaling messages for node {}", node.getId(), e);
+        }
+    }
+
+    // Messages for nodes that stopped without draining them
+    @Scheduled(fixedDelayString = "${signaling.cluster.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        try {
+            Integer purged = transactionTemplate.execute(status ->
+                    repository.deleteCreatedBefore(LocalDateTime.now().minus(Duration.ofMillis(messageTtlMs))));
+            if (purged != null && purged > 0) {
+                logger.info("Purged {} expired signaling messages", purged);
+            }
+        } catch (Exception e) {
+            logger.error("Error purging expired signaling messages", e);
+        }
+    }
+
+    // ========== HELPERS ==========
+    private void deliver(SignalingMessage message) {
+        try {
+            SignalTarget target = new SignalTarget(
+                    message.getTargetNode(), message.getNamespace(), UUID.fromString(message.getSessionId()));
+            JsonNode payload = message.getPayload() != null ? objectMapper.readTree(message.getPayload()) : null;
+            if (!node.deliver(target, message.getEventName(), payload)) {
+                logger.debug("Signaling session {} left node {}, dropping {}", target.sessionId(), node.getId(), message.getEventName());
+            }
+        } catch (Exception e) {
+            logger.error("Error delivering signaling message id={}", message.getId(), e);
+        }
+    }
+
+    private String toJson(String event, Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Signaling payload for " + event + " is not serializable", e);
+        }
+    }
+}
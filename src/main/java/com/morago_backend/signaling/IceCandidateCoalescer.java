@@ -0,0 +1,130 @@
+package com.morago_backend.signaling;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Buffers trickled ICE candidates per (conversation, sender) and hands them over as one batch once the window
+ * since the first buffered candidate elapses, the sender signals end-of-candidates, or the batch is full.
+ * A window of 0 (the default) disables coalescing and callers forward candidates one by one as {@code candidate}
+ * events; batches go out as {@code candidates}, so only enable it once clients handle that event.
+ */
+@Component
+public class IceCandidateCoalescer {
+
+    private static final Logger logger = LoggerFactory.getLogger(IceCandidateCoalescer.class);
+
+    private final long windowMs;
+    private final int maxBatch;
+    private final ConcurrentHashMap<Object, Buffer> buffers = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+
+    private final Counter candidatesReceived;
+    private final Counter batchesSent;
+
+    private static final class Buffer {
+        private final List<Object> candidates = new ArrayList<>();
+        private final Consumer<List<Object>> flush;
+        private volatile ScheduledFuture<?> timer;
+
+        private Buffer(Consumer<List<Object>> flush) {
+            this.flush = flush;
+        }
+    }
+
+    public IceCandidateCoalescer(MeterRegistry meterRegistry,
+                                 @Value("${signaling.candidates.coalesce-window-ms:0}") long windowMs,
+                                 @Value("${signaling.candidates.max-batch:32}") int maxBatch) {
+        this.windowMs = windowMs;
+        this.maxBatch = Math.max(1, maxBatch);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ice-candidate-coalescer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.candidatesReceived = Counter.builder("signaling.ice.candidates")
+                .description("ICE candidates received from peers")
+                .register(meterRegistry);
+        this.batchesSent = Counter.builder("signaling.ice.batches")
+                .description("Frames used to forward ICE candidates")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return windowMs > 0;
+    }
+
+    /**
+     * Counts a candidate forwarded without coalescing (window 0).
+     */
+    public void recordUnbatched() {
+        candidatesReceived.increment();
+        batchesSent.increment();
+    }
+
+    /**
+     * Adds a candidate to the sender's buffer. {@code flush} receives the buffered candidates in arrival order,
+     * on the caller's thread for the final candidate and on the coalescer thread when the window elapses.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void add(Object key, T candidate, boolean endOfCandidates, Consumer<List<T>> flush) {
+        candidatesReceived.increment();
+        Buffer[] ready = new Buffer[1];
+        buffers.compute(key, (k, existing) -> {
+            Buffer buffer = existing != null ? existing : new Buffer(list -> flush.accept((List<T>) list));
+            buffer.candidates.add(candidate);
+            if (endOfCandidates || buffer.candidates.size() >= maxBatch) {
+                ready[0] = buffer;
+                return null;
+            }
+            if (existing == null) {
+                buffer.timer = scheduler.schedule(() -> flushOnTimer(k, buffer), windowMs, TimeUnit.MILLISECONDS);
+            }
+            return buffer;
+        });
+        if (ready[0] != null) {
+            ScheduledFuture<?> timer = ready[0].timer;
+            if (timer != null) {
+                timer.cancel(false);
+            }
+            emit(key, ready[0]);
+        }
+    }
+
+    private void flushOnTimer(Object key, Buffer buffer) {
+        if (buffers.remove(key, buffer)) {
+            emit(key, buffer);
+        }
+    }
+
+    private void emit(Object key, Buffer buffer) {
+        batchesSent.increment();
+        if (logger.isDebugEnabled()) {
+            logger.debug("Forwarding {} ICE candidates for {}", buffer.candidates.size(), key);
+        }
+        try {
+            buffer.flush.accept(buffer.candidates);
+        } catch (Exception e) {
+            logger.error("Error forwarding ICE candidates for {}", key, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,109 @@
+package com.morago_backend.signaling;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Single-node registry: every session and seat lives in this JVM. A reverse index from session to seats keeps
+ * disconnects proportional to the rooms the session was in.
+ */
+@Component
+@ConditionalOnProperty(name = "signaling.cluster.mode", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRoomRegistry implements RoomRegistry {
+
+    private final SignalingNode node;
+
+    // roomId -> userId -> seat
+    private final ConcurrentHashMap<String, Map<String, RoomMember>> rooms = new ConcurrentHashMap<>();
+
+    // (namespace, sessionId) -> seats it holds
+    private final ConcurrentHashMap<SessionKey, Set<Seat>> sessions = new ConcurrentHashMap<>();
+
+    private record SessionKey(String namespace, UUID sessionId) {
+    }
+
+    private record Seat(String roomId, String userId) {
+    }
+
+    public InMemoryRoomRegistry(SignalingNode node) {
+        this.node = node;
+    }
+
+    @Override
+    public void attach(String namespace, UUID sessionId) {
+        sessions.computeIfAbsent(new SessionKey(namespace, sessionId), key -> ConcurrentHashMap.newKeySet());
+    }
+
+    @Override
+    public Set<String> detach(String namespace, UUID sessionId) {
+        Set<Seat> held = sessions.remove(new SessionKey(namespace, sessionId));
+        if (held == null) {
+            return Set.of();
+        }
+        Set<String> left = new HashSet<>();
+        for (Seat seat : held) {
+            if (free(seat, namespace, sessionId)) {
+                left.add(seat.roomId());
+            }
+        }
+        return left;
+    }
+
+    @Override
+    public Optional<String> locate(String namespace, UUID sessionId) {
+        return sessions.containsKey(new SessionKey(namespace, sessionId)) ? Optional.of(node.getId()) : Optional.empty();
+    }
+
+    @Override
+    public void join(String roomId, String userId, String namespace, UUID sessionId) {
+        Seat seat = new Seat(roomId, userId);
+        SessionKey session = new SessionKey(namespace, sessionId);
+        RoomMember member = new RoomMember(userId, namespace, sessionId, node.getId(), "online");
+
+        // compute() serialises joins and leaves per room, keeping the reverse index in step with the room map
+        rooms.compute(roomId, (id, members) -> {
+            Map<String, RoomMember> room = members != null ? members : new ConcurrentHashMap<>();
+            RoomMember previous = room.put(userId, member);
+            if (previous != null && !previous.heldBy(namespace, sessionId)) {
+                // Same user rejoined from another socket; the old session no longer holds this seat
+                sessions.computeIfPresent(new SessionKey(previous.namespace(), previous.sessionId()), (key, held) -> {
+                    held.remove(seat);
+                    return held;
+                });
+            }
+            sessions.computeIfAbsent(session, key -> ConcurrentHashMap.newKeySet()).add(seat);
+            return room;
+        });
+    }
+
+    @Override
+    public Map<String, RoomMember> members(String roomId) {
+        Map<String, RoomMember> room = rooms.get(roomId);
+        return room != null ? Collections.unmodifiableMap(room) : Map.of();
+    }
+
+    // Frees the seat if it still belongs to this session; rooms left empty are dropped
+    private boolean free(Seat seat, String namespace, UUID sessionId) {
+        AtomicBoolean freed = new AtomicBoolean();
+        rooms.computeIfPresent(seat.roomId(), (roomId, members) -> {
+            members.computeIfPresent(seat.userId(), (userId, member) -> {
+                if (member.heldBy(namespace, sessionId)) {
+                    freed.set(true);
+                    return null;
+                }
+                return member;
+            });
+            return members.isEmpty() ? null : members;
+        });
+        return freed.get();
+    }
+}
@@ -0,0 +1,23 @@
+package com.morago_backend.signaling;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Single-node bus: every session is local, so sending is a direct delivery.
+ */
+@Component
+@ConditionalOnProperty(name = "signaling.cluster.mode", havingValue = "memory", matchIfMissing = true)
+public class InMemorySignalingBus implements SignalingBus {
+
+    private final SignalingNode node;
+
+    public InMemorySignalingBus(SignalingNode node) {
+        this.node = node;
+    }
+
+    @Override
+    public void send(SignalTarget target, String event, Object payload) {
+        node.deliver(target, event, payload);
+    }
+}
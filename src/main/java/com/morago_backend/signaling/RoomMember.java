@@ -0,0 +1,17 @@
+package com.morago_backend.signaling;
+
+import java.util.UUID;
+
+/**
+ * A seat in a signaling room: which user holds it, from which session (namespace and id) and on which node.
+ */
+public record RoomMember(String userId, String namespace, UUID sessionId, String nodeId, String status) {
+
+    public SignalTarget target() {
+        return new SignalTarget(nodeId, namespace, sessionId);
+    }
+
+    boolean heldBy(String namespace, UUID sessionId) {
+        return this.namespace.equals(namespace) && this.sessionId.equals(sessionId);
+    }
+}
@@ -0,0 +1,31 @@
+package com.morago_backend.signaling;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Cluster-wide view of connected signaling sessions and room seats. Sessions are always registered by the node
+ * they are connected to ({@link SignalingNode}); other nodes only read them to route messages.
+ * <p>
+ * Socket.IO multiplexes namespaces over one connection with a single session id, so a session is identified by
+ * its namespace and id together: leaving one namespace must not free what the same client holds in another.
+ */
+public interface RoomRegistry {
+
+    /** Records a session connected to this node */
+    void attach(String namespace, UUID sessionId);
+
+    /** Forgets a session of this node and frees its seats; returns the rooms it left */
+    Set<String> detach(String namespace, UUID sessionId);
+
+    /** Node the session is connected to, if it is connected anywhere */
+    Optional<String> locate(String namespace, UUID sessionId);
+
+    /** Seats the user in the room from a session of this node, replacing any seat the user held before */
+    void join(String roomId, String userId, String namespace, UUID sessionId);
+
+    /** Current seats of a room keyed by user id; empty for unknown rooms */
+    Map<String, RoomMember> members(String roomId);
+}
@@ -0,0 +1,9 @@
+package com.morago_backend.signaling;
+
+import java.util.UUID;
+
+/**
+ * A Socket.IO session somewhere in the cluster: the node it is connected to, the namespace and its session id.
+ */
+public record SignalTarget(String nodeId, String namespace, UUID sessionId) {
+}
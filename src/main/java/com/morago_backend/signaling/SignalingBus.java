@@ -0,0 +1,9 @@
+package com.morago_backend.signaling;
+
+/**
+ * Delivers signaling events to a session on whichever node holds it.
+ */
+public interface SignalingBus {
+
+    void send(SignalTarget target, String event, Object payload);
+}
@@ -4,6 +4,7 @@ import com.corundumstudio.socketio.SocketIOClient;
 import com.corundumstudio.socketio.annotation.OnConnect;
 import com.corundumstudio.socketio.annotation.OnDisconnect;
 import com.corundumstudio.socketio.annotation.OnEvent;
+import com.morago_backend.signaling.dto.IceCandidateBatch;
 import com.morago_backend.signaling.dto.IceCandidateMessage;
 import com.morago_backend.signaling.dto.JoinRoomRequest;
 import com.morago_backend.signaling.dto.SdpMessage;
@@ -11,19 +12,34 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Component
 public class SignalingHandler {
 
-    // Mapping of roomId -> Map of userId -> Participant (client + status)
-    private final ConcurrentHashMap<String, Map<String, Participant>> rooms = new ConcurrentHashMap<>();
+    // Room seats and session locations, possibly shared with other nodes (see signaling.cluster.mode)
+    private final RoomRegistry roomRegistry;
+
+    // Delivers to a participant on whichever node its session is connected to
+    private final SignalingBus signalingBus;
+
+    // Trickled candidates are forwarded in batches per (room, sender)
+    private final IceCandidateCoalescer candidateCoalescer;
+
+    private record CandidateKey(String roomId, UUID senderSessionId) {
+    }
+
+    public SignalingHandler(RoomRegistry roomRegistry, SignalingBus signalingBus, IceCandidateCoalescer candidateCoalescer) {
+        this.roomRegistry = roomRegistry;
+        this.signalingBus = signalingBus;
+        this.candidateCoalescer = candidateCoalescer;
+    }
 
     // Called when a client connects to the server
     @OnConnect
     public void onConnect(SocketIOClient client) {
         log.info("Client connected: {}", client.getSessionId());
+        roomRegistry.attach(client.getNamespace().getName(), client.getSessionId());
     }
 
     // Called when a client disconnects from the server
@@ -31,26 +47,16 @@ public class SignalingHandler {
     public void onDisconnect(SocketIOClient client) {
         log.info("Client disconnected: {}", client.getSessionId());
 
-        // Remove participant from all rooms
-        for (String roomId : rooms.keySet()) {
-            Map<String, Participant> participants = rooms.get(roomId);
-            if (participants != null) {
-                boolean removed = participants.values().removeIf(p ->
-                        p.getClient().getSessionId().equals(client.getSessionId())
-                );
-                if (removed) {
-                    broadcastStatus(roomId); // Notify remaining participants
-                }
-            }
+        // Only the rooms this session held a seat in are touched
+        for (String roomId : roomRegistry.detach(client.getNamespace().getName(), client.getSessionId())) {
+            broadcastStatus(roomId); // Notify remaining participants
         }
     }
 
     // Event when a user joins a room
     @OnEvent("join")
     public void onJoin(SocketIOClient client, JoinRoomRequest request) {
-        rooms.putIfAbsent(request.getRoomId(), new ConcurrentHashMap<>());
-        rooms.get(request.getRoomId())
-                .put(request.getUserId(), new Participant(client, "online"));
+        roomRegistry.join(request.getRoomId(), request.getUserId(), client.getNamespace().getName(), client.getSessionId());
 
         log.info("User {} joined room {}", request.getUserId(), request.getRoomId());
 
@@ -62,43 +68,50 @@ public class SignalingHandler {
     @OnEvent("offer")
     public void onOffer(SocketIOClient client, SdpMessage offer) {
         log.info("Received SDP offer in room {} from type {}", offer.getRoomId(), offer.getType());
-        broadcastToRoomExceptSender(client, offer.getRoomId(), "offer", offer);
+        broadcastToRoomExceptSender(client.getSessionId(), offer.getRoomId(), "offer", offer);
     }
 
     // Event when an SDP answer is received
     @OnEvent("answer")
     public void onAnswer(SocketIOClient client, SdpMessage answer) {
         log.info("Received SDP answer in room {} from type {}", answer.getRoomId(), answer.getType());
-        broadcastToRoomExceptSender(client, answer.getRoomId(), "answer", answer);
+        broadcastToRoomExceptSender(client.getSessionId(), answer.getRoomId(), "answer", answer);
     }
 
-    // Event when an ICE candidate is received
+    // Event when an ICE candidate is received; forwarded as part of a "candidates" batch unless coalescing is off
     @OnEvent("candidate")
     public void onCandidate(SocketIOClient client, IceCandidateMessage candidate) {
-        log.info("Received ICE candidate in room {}", candidate.getRoomId());
-        broadcastToRoomExceptSender(client, candidate.getRoomId(), "candidate", candidate);
+        UUID senderSessionId = client.getSessionId();
+        String roomId = candidate.getRoomId();
+        if (!candidateCoalescer.isEnabled()) {
+            candidateCoalescer.recordUnbatched();
+            broadcastToRoomExceptSender(senderSessionId, roomId, "candidate", candidate);
+            return;
+        }
+        // An empty candidate is the sender's end-of-candidates marker
+        boolean endOfCandidates = candidate.getCandidate() == null || candidate.getCandidate().isEmpty();
+        candidateCoalescer.add(new CandidateKey(roomId, senderSessionId), candidate, endOfCandidates,
+                (List<IceCandidateMessage> batch) -> broadcastToRoomExceptSender(
+                        senderSessionId, roomId, "candidates", new IceCandidateBatch(roomId, batch)));
     }
 
     // Broadcast a message to all participants in the room except the sender
-    private void broadcastToRoomExceptSender(SocketIOClient sender, String roomId, String event, Object data) {
-        Map<String, Participant> participants = rooms.get(roomId);
-        if (participants != null) {
-            participants.values().forEach(p -> {
-                if (!p.getClient().getSessionId().equals(sender.getSessionId())) {
-                    p.getClient().sendEvent(event, data);
-                }
-            });
+    private void broadcastToRoomExceptSender(UUID senderSessionId, String roomId, String event, Object data) {
+        for (RoomMember member : roomRegistry.members(roomId).values()) {
+            if (!member.sessionId().equals(senderSessionId)) {
+                signalingBus.send(member.target(), event, data);
+            }
         }
     }
 
     // Broadcast the participant status map to all clients in the room
     private void broadcastStatus(String roomId) {
-        Map<String, Participant> participants = rooms.get(roomId);
-        if (participants != null) {
+        Map<String, RoomMember> members = roomRegistry.members(roomId);
+        if (!members.isEmpty()) {
             Map<String, String> statusMap = new HashMap<>();
-            participants.forEach((userId, participant) -> statusMap.put(userId, participant.getStatus()));
+            members.forEach((userId, member) -> statusMap.put(userId, member.status()));
 
-            participants.values().forEach(p -> p.getClient().sendEvent("participant-status", statusMap));
+            members.values().forEach(member -> signalingBus.send(member.target(), "participant-status", statusMap));
         }
     }
 }
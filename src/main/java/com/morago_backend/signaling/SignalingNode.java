@@ -0,0 +1,45 @@
+package com.morago_backend.signaling;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.SocketIONamespace;
+import com.corundumstudio.socketio.SocketIOServer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * This instance's identity in the signaling cluster and the last hop of every delivery: sending to a session
+ * connected here.
+ */
+@Component
+public class SignalingNode {
+
+    private final SocketIOServer socketServer;
+    private final String id;
+
+    public SignalingNode(SocketIOServer socketServer, @Value("${signaling.node-id:}") String nodeId) {
+        this.socketServer = socketServer;
+        // A fixed id lets a restarted node clean up what its previous run registered
+        this.id = nodeId == null || nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public boolean isLocal(SignalTarget target) {
+        return id.equals(target.nodeId());
+    }
+
+    /** Sends to a session connected to this node; false if it is not (or no longer) here */
+    public boolean deliver(SignalTarget target, String event, Object payload) {
+        SocketIONamespace namespace = socketServer.getNamespace(target.namespace());
+        SocketIOClient client = namespace != null ? namespace.getClient(target.sessionId()) : null;
+        if (client == null) {
+            return false;
+        }
+        client.sendEvent(event, payload);
+        return true;
+    }
+}
@@ -0,0 +1,18 @@
+package com.morago_backend.signaling.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * ICE candidates from one sender in a room, sent as a single "candidates" event.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IceCandidateBatch {
+    private String roomId;
+    private List<IceCandidateMessage> candidates;
+}
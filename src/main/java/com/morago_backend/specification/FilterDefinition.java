@@ -0,0 +1,274 @@
+package com.morago_backend.specification;
+
+import com.morago_backend.dto.dtoRequest.FilterRequest;
+import com.morago_backend.dto.dtoRequest.PaginationRequest;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Describes how a {@link FilterRequest} and {@link PaginationRequest} map onto one entity:
+ * which attributes the free-text search covers, which filter keys are accepted, which attribute
+ * the date range applies to and which fields may be sorted on. Everything is translated into
+ * SQL predicates, so paging and counts are computed by the database.
+ */
+public class FilterDefinition<T> {
+
+    /** Builds the predicate for one accepted filter key */
+    @FunctionalInterface
+    public interface FieldFilter<T> {
+        Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb, Object value);
+    }
+
+    private final List<String> searchPaths;
+    private final Map<String, FieldFilter<T>> filters;
+    private final String datePath;
+    private final Map<String, String> sortPaths;
+
+    private FilterDefinition(Builder<T> builder) {
+        this.searchPaths = List.copyOf(builder.searchPaths);
+        this.filters = Map.copyOf(builder.filters);
+        this.datePath = builder.datePath;
+        this.sortPaths = Map.copyOf(builder.sortPaths);
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    // ========== SPECIFICATION ==========
+    /**
+     * Filter keys and dates are checked here, before the query is built: an exception thrown from inside the
+     * Specification reaches the caller wrapped in a data-access exception instead of as a bad request.
+     */
+    public Specification<T> toSpecification(FilterRequest filter) {
+        if (filter == null) {
+            return (root, query, cb) -> cb.conjunction();
+        }
+
+        // MySQL's default collations are case-insensitive, so no LOWER() that would hide the column
+        String pattern = filter.hasSearch() && !searchPaths.isEmpty()
+                ? "%" + escapeLike(filter.getSearch().trim()) + "%" : null;
+
+        List<Map.Entry<FieldFilter<T>, Object>> fieldValues = new ArrayList<>();
+        if (filter.hasFilters()) {
+            for (Map.Entry<String, Object> entry : filter.getFilters().entrySet()) {
+                FieldFilter<T> fieldFilter = filters.get(entry.getKey());
+                if (fieldFilter == null) {
+                    throw new IllegalArgumentException("Unsupported filter: " + entry.getKey());
+                }
+                if (entry.getValue() != null && !entry.getValue().toString().isBlank()) {
+                    fieldValues.add(Map.entry(fieldFilter, entry.getValue()));
+                }
+            }
+        }
+
+        LocalDateTime from = null;
+        LocalDateTime to = null;
+        if (filter.hasDateRange() && datePath != null) {
+            if (filter.getDateFrom() != null && !filter.getDateFrom().isBlank()) {
+                from = parseDate(filter.getDateFrom(), false);
+            }
+            if (filter.getDateTo() != null && !filter.getDateTo().isBlank()) {
+                to = parseDate(filter.getDateTo(), true);
+            }
+        }
+        LocalDateTime dateFrom = from;
+        LocalDateTime dateTo = to;
+
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            Map<String, Join<?, ?>> joins = new HashMap<>();
+
+            if (pattern != null) {
+                List<Predicate> matches = new ArrayList<>();
+                for (String searchPath : searchPaths) {
+                    Path<String> path = resolve(root, searchPath, joins);
+                    matches.add(cb.like(path, pattern, '\\'));
+                }
+                predicates.add(cb.or(matches.toArray(new Predicate[0])));
+            }
+
+            // Values are converted to the attribute type here; a bad value surfaces as
+            // InvalidDataAccessApiUsageException, which GlobalExceptionHandler answers with 400
+            for (Map.Entry<FieldFilter<T>, Object> fieldValue : fieldValues) {
+                predicates.add(fieldValue.getKey().toPredicate(root, query, cb, fieldValue.getValue()));
+            }
+
+            if (dateFrom != null || dateTo != null) {
+                Path<LocalDateTime> date = root.get(datePath);
+                if (dateFrom != null) {
+                    predicates.add(cb.greaterThanOrEqualTo(date, dateFrom));
+                }
+                if (dateTo != null) {
+                    predicates.add(cb.lessThanOrEqualTo(date, dateTo));
+                }
+            }
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    // ========== SORTING & PAGING ==========
+    public Sort toSort(PaginationRequest pagination) {
+        String requested = pagination.getSortBy() == null || pagination.getSortBy().isBlank()
+                ? "id" : pagination.getSortBy();
+        String path = sortPaths.get(requested);
+        if (path == null) {
+            throw new IllegalArgumentException("Unsupported sort field: " + requested
+                    + ". Allowed: " + String.join(", ", sortPaths.keySet()));
+        }
+        Sort.Direction direction = pagination.isAscending() ? Sort.Direction.ASC : Sort.Direction.DESC;
+        Sort sort = Sort.by(direction, path);
+        // Tie-break on the primary key so pages are stable when the sort column has duplicates
+        return "id".equals(path) ? sort : sort.and(Sort.by(direction, "id"));
+    }
+
+    public Pageable toPageable(PaginationRequest pagination) {
+        return PageRequest.of(pagination.getPage(), pagination.getSize(), toSort(pagination));
+    }
+
+    // ========== HELPERS ==========
+    private static <Y> Path<Y> resolve(Root<?> root, String dottedPath, Map<String, Join<?, ?>> joins) {
+        String[] segments = dottedPath.split("\\.");
+        From<?, ?> from = root;
+        StringBuilder joinKey = new StringBuilder();
+        for (int i = 0; i < segments.length - 1; i++) {
+            joinKey.append(segments[i]).append('.');
+            From<?, ?> parent = from;
+            String segment = segments[i];
+            from = joins.computeIfAbsent(joinKey.toString(), k -> parent.join(segment, JoinType.LEFT));
+        }
+        return from.get(segments[segments.length - 1]);
+    }
+
+    private static String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static LocalDateTime parseDate(String value, boolean endOfRange) {
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException ignored) {
+            try {
+                LocalDate date = LocalDate.parse(value);
+                return endOfRange ? date.atTime(23, 59, 59, 999_999_999) : date.atStartOfDay();
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid date: " + value + ". Use ISO format, e.g. 2023-01-31 or 2023-01-31T00:00:00");
+            }
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static Object convert(Class<?> type, Object raw, String key) {
+        if (type.isInstance(raw)) {
+            return raw;
+        }
+        String value = raw.toString().trim();
+        try {
+            if (type == Boolean.class || type == boolean.class) {
+                if (!value.equalsIgnoreCase("true") && !value.equalsIgnoreCase("false")) {
+                    throw new IllegalArgumentException(value);
+                }
+                return Boolean.valueOf(value);
+            }
+            if (type == Long.class || type == long.class) return Long.valueOf(value);
+            if (type == Integer.class || type == int.class) return Integer.valueOf(value);
+            if (type == BigDecimal.class) return new BigDecimal(value);
+            if (type == LocalDate.class) return LocalDate.parse(value);
+            if (type == LocalDateTime.class) return LocalDateTime.parse(value);
+            if (type.isEnum()) return Enum.valueOf((Class<Enum>) type, value.toUpperCase());
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid value for filter '" + key + "': " + value);
+        }
+        return value;
+    }
+
+    // ========== BUILDER ==========
+    public static class Builder<T> {
+        private final List<String> searchPaths = new ArrayList<>();
+        private final Map<String, FieldFilter<T>> filters = new LinkedHashMap<>();
+        private final Map<String, String> sortPaths = new LinkedHashMap<>();
+        private String datePath;
+
+        /** Attributes (dot paths allowed, joined LEFT) matched with LIKE %term% */
+        public Builder<T> search(String... paths) {
+            searchPaths.addAll(List.of(paths));
+            return this;
+        }
+
+        /** Filter key compared for equality with an attribute; the value is converted to the attribute type */
+        public Builder<T> equal(String key, String attribute) {
+            filters.put(key, (root, query, cb, value) -> {
+                Path<Object> path = root.get(attribute);
+                return cb.equal(path, convert(path.getJavaType(), value, key));
+            });
+            return this;
+        }
+
+        /** Filter key matching rows whose collection association contains an element with the given id */
+        public Builder<T> memberId(String key, String collection) {
+            filters.put(key, (root, query, cb, value) -> {
+                Subquery<Integer> subquery = query.subquery(Integer.class);
+                Root<T> correlated = subquery.correlate(root);
+                Join<T, ?> member = correlated.join(collection);
+                Path<Object> id = member.get("id");
+                subquery.select(cb.literal(1)).where(cb.equal(id, convert(id.getJavaType(), value, key)));
+                return cb.exists(subquery);
+            });
+            return this;
+        }
+
+        public Builder<T> filter(String key, FieldFilter<T> filter) {
+            filters.put(key, filter);
+            return this;
+        }
+
+        /** Attribute that dateFrom/dateTo apply to */
+        public Builder<T> dateRange(String attribute) {
+            this.datePath = attribute;
+            return this;
+        }
+
+        /** Sort field exposed under its own name */
+        public Builder<T> sortable(String... attributes) {
+            for (String attribute : attributes) {
+                sortPaths.put(attribute, attribute);
+            }
+            return this;
+        }
+
+        /** Sort field exposed under an API name that differs from the attribute */
+        public Builder<T> sortableAs(String apiName, String attribute) {
+            sortPaths.put(apiName, attribute);
+            return this;
+        }
+
+        public FilterDefinition<T> build() {
+            if (!sortPaths.containsKey("id")) {
+                sortPaths.put("id", "id");
+            }
+            return new FilterDefinition<>(this);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.morago_backend.specification;
+
+import com.morago_backend.entity.Category;
+import com.morago_backend.entity.Language;
+import com.morago_backend.entity.TranslatorProfile;
+import com.morago_backend.entity.User;
+import com.morago_backend.entity.UserRole;
+
+import java.util.Set;
+
+/**
+ * Per-entity search, filter and sort whitelists used by the paginated list endpoints.
+ */
+public final class FilterDefinitions {
+
+    private FilterDefinitions() {
+    }
+
+    // filters: role (CLIENT/INTERPRETER/ADMINISTRATOR), active, debtor
+    public static final FilterDefinition<User> USERS = FilterDefinition.<User>builder()
+            .search("phone", "firstName", "lastName")
+            .filter("role", (root, query, cb, value) -> cb.isMember(
+                    (UserRole) FilterDefinition.convert(UserRole.class, value, "role"),
+                    root.<Set<UserRole>>get("roles")))
+            .equal("active", "isActive")
+            .equal("debtor", "isDebtor")
+            .dateRange("createdAt")
+            .sortable("id", "phone", "firstName", "lastName", "balance", "ratings", "createdAt")
+            .sortableAs("createdAtDatetime", "createdAt")
+            .build();
+
+    // filters: active
+    public static final FilterDefinition<Category> CATEGORIES = FilterDefinition.<Category>builder()
+            .search("name")
+            .equal("active", "isActive")
+            .dateRange("createdAt")
+            .sortable("id", "name", "isActive", "createdAt")
+            .sortableAs("createdAtDatetime", "createdAt")
+            .build();
+
+    public static final FilterDefinition<Language> LANGUAGES = FilterDefinition.<Language>builder()
+            .search("name")
+            .dateRange("createdAtDatetime")
+            .sortable("id", "name", "createdAtDatetime")
+            .build();
+
+    // filters: available, online, verified, themeId, languageId
+    public static final FilterDefinition<TranslatorProfile> TRANSLATOR_PROFILES = FilterDefinition.<TranslatorProfile>builder()
+            .search("email", "user.phone", "user.firstName", "user.lastName")
+            .equal("available", "isAvailable")
+            .equal("online", "isOnline")
+            .equal("verified", "isVerified")
+            .memberId("themeId", "themes")
+            .memberId("languageId", "languages")
+            .dateRange("createdAt")
+            .sortable("id", "email", "levelOfKorean", "createdAt", "updatedAt")
+            .sortableAs("createdAtDatetime", "createdAt")
+            .build();
+}
@@ -0,0 +1,58 @@
+package com.morago_backend.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Encodes and decodes the opaque keyset cursor used by the cursor-paginated endpoints.
+ * A cursor is the {@code (createdAtDatetime, id)} of the last row returned.
+ */
+public final class CursorCodec {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private static final String SEPARATOR = "|";
+
+    private CursorCodec() {
+    }
+
+    public record Cursor(LocalDateTime createdAt, Long id) {
+    }
+
+    public static String encode(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the decoded cursor, or null for a missing cursor (first page)
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static Cursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new Cursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.valueOf(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    /** Clamps the requested page size to 1..MAX_SIZE */
+    public static int pageSize(Integer requested) {
+        if (requested == null) {
+            return DEFAULT_SIZE;
+        }
+        return Math.max(1, Math.min(requested, MAX_SIZE));
+    }
+}
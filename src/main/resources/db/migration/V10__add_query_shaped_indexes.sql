@@ -0,0 +1,130 @@
+-- V10: Composite indexes shaped for the repository finders (equality columns first, then the sort column)
+
+-- Transactions filtered by status or type for a user, newest first
+CREATE INDEX idx_transactions_user_status_created ON transactions (user_id, status, created_at_datetime);
+CREATE INDEX idx_transactions_user_type_created ON transactions (user_id, transaction_type, created_at_datetime);
+
+-- Superseded by idx_transactions_user_created_id (V9), which also backs the user foreign key
+DROP INDEX idx_user_id ON transactions;
+
+-- The remaining tables are created by Hibernate and may not exist yet on a fresh schema; an entity-level
+-- @Index may also have created the index already, so each statement is guarded.
+
+-- Ratings received by a user (findByToWhomUserId, rating summary rebuild)
+SET @table_exists := (
+    SELECT COUNT(*) FROM information_schema.TABLES
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'ratings'
+);
+SET @index_exists := (
+    SELECT COUNT(*) FROM information_schema.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'ratings' AND INDEX_NAME = 'idx_ratings_to_whom_grade'
+);
+SET @ddl := IF(@table_exists = 0 OR @index_exists > 0,
+    'DO 0',
+    'CREATE INDEX idx_ratings_to_whom_grade ON ratings (to_whom_user_id_bigint, grade_decimal15_2)'
+);
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- Withdrawals by user, newest first (also serves the user date-range query)
+SET @table_exists := (
+    SELECT COUNT(*) FROM information_schema.TABLES
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'withdrawals'
+);
+SET @index_exists := (
+    SELECT COUNT(*) FROM information_schema.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'withdrawals' AND INDEX_NAME = 'idx_withdrawals_user_created'
+);
+SET @ddl := IF(@table_exists = 0 OR @index_exists > 0,
+    'DO 0',
+    'CREATE INDEX idx_withdrawals_user_created ON withdrawals (user_id_bigint, created_at_datetime)'
+);
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- Withdrawals by user and status, newest first (and the pending/approved sums)
+SET @table_exists := (
+    SELECT COUNT(*) FROM information_schema.TABLES
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'withdrawals'
+);
+SET @index_exists := (
+    SELECT COUNT(*) FROM information_schema.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'withdrawals' AND INDEX_NAME = 'idx_withdrawals_user_status_created'
+);
+SET @ddl := IF(@table_exists = 0 OR @index_exists > 0,
+    'DO 0',
+    'CREATE INDEX idx_withdrawals_user_status_created ON withdrawals (user_id_bigint, status_varchar50, created_at_datetime)'
+);
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- Withdrawals by status, newest first (and the status date-range query)
+SET @table_exists := (
+    SELECT COUNT(*) FROM information_schema.TABLES
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'withdrawals'
+);
+SET @index_exists := (
+    SELECT COUNT(*) FROM information_schema.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'withdrawals' AND INDEX_NAME = 'idx_withdrawals_status_created'
+);
+SET @ddl := IF(@table_exists = 0 OR @index_exists > 0,
+    'DO 0',
+    'CREATE INDEX idx_withdrawals_status_created ON withdrawals (status_varchar50, created_at_datetime)'
+);
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- Latest reset code for a phone (findTopByPhoneOrderByCreatedAtDatetimeDesc)
+SET @table_exists := (
+    SELECT COUNT(*) FROM information_schema.TABLES
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'password_resets'
+);
+SET @index_exists := (
+    SELECT COUNT(*) FROM information_schema.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'password_resets' AND INDEX_NAME = 'idx_password_resets_phone_created'
+);
+SET @ddl := IF(@table_exists = 0 OR @index_exists > 0,
+    'DO 0',
+    'CREATE INDEX idx_password_resets_phone_created ON password_resets (phone_varchar100, created_at_datetime)'
+);
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- Interpreters by theme (category listing, themeId filter)
+SET @table_exists := (
+    SELECT COUNT(*) FROM information_schema.TABLES
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'translator_themes'
+);
+SET @index_exists := (
+    SELECT COUNT(*) FROM information_schema.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'translator_themes' AND INDEX_NAME = 'idx_translator_themes_theme_profile'
+);
+SET @ddl := IF(@table_exists = 0 OR @index_exists > 0,
+    'DO 0',
+    'CREATE INDEX idx_translator_themes_theme_profile ON translator_themes (theme_id, translator_profile_id)'
+);
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- Interpreters by language (languageId filter)
+SET @table_exists := (
+    SELECT COUNT(*) FROM information_schema.TABLES
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'translator_languages'
+);
+SET @index_exists := (
+    SELECT COUNT(*) FROM information_schema.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'translator_languages' AND INDEX_NAME = 'idx_translator_languages_language_profile'
+);
+SET @ddl := IF(@table_exists = 0 OR @index_exists > 0,
+    'DO 0',
+    'CREATE INDEX idx_translator_languages_language_profile ON translator_languages (language_id, translator_profile_id)'
+);
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,43 @@
+-- V11: Append-only double-entry ledger and per-account balance snapshots
+
+CREATE TABLE IF NOT EXISTS ledger_entries (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    transaction_id BIGINT NULL,
+    account_type VARCHAR(50) NOT NULL,
+    account_owner_id BIGINT NOT NULL,
+    amount DECIMAL(14,2) NOT NULL,
+    created_at_datetime TIMESTAMP NULL,
+    updated_at_datetime TIMESTAMP NULL,
+
+    -- Account tail replay and snapshot scans
+    INDEX idx_ledger_entries_account_id (account_type, account_owner_id, id),
+    INDEX idx_ledger_entries_transaction (transaction_id),
+    INDEX idx_ledger_entries_created_at (created_at_datetime)
+);
+
+CREATE TABLE IF NOT EXISTS ledger_snapshots (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    account_type VARCHAR(50) NOT NULL,
+    account_owner_id BIGINT NOT NULL,
+    last_entry_id BIGINT NOT NULL,
+    balance DECIMAL(14,2) NOT NULL,
+    entry_count BIGINT NOT NULL,
+    as_of_datetime TIMESTAMP NOT NULL,
+    created_at_datetime TIMESTAMP NULL,
+    updated_at_datetime TIMESTAMP NULL,
+
+    CONSTRAINT uq_ledger_snapshots_account_entry UNIQUE (account_type, account_owner_id, last_entry_id),
+    INDEX idx_ledger_snapshots_account_as_of (account_type, account_owner_id, as_of_datetime)
+);
+
+-- Opening balances: bring every existing wallet into the ledger against platform cash
+INSERT INTO ledger_entries (transaction_id, account_type, account_owner_id, amount, created_at_datetime, updated_at_datetime)
+SELECT NULL, 'USER_WALLET', u.id, u.balance, NOW(), NOW()
+FROM users u
+WHERE u.balance IS NOT NULL AND u.balance <> 0;
+
+INSERT INTO ledger_entries (transaction_id, account_type, account_owner_id, amount, created_at_datetime, updated_at_datetime)
+SELECT NULL, 'PLATFORM_CASH', 0, -SUM(u.balance), NOW(), NOW()
+FROM users u
+WHERE u.balance IS NOT NULL AND u.balance <> 0
+HAVING COUNT(*) > 0;
@@ -0,0 +1,15 @@
+-- V12: Durable queue for asynchronous call settlement (settlement.async.enabled=true)
+
+CREATE TABLE IF NOT EXISTS settlement_outbox (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    call_record_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    last_error VARCHAR(1000),
+    created_at_datetime TIMESTAMP NULL,
+    updated_at_datetime TIMESTAMP NULL,
+
+    CONSTRAINT uq_settlement_outbox_call UNIQUE (call_record_id),
+    -- Worker claims pending rows in id order
+    INDEX idx_settlement_outbox_status_id (status, id)
+);
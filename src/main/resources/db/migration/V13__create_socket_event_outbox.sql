@@ -0,0 +1,13 @@
+-- V13: Outbox for Socket.IO events, written in the same transaction as the change they announce
+
+CREATE TABLE IF NOT EXISTS socket_event_outbox (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    event_name VARCHAR(100) NOT NULL,
+    payload TEXT,
+    target_rooms VARCHAR(1000),
+    created_at_datetime TIMESTAMP NULL,
+    updated_at_datetime TIMESTAMP NULL,
+
+    -- Sweep of events left behind after a crash
+    INDEX idx_socket_event_outbox_created (created_at_datetime)
+);
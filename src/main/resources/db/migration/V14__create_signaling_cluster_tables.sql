@@ -0,0 +1,41 @@
+-- V14: Shared signaling state for signaling.cluster.mode=database
+
+-- Socket.IO sessions and the node each one is connected to
+CREATE TABLE IF NOT EXISTS signaling_sessions (
+    session_id VARCHAR(36) PRIMARY KEY,
+    node_id VARCHAR(64) NOT NULL,
+    connected_at_datetime TIMESTAMP NULL,
+
+    INDEX idx_signaling_sessions_node (node_id)
+);
+
+-- One seat per (room, user); a rejoin from another session takes it over
+CREATE TABLE IF NOT EXISTS signaling_seats (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    room_id VARCHAR(100) NOT NULL,
+    user_id VARCHAR(100) NOT NULL,
+    session_id VARCHAR(36) NOT NULL,
+    node_id VARCHAR(64) NOT NULL,
+    status VARCHAR(20),
+    created_at_datetime TIMESTAMP NULL,
+    updated_at_datetime TIMESTAMP NULL,
+
+    CONSTRAINT uk_signaling_seats_room_user UNIQUE (room_id, user_id),
+    INDEX idx_signaling_seats_session (session_id),
+    INDEX idx_signaling_seats_node (node_id)
+);
+
+-- Signaling events waiting for the node that holds the target session
+CREATE TABLE IF NOT EXISTS signaling_messages (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    target_node VARCHAR(64) NOT NULL,
+    namespace VARCHAR(100) NOT NULL,
+    session_id VARCHAR(36) NOT NULL,
+    event_name VARCHAR(100) NOT NULL,
+    payload TEXT,
+    created_at_datetime TIMESTAMP NULL,
+    updated_at_datetime TIMESTAMP NULL,
+
+    INDEX idx_signaling_messages_node_id (target_node, id),
+    INDEX idx_signaling_messages_created (created_at_datetime)
+);
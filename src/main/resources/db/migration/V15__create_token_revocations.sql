@@ -0,0 +1,16 @@
+-- V15: Token revocations shared by all nodes; each node mirrors them in memory and polls for new rows
+
+-- Either a single revoked token (jti) or a per-user cutoff (issued_before) that kills every older token.
+-- Rows are useless once expires_at has passed, since the tokens they cover have expired too.
+CREATE TABLE IF NOT EXISTS token_revocations (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    jti VARCHAR(64) NULL,
+    user_id BIGINT NULL,
+    issued_before DATETIME NULL,
+    expires_at DATETIME NOT NULL,
+    created_at_datetime TIMESTAMP NULL,
+    updated_at_datetime TIMESTAMP NULL,
+
+    CONSTRAINT uk_token_revocations_jti UNIQUE (jti),
+    INDEX idx_token_revocations_expires (expires_at)
+);
@@ -0,0 +1,44 @@
+-- V16: Attempt counter and verification flag for password reset codes (password-reset.store.mode=database)
+
+-- password_resets is created by Hibernate and may not exist yet on a fresh schema; an update-mode run may
+-- also have added the columns already, so each statement is guarded.
+SET @table_exists := (
+    SELECT COUNT(*) FROM information_schema.TABLES
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'password_resets'
+);
+SET @column_exists := (
+    SELECT COUNT(*) FROM information_schema.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'password_resets' AND COLUMN_NAME = 'failed_attempts_int'
+);
+SET @ddl := IF(@table_exists = 0 OR @column_exists > 0,
+    'DO 0',
+    'ALTER TABLE password_resets ADD COLUMN failed_attempts_int INT NOT NULL DEFAULT 0'
+);
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @column_exists := (
+    SELECT COUNT(*) FROM information_schema.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'password_resets' AND COLUMN_NAME = 'is_verified'
+);
+SET @ddl := IF(@table_exists = 0 OR @column_exists > 0,
+    'DO 0',
+    'ALTER TABLE password_resets ADD COLUMN is_verified BIT(1) NOT NULL DEFAULT 0'
+);
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- Purge job deletes by age
+SET @index_exists := (
+    SELECT COUNT(*) FROM information_schema.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'password_resets' AND INDEX_NAME = 'idx_password_resets_created'
+);
+SET @ddl := IF(@table_exists = 0 OR @index_exists > 0,
+    'DO 0',
+    'CREATE INDEX idx_password_resets_created ON password_resets (created_at_datetime)'
+);
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
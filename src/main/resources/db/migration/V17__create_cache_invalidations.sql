@@ -0,0 +1,13 @@
+-- V17: Cache-key invalidations shared by all nodes when cache.invalidation.mode=database
+
+-- Rows are re-read by every node while younger than the poll lookback and purged after message-ttl-ms
+CREATE TABLE IF NOT EXISTS cache_invalidations (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    origin_node VARCHAR(64) NOT NULL,
+    region VARCHAR(50) NOT NULL,
+    cache_key VARCHAR(255) NOT NULL,
+    created_at_datetime TIMESTAMP NULL,
+    updated_at_datetime TIMESTAMP NULL,
+
+    INDEX idx_cache_invalidations_created (created_at_datetime)
+);
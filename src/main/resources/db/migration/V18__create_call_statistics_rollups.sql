@@ -0,0 +1,28 @@
+-- V18: Daily call statistics rollups, incremented in the settlement transaction of every call
+
+-- One row per (day, theme); theme_id 0 collects calls without a theme so the unique key stays usable
+CREATE TABLE IF NOT EXISTS call_statistics_daily (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    bucket_date DATE NOT NULL,
+    theme_id BIGINT NOT NULL DEFAULT 0,
+    calls_count BIGINT NOT NULL DEFAULT 0,
+    revenue DECIMAL(14,2) NOT NULL DEFAULT 0,
+    commission DECIMAL(14,2) NOT NULL DEFAULT 0,
+    duration_seconds BIGINT NOT NULL DEFAULT 0,
+    created_at_datetime TIMESTAMP NULL,
+    updated_at_datetime TIMESTAMP NULL,
+
+    CONSTRAINT uk_call_statistics_daily_bucket UNIQUE (bucket_date, theme_id)
+);
+
+-- Interpreters who took at least one settled call that day (per theme), for distinct active-interpreter counts
+CREATE TABLE IF NOT EXISTS interpreter_activity_daily (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    bucket_date DATE NOT NULL,
+    theme_id BIGINT NOT NULL DEFAULT 0,
+    interpreter_user_id BIGINT NOT NULL,
+    created_at_datetime TIMESTAMP NULL,
+    updated_at_datetime TIMESTAMP NULL,
+
+    CONSTRAINT uk_interpreter_activity_daily UNIQUE (bucket_date, theme_id, interpreter_user_id)
+);
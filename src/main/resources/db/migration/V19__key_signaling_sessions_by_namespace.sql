@@ -0,0 +1,13 @@
+-- V19: Key signaling sessions and seats by (namespace, session_id).
+-- Socket.IO reuses one session id for every namespace a client joins, so a disconnect from /calls must not
+-- free the seats the same client holds in the default namespace.
+
+ALTER TABLE signaling_sessions
+    ADD COLUMN namespace VARCHAR(100) NOT NULL DEFAULT '' FIRST,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (namespace, session_id);
+
+ALTER TABLE signaling_seats
+    ADD COLUMN namespace VARCHAR(100) NOT NULL DEFAULT '' AFTER user_id,
+    DROP INDEX idx_signaling_seats_session,
+    ADD INDEX idx_signaling_seats_session (namespace, session_id);
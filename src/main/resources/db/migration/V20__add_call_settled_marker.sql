@@ -0,0 +1,29 @@
+-- V20: Marks calls whose settlement has been triggered, so ending and then completing a call settles it once
+
+-- calls is created by Hibernate and may not exist yet on a fresh schema; an update-mode run may also have
+-- added the column already, so each statement is guarded.
+SET @table_exists := (
+    SELECT COUNT(*) FROM information_schema.TABLES
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'calls'
+);
+SET @column_exists := (
+    SELECT COUNT(*) FROM information_schema.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'calls' AND COLUMN_NAME = 'settled_at_datetime'
+);
+SET @ddl := IF(@table_exists = 0 OR @column_exists > 0,
+    'DO 0',
+    'ALTER TABLE calls ADD COLUMN settled_at_datetime TIMESTAMP NULL'
+);
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- Calls already ended or completed were settled when they got there
+SET @ddl := IF(@table_exists = 0,
+    'DO 0',
+    'UPDATE calls SET settled_at_datetime = COALESCE(updated_at_datetime, created_at_datetime, NOW())
+     WHERE settled_at_datetime IS NULL AND (is_end_call_bit = 1 OR call_status_varchar50 = ''COMPLETED'')'
+);
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,10 @@
+-- V21: How far the ledger snapshot job has scanned, shared by every instance and kept across restarts
+
+CREATE TABLE IF NOT EXISTS ledger_snapshot_progress (
+    id INT PRIMARY KEY,
+    scanned_up_to_id BIGINT NOT NULL,
+    updated_at_datetime TIMESTAMP NULL
+);
+
+INSERT IGNORE INTO ledger_snapshot_progress (id, scanned_up_to_id, updated_at_datetime)
+VALUES (1, 0, NOW());
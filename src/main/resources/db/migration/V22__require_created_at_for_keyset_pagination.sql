@@ -0,0 +1,36 @@
+-- V22: Keyset pagination orders by (created_at_datetime, id); a NULL timestamp would drop the row from every
+-- page after the first and produce an undecodable cursor, so both paginated tables require it.
+
+-- Legacy rows without a creation time take their last update, or sort after everything else
+UPDATE transactions
+SET created_at_datetime = COALESCE(updated_at_datetime, '1970-01-02 00:00:00')
+WHERE created_at_datetime IS NULL;
+
+ALTER TABLE transactions MODIFY created_at_datetime TIMESTAMP NOT NULL;
+
+-- calls is created by Hibernate and may not exist yet on a fresh schema; the entity mapping declares the
+-- column NOT NULL for that case.
+SET @table_exists := (
+    SELECT COUNT(*) FROM information_schema.TABLES
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'calls'
+);
+SET @ddl := IF(@table_exists = 0,
+    'DO 0',
+    'UPDATE calls SET created_at_datetime = COALESCE(updated_at_datetime, ''1970-01-02 00:00:00'')
+     WHERE created_at_datetime IS NULL'
+);
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @column_type := (
+    SELECT COLUMN_TYPE FROM information_schema.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'calls' AND COLUMN_NAME = 'created_at_datetime'
+);
+SET @ddl := IF(@table_exists = 0 OR @column_type IS NULL,
+    'DO 0',
+    CONCAT('ALTER TABLE calls MODIFY created_at_datetime ', @column_type, ' NOT NULL')
+);
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,28 @@
+-- V7: Keep a running sum next to the stored average so rating writes can apply deltas
+
+ALTER TABLE users ADD COLUMN rating_sum DECIMAL(15,2) DEFAULT 0.00;
+
+-- Backfill summaries from existing ratings (the ratings table may not exist yet on a fresh schema)
+SET @ratings_exists := (
+    SELECT COUNT(*)
+    FROM information_schema.TABLES
+    WHERE TABLE_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'ratings'
+);
+
+SET @backfill := IF(@ratings_exists = 0,
+    'DO 0',
+    'UPDATE users u
+     LEFT JOIN (SELECT to_whom_user_id_bigint AS user_id,
+                       SUM(grade_decimal15_2) AS grade_sum,
+                       COUNT(grade_decimal15_2) AS grade_count
+                FROM ratings
+                WHERE to_whom_user_id_bigint IS NOT NULL
+                GROUP BY to_whom_user_id_bigint) s ON s.user_id = u.id
+     SET u.rating_sum = COALESCE(s.grade_sum, 0),
+         u.total_ratings = COALESCE(s.grade_count, 0),
+         u.ratings = COALESCE(ROUND(s.grade_sum / s.grade_count, 2), 0)'
+);
+PREPARE stmt FROM @backfill;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
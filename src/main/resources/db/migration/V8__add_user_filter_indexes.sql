@@ -0,0 +1,8 @@
+-- V8: Indexes behind the admin user list filters and sorting
+
+-- active filter + default created_at ordering
+CREATE INDEX idx_users_is_active_created_at ON users (is_active, created_at);
+CREATE INDEX idx_users_created_at ON users (created_at);
+
+-- role filter (EXISTS on user_roles by role)
+CREATE INDEX idx_user_roles_role_user ON user_roles (role, user_id);
@@ -0,0 +1,28 @@
+-- V9: Composite indexes matching the keyset (cursor) pagination order (created_at_datetime DESC, id DESC)
+
+-- Per-user transaction history
+CREATE INDEX idx_transactions_user_created_id ON transactions (user_id, created_at_datetime, id);
+
+-- Call records list (the calls table may not exist yet on a fresh schema, or may already carry the index
+-- when it was created by Hibernate from the entity mapping)
+SET @calls_exists := (
+    SELECT COUNT(*)
+    FROM information_schema.TABLES
+    WHERE TABLE_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'calls'
+);
+SET @calls_index_exists := (
+    SELECT COUNT(*)
+    FROM information_schema.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'calls'
+      AND INDEX_NAME = 'idx_calls_created_id'
+);
+
+SET @ddl := IF(@calls_exists = 0 OR @calls_index_exists > 0,
+    'DO 0',
+    'CREATE INDEX idx_calls_created_id ON calls (created_at_datetime, id)'
+);
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,225 @@
+package com.morago_backend.config;
+
+import com.corundumstudio.socketio.SocketIOServer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Load harness for the Socket.IO server built by {@link SocketIOConfig}. Opt-in, so it never runs
+ * in the normal build:
+ *
+ * <pre>
+ * mvn test -Dtest=SocketIOLoadTest -Dsocketio.load.clients=5000 -Dsocketio.load.events=20 \
+ *     -Dsocketio.worker-threads=8 -Dsocketio.use-linux-native-epoll=true
+ * </pre>
+ *
+ * Any {@code socketio.*} system property is bound onto {@link SocketIOProperties}, so a profile can
+ * be sized before it is deployed. Clients speak Engine.IO 4 over the JDK WebSocket client and every
+ * handshake passes through the production connect listener; only the JWT check is stubbed out.
+ * Reports connect rate, echo round-trip percentiles and retained heap per connection. Clients run
+ * in the same JVM, so the heap figure is an upper bound for the server side alone.
+ */
+@EnabledIfSystemProperty(named = "socketio.load.clients", matches = "\\d+")
+class SocketIOLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(SocketIOLoadTest.class);
+
+    private static final String ECHO_EVENT = "load-echo";
+    private static final String ECHO_PREFIX = "42[\"" + ECHO_EVENT + "\",\"";
+    // Handshakes in flight at once; larger values mostly measure the accept backlog
+    private static final int MAX_PENDING_HANDSHAKES = 200;
+
+    @Test
+    void connectAndEchoUnderLoad() throws Exception {
+        int clients = Integer.getInteger("socketio.load.clients");
+        int events = Integer.getInteger("socketio.load.events", 10);
+
+        SocketIOProperties properties = Binder.get(new StandardEnvironment())
+                .bind("socketio", SocketIOProperties.class)
+                .orElseGet(SocketIOProperties::new);
+        properties.setHost("127.0.0.1");
+        properties.setPort(freePort());
+
+        JwtDecoder acceptAll = token -> Jwt.withTokenValue(token)
+                .header("alg", "none")
+                .claim("id", 1L)
+                .claim("roles", List.of())
+                .build();
+        SocketIOServer server = new SocketIOConfig(properties, acceptAll).socketIOServer();
+        server.addEventListener(ECHO_EVENT, String.class, (client, data, ack) -> client.sendEvent(ECHO_EVENT, data));
+        server.start();
+
+        HttpClient http = HttpClient.newBuilder().executor(Executors.newFixedThreadPool(4)).build();
+        URI uri = URI.create("ws://127.0.0.1:" + properties.getPort() + "/socket.io/?EIO=4&transport=websocket&token=load");
+        long[] latencies = new long[clients * events];
+        AtomicInteger recorded = new AtomicInteger();
+        CountDownLatch connected = new CountDownLatch(clients);
+        CountDownLatch finished = new CountDownLatch(clients);
+        List<LoadClient> loadClients = new ArrayList<>(clients);
+
+        try {
+            long heapBefore = usedHeap();
+            Semaphore pending = new Semaphore(MAX_PENDING_HANDSHAKES);
+            long connectStart = System.nanoTime();
+            for (int i = 0; i < clients; i++) {
+                pending.acquire();
+                LoadClient client = new LoadClient(events, latencies, recorded, connected, finished, pending);
+                loadClients.add(client);
+                http.newWebSocketBuilder().buildAsync(uri, client)
+                        .exceptionally(e -> {
+                            pending.release();
+                            logger.warn("Client failed to connect: {}", e.getMessage());
+                            return null;
+                        });
+            }
+            assertThat(connected.await(5, TimeUnit.MINUTES)).as("all clients connected").isTrue();
+            double connectSeconds = (System.nanoTime() - connectStart) / 1e9;
+            long heapPerConnection = (usedHeap() - heapBefore) / clients;
+
+            loadClients.forEach(LoadClient::sendNext);
+            assertThat(finished.await(5, TimeUnit.MINUTES)).as("all echoes received").isTrue();
+
+            long[] sorted = Arrays.copyOf(latencies, recorded.get());
+            Arrays.sort(sorted);
+            logger.info("Socket.IO load: {} clients connected in {}s ({} conn/s), ~{} KiB heap per connection",
+                    clients, String.format("%.2f", connectSeconds), Math.round(clients / connectSeconds),
+                    heapPerConnection / 1024);
+            logger.info("Echo round trip over {} events: p50={}us p90={}us p99={}us max={}us",
+                    sorted.length, percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 99),
+                    sorted[sorted.length - 1] / 1000);
+            assertThat(sorted).hasSize(clients * events);
+        } finally {
+            for (LoadClient client : loadClients) {
+                client.close();
+            }
+            server.stop();
+        }
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1000;
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        Thread.sleep(200);
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    /**
+     * One Engine.IO 4 client: joins the default namespace, answers pings and sends its echo events
+     * one at a time, each after the previous one comes back.
+     */
+    private static final class LoadClient implements WebSocket.Listener {
+
+        private final int events;
+        private final long[] latencies;
+        private final AtomicInteger recorded;
+        private final CountDownLatch connected;
+        private final CountDownLatch finished;
+        private final Semaphore pending;
+        private final StringBuilder frame = new StringBuilder();
+        // JDK WebSocket allows a single outstanding send, so sends are chained
+        private CompletableFuture<WebSocket> sendChain;
+        private int sent;
+
+        LoadClient(int events, long[] latencies, AtomicInteger recorded,
+                   CountDownLatch connected, CountDownLatch finished, Semaphore pending) {
+            this.events = events;
+            this.latencies = latencies;
+            this.recorded = recorded;
+            this.connected = connected;
+            this.finished = finished;
+            this.pending = pending;
+        }
+
+        @Override
+        public void onOpen(WebSocket webSocket) {
+            synchronized (this) {
+                sendChain = CompletableFuture.completedFuture(webSocket);
+            }
+            webSocket.request(1);
+        }
+
+        @Override
+        public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+            frame.append(data);
+            if (last) {
+                String message = frame.toString();
+                frame.setLength(0);
+                handle(message);
+            }
+            webSocket.request(1);
+            return null;
+        }
+
+        private void handle(String message) {
+            if (message.startsWith("0")) {
+                send("40");
+            } else if (message.startsWith("40")) {
+                pending.release();
+                connected.countDown();
+            } else if (message.equals("2")) {
+                send("3");
+            } else if (message.startsWith(ECHO_PREFIX)) {
+                long sentAt = Long.parseLong(message.substring(ECHO_PREFIX.length(), message.length() - 2));
+                latencies[recorded.getAndIncrement()] = System.nanoTime() - sentAt;
+                if (sent < events) {
+                    sendNext();
+                } else {
+                    finished.countDown();
+                }
+            }
+        }
+
+        void sendNext() {
+            sent++;
+            send(ECHO_PREFIX + System.nanoTime() + "\"]");
+        }
+
+        private synchronized void send(String text) {
+            sendChain = sendChain.thenCompose(ws -> ws.sendText(text, true));
+        }
+
+        synchronized void close() {
+            if (sendChain != null) {
+                sendChain.thenCompose(ws -> ws.sendClose(WebSocket.NORMAL_CLOSURE, ""))
+                        .orTimeout(5, TimeUnit.SECONDS)
+                        .exceptionally(e -> null)
+                        .join();
+            }
+        }
+    }
+}
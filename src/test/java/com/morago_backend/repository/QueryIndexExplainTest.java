@@ -0,0 +1,204 @@
+package com.morago_backend.repository;
+
+import com.morago_backend.dto.dtoRequest.FilterRequest;
+import com.morago_backend.entity.TransactionType;
+import com.morago_backend.specification.FilterDefinitions;
+import com.morago_backend.support.MySqlIntegrationTest;
+import com.morago_backend.support.SqlCapture;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the repository finders are planned onto the indexes added in V10. Each finder is called for real,
+ * the SQL Hibernate sends is captured by {@link SqlCapture} and EXPLAINed against a few hundred rows per table,
+ * so a change to a finder or its mapping shows up here rather than in production. The values looked up are the
+ * rare ones (a pending status, one user out of twenty) so the index is clearly the cheapest plan.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestPropertySource(properties =
+        "spring.datasource.hikari.data-source-properties.queryInterceptors=com.morago_backend.support.SqlCapture")
+class QueryIndexExplainTest extends MySqlIntegrationTest {
+
+    // Seeded ids start above this, clear of rows other tests create in the shared container
+    private static final long BASE = 900_000L;
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private WithdrawalRepository withdrawalRepository;
+
+    @Autowired
+    private RatingRepository ratingRepository;
+
+    @Autowired
+    private PasswordResetRepository passwordResetRepository;
+
+    @Autowired
+    private TranslatorProfileRepository translatorProfileRepository;
+
+    @BeforeAll
+    void seed() {
+        seed("categories", "id, name, is_active", 10,
+                BASE + " + n, CONCAT('explain-category-', n), TRUE");
+        seed("themes", "id, name, category_id, is_active", 100,
+                BASE + " + n, CONCAT('explain-theme-', n), " + BASE + " + 1 + n % 10, TRUE");
+        seed("languages", "id, name", 100,
+                BASE + " + n, CONCAT('explain-language-', n)");
+        seed("translator_profiles", "id, email, is_available, is_online, is_verified", 300,
+                BASE + " + n, CONCAT('explain-', n), n % 2 = 0, n % 3 = 0, TRUE");
+        seed("users", "id, phone, password, translator_profile_id", 300,
+                BASE + " + n, CONCAT('explain-phone-', n), 'x', " + BASE + " + n");
+        // Two themes and one language per interpreter: six interpreters per theme, three per language
+        seed("translator_themes", "translator_profile_id, theme_id", 300,
+                BASE + " + n, " + BASE + " + 1 + n % 100");
+        jdbcTemplate.update("INSERT INTO translator_themes (translator_profile_id, theme_id) " +
+                "SELECT translator_profile_id, " + BASE + " + 1 + (theme_id - " + BASE + " + 49) % 100 " +
+                "FROM translator_themes WHERE translator_profile_id > " + BASE);
+        seed("translator_languages", "translator_profile_id, language_id", 300,
+                BASE + " + n, " + BASE + " + 1 + n % 100");
+
+        // Twenty users with twenty rows each: five per type, two of them pending
+        seed("transactions", "user_id, transaction_type, amount, status, created_at_datetime", 400,
+                BASE + " + 1 + n % 20, ELT(1 + (n DIV 20) % 4, 'DEPOSIT', 'WITHDRAWAL', 'CALL_PAYMENT', 'CALL_EARNING'), " +
+                        "10.00, IF((n DIV 20) % 10 = 0, 'PENDING', 'COMPLETED'), NOW() - INTERVAL n MINUTE");
+        seed("withdrawals", "user_id_bigint, status_varchar50, sum_decimal12_2, created_at_datetime", 400,
+                BASE + " + 1 + n % 20, IF((n DIV 20) % 10 = 0, 'PENDING', ELT(1 + n % 2, 'APPROVED', 'REJECTED')), " +
+                        "10.00, NOW() - INTERVAL n MINUTE");
+        seed("ratings", "who_user_id_bigint, to_whom_user_id_bigint, grade_decimal15_2, created_at_datetime", 400,
+                BASE + " + 100 + n % 50, " + BASE + " + 1 + n % 40, 1 + n % 5, NOW() - INTERVAL n MINUTE");
+        seed("password_resets", "phone_varchar100, reset_code_int, failed_attempts_int, is_verified, created_at_datetime", 400,
+                "CONCAT('explain-phone-', n % 200), 1000 + n, 0, FALSE, NOW() - INTERVAL n MINUTE");
+
+        jdbcTemplate.execute("ANALYZE TABLE categories, themes, languages, translator_profiles, users, " +
+                "translator_themes, translator_languages, transactions, withdrawals, ratings, password_resets");
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM transactions WHERE user_id > ?", BASE);
+        jdbcTemplate.update("DELETE FROM withdrawals WHERE user_id_bigint > ?", BASE);
+        jdbcTemplate.update("DELETE FROM ratings WHERE to_whom_user_id_bigint > ?", BASE);
+        jdbcTemplate.update("DELETE FROM password_resets WHERE phone_varchar100 LIKE 'explain-phone-%'");
+        jdbcTemplate.update("DELETE FROM users WHERE id > ?", BASE);
+        jdbcTemplate.update("DELETE FROM translator_themes WHERE translator_profile_id > ?", BASE);
+        jdbcTemplate.update("DELETE FROM translator_languages WHERE translator_profile_id > ?", BASE);
+        jdbcTemplate.update("DELETE FROM translator_profiles WHERE id > ?", BASE);
+        jdbcTemplate.update("DELETE FROM languages WHERE id > ?", BASE);
+        jdbcTemplate.update("DELETE FROM themes WHERE id > ?", BASE);
+        jdbcTemplate.update("DELETE FROM categories WHERE id > ?", BASE);
+    }
+
+    // ========== TRANSACTIONS ==========
+
+    @Test
+    void transactionsByUserAndStatus() {
+        assertUsesIndex("idx_transactions_user_status_created", () ->
+                transactionRepository.findByUserIdAndStatusOrderByCreatedAtDatetimeDesc(BASE + 5, "PENDING", FIRST_PAGE));
+    }
+
+    @Test
+    void transactionsByUserAndType() {
+        assertUsesIndex("idx_transactions_user_type_created", () ->
+                transactionRepository.findByUserIdAndTransactionTypeOrderByCreatedAtDatetimeDesc(
+                        BASE + 5, TransactionType.DEPOSIT, FIRST_PAGE));
+    }
+
+    // ========== WITHDRAWALS ==========
+
+    @Test
+    void withdrawalsByUser() {
+        assertUsesIndex("idx_withdrawals_user_created", () ->
+                withdrawalRepository.findByUserIdOrderByCreatedAtDatetimeDesc(BASE + 5, FIRST_PAGE));
+    }
+
+    @Test
+    void withdrawalsByUserAndStatus() {
+        assertUsesIndex("idx_withdrawals_user_status_created", () ->
+                withdrawalRepository.findByUserIdAndStatusOrderByCreatedAtDatetimeDesc(BASE + 5, "PENDING", FIRST_PAGE));
+    }
+
+    @Test
+    void withdrawalsByStatus() {
+        assertUsesIndex("idx_withdrawals_status_created", () ->
+                withdrawalRepository.findByStatusOrderByCreatedAtDatetimeDesc("PENDING", FIRST_PAGE));
+    }
+
+    // ========== RATINGS AND PASSWORD RESETS ==========
+
+    @Test
+    void ratingsReceivedByUser() {
+        assertUsesIndex("idx_ratings_to_whom_grade", () -> ratingRepository.findByToWhomUserId(BASE + 5));
+    }
+
+    @Test
+    void latestPasswordResetForPhone() {
+        assertUsesIndex("idx_password_resets_phone_created", () ->
+                passwordResetRepository.findTopByPhoneOrderByCreatedAtDatetimeDesc("explain-phone-5"));
+    }
+
+    // ========== INTERPRETER FILTERS ==========
+
+    @Test
+    void interpretersByTheme() {
+        assertUsesIndex("idx_translator_themes_theme_profile", () ->
+                translatorProfileRepository.findAll(
+                        FilterDefinitions.TRANSLATOR_PROFILES.toSpecification(filter("themeId", BASE + 5)), FIRST_PAGE));
+    }
+
+    @Test
+    void interpretersByLanguage() {
+        assertUsesIndex("idx_translator_languages_language_profile", () ->
+                translatorProfileRepository.findAll(
+                        FilterDefinitions.TRANSLATOR_PROFILES.toSpecification(filter("languageId", BASE + 5)), FIRST_PAGE));
+    }
+
+    /**
+     * Runs the finder and EXPLAINs the first SELECT it sent; later ones load associations and are not the query
+     * under test. Materialized subqueries show up as {@code <subqueryN>} rows and are left out of the scan check.
+     */
+    private void assertUsesIndex(String index, Runnable finder) {
+        List<String> selects = SqlCapture.capture(finder).stream()
+                .filter(sql -> sql.stripLeading().regionMatches(true, 0, "select", 0, 6))
+                .toList();
+        assertThat(selects).as("statements sent by the finder").isNotEmpty();
+        String sql = selects.get(0);
+
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql);
+
+        assertThat(plan)
+                .filteredOn(row -> !String.valueOf(row.get("table")).startsWith("<"))
+                .as("plan of %s", sql)
+                .isNotEmpty()
+                .noneMatch(row -> "ALL".equals(row.get("type")))
+                .anyMatch(row -> index.equals(row.get("key")));
+    }
+
+    private void seed(String table, String columns, int rows, String select) {
+        jdbcTemplate.update("INSERT INTO " + table + " (" + columns + ") " +
+                "WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < " + rows + ") " +
+                "SELECT " + select + " FROM seq");
+    }
+
+    private static FilterRequest filter(String key, Object value) {
+        FilterRequest filter = new FilterRequest();
+        filter.setFilters(Map.of(key, value));
+        return filter;
+    }
+}
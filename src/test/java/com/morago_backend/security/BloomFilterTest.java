@@ -0,0 +1,62 @@
+package com.morago_backend.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    private static final int ENTRIES = 10_000;
+
+    @Test
+    void addedKeysAreAlwaysFound() {
+        BloomFilter filter = new BloomFilter(ENTRIES, 0.01);
+        for (int i = 0; i < ENTRIES; i++) {
+            filter.put("jti-" + i);
+        }
+
+        for (int i = 0; i < ENTRIES; i++) {
+            assertThat(filter.mightContain("jti-" + i)).isTrue();
+        }
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTheConfiguredRate() {
+        BloomFilter filter = new BloomFilter(ENTRIES, 0.01);
+        for (int i = 0; i < ENTRIES; i++) {
+            filter.put("jti-" + i);
+        }
+
+        long falsePositives = IntStream.range(0, ENTRIES)
+                .filter(i -> filter.mightContain("absent-" + i))
+                .count();
+
+        assertThat(falsePositives).isLessThan(ENTRIES * 2 / 100);
+    }
+
+    @Test
+    void emptyFilterContainsNothing() {
+        BloomFilter filter = new BloomFilter(ENTRIES, 0.01);
+
+        assertThat(filter.mightContain("jti-1")).isFalse();
+        assertThat(filter.mightContain("")).isFalse();
+    }
+
+    @Test
+    void concurrentPutsAreNotLost() {
+        BloomFilter filter = new BloomFilter(ENTRIES, 0.01);
+
+        IntStream.range(0, ENTRIES).parallel().forEach(i -> filter.put("jti-" + i));
+
+        assertThat(IntStream.range(0, ENTRIES).allMatch(i -> filter.mightContain("jti-" + i))).isTrue();
+    }
+
+    @Test
+    void sizeFollowsExpectedEntries() {
+        // ~9.6 bits per entry at 1%, rounded up to whole 64-bit words
+        assertThat(new BloomFilter(ENTRIES, 0.01).sizeInBytes()).isBetween(11_000L, 13_000L);
+        assertThat(new BloomFilter(0, 0.01).sizeInBytes()).isEqualTo(8);
+    }
+}
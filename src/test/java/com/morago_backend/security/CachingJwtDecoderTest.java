@@ -0,0 +1,116 @@
+package com.morago_backend.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingJwtDecoderTest {
+
+    private static final String TOKEN = "header.payload.signature";
+
+    private JwtDecoder delegate;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(JwtDecoder.class);
+        when(delegate.decode(anyString())).thenAnswer(invocation ->
+                jwt(invocation.getArgument(0), Instant.now().plus(Duration.ofHours(1))));
+    }
+
+    @Test
+    void repeatedTokenIsVerifiedOnce() {
+        CachingJwtDecoder decoder = decoder(Duration.ofMinutes(5));
+
+        Jwt first = decoder.decode(TOKEN);
+        Jwt second = decoder.decode(TOKEN);
+
+        assertThat(second).isSameAs(first);
+        verify(delegate, times(1)).decode(TOKEN);
+    }
+
+    @Test
+    void sameSignatureWithDifferentTokenIsVerifiedAgain() {
+        CachingJwtDecoder decoder = decoder(Duration.ofMinutes(5));
+        String forged = "other.payload.signature";
+
+        decoder.decode(TOKEN);
+        Jwt jwt = decoder.decode(forged);
+
+        assertThat(jwt.getTokenValue()).isEqualTo(forged);
+        verify(delegate).decode(TOKEN);
+        verify(delegate).decode(forged);
+    }
+
+    @Test
+    void tokenPastItsExpiryIsNotServedFromCache() {
+        when(delegate.decode(TOKEN)).thenAnswer(invocation -> jwt(TOKEN, Instant.now().minusSeconds(1)));
+        CachingJwtDecoder decoder = decoder(Duration.ofMinutes(5));
+
+        decoder.decode(TOKEN);
+        decoder.decode(TOKEN);
+
+        verify(delegate, times(2)).decode(TOKEN);
+    }
+
+    @Test
+    void maxTtlCapsTokensThatExpireLater() {
+        CachingJwtDecoder decoder = decoder(Duration.ZERO);
+
+        decoder.decode(TOKEN);
+        decoder.decode(TOKEN);
+
+        verify(delegate, times(2)).decode(TOKEN);
+    }
+
+    @Test
+    void failedDecodeIsNotCached() {
+        when(delegate.decode(TOKEN))
+                .thenThrow(new BadJwtException("bad signature"))
+                .thenAnswer(invocation -> jwt(TOKEN, Instant.now().plus(Duration.ofHours(1))));
+        CachingJwtDecoder decoder = decoder(Duration.ofMinutes(5));
+
+        assertThatThrownBy(() -> decoder.decode(TOKEN)).isInstanceOf(BadJwtException.class);
+        assertThat(decoder.decode(TOKEN).getTokenValue()).isEqualTo(TOKEN);
+        verify(delegate, times(2)).decode(TOKEN);
+    }
+
+    @Test
+    void validatorRunsOnCacheHits() {
+        CachingJwtDecoder decoder = decoder(Duration.ofMinutes(5));
+        decoder.decode(TOKEN);
+
+        decoder.setJwtValidator(jwt -> OAuth2TokenValidatorResult.failure(new OAuth2Error("invalid_token")));
+
+        assertThatThrownBy(() -> decoder.decode(TOKEN)).isInstanceOf(JwtValidationException.class);
+        verify(delegate, times(1)).decode(TOKEN);
+    }
+
+    private CachingJwtDecoder decoder(Duration maxTtl) {
+        return new CachingJwtDecoder(delegate, 100, maxTtl, new SimpleMeterRegistry());
+    }
+
+    private static Jwt jwt(String token, Instant expiresAt) {
+        return Jwt.withTokenValue(token)
+                .header("alg", "HS256")
+                .claim("id", 42L)
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
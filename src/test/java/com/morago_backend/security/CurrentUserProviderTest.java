@@ -0,0 +1,73 @@
+package com.morago_backend.security;
+
+import com.morago_backend.entity.User;
+import com.morago_backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CurrentUserProviderTest {
+
+    private UserRepository userRepository;
+    private CurrentUserProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        provider = new CurrentUserProvider(userRepository);
+
+        Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "HS256")
+                .subject("+821012345678")
+                .claim("id", 42L)
+                .build();
+        SecurityContextHolder.getContext().setAuthentication(
+                new JwtAuthenticationToken(jwt, List.of(new SimpleGrantedAuthority("ROLE_INTERPRETER")), "+821012345678"));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void claimsResolveWithoutDatabase() {
+        CurrentUser current = provider.get();
+
+        assertThat(current.id()).isEqualTo(42L);
+        assertThat(current.isInterpreter()).isTrue();
+        verify(userRepository, never()).findByPhone(anyString());
+        verify(userRepository, never()).findById(42L);
+    }
+
+    @Test
+    void entityIsLoadedOnEveryCall() {
+        User first = new User();
+        User second = new User();
+        when(userRepository.findById(42L)).thenReturn(Optional.of(first), Optional.of(second));
+
+        assertThat(provider.getEntity()).isSameAs(first);
+        assertThat(provider.getEntity()).isSameAs(second);
+        verify(userRepository, times(2)).findById(42L);
+    }
+}
@@ -0,0 +1,129 @@
+package com.morago_backend.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryResetCodeStoreTest {
+
+    private static final String PHONE = "+821012345678";
+
+    @Test
+    void issueReplacesPreviousCodeAndResetsAttempts() {
+        InMemoryResetCodeStore store = new InMemoryResetCodeStore(15, 1000);
+        store.issue(PHONE, 111111);
+        store.reserveAttempt(PHONE);
+        store.reserveAttempt(PHONE);
+
+        store.issue(PHONE, 222222);
+
+        ResetCode current = store.find(PHONE).orElseThrow();
+        assertThat(current.code()).isEqualTo(222222);
+        assertThat(current.failedAttempts()).isZero();
+        assertThat(current.verified()).isFalse();
+    }
+
+    @Test
+    void reserveAttemptCountsEveryCall() {
+        InMemoryResetCodeStore store = new InMemoryResetCodeStore(15, 1000);
+        store.issue(PHONE, 123456);
+
+        assertThat(store.reserveAttempt(PHONE)).map(ResetCode::failedAttempts).contains(1);
+        assertThat(store.reserveAttempt(PHONE)).map(ResetCode::failedAttempts).contains(2);
+        assertThat(store.find(PHONE)).map(ResetCode::failedAttempts).contains(2);
+    }
+
+    @Test
+    void reserveAttemptWithoutCodeIsEmpty() {
+        InMemoryResetCodeStore store = new InMemoryResetCodeStore(15, 1000);
+
+        assertThat(store.reserveAttempt(PHONE)).isEmpty();
+
+        store.issue(PHONE, 123456);
+        store.remove(PHONE);
+        assertThat(store.reserveAttempt(PHONE)).isEmpty();
+    }
+
+    @Test
+    void concurrentAttemptsGetDistinctCounts() throws Exception {
+        InMemoryResetCodeStore store = new InMemoryResetCodeStore(15, 1000);
+        store.issue(PHONE, 123456);
+        int attempts = 64;
+
+        ConcurrentLinkedQueue<Integer> counts = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            for (int i = 0; i < attempts; i++) {
+                pool.submit(() -> {
+                    start.await();
+                    store.reserveAttempt(PHONE).ifPresent(reset -> counts.add(reset.failedAttempts()));
+                    return null;
+                });
+            }
+            start.countDown();
+            pool.shutdown();
+            assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(counts).hasSize(attempts).doesNotHaveDuplicates();
+        assertThat(List.copyOf(counts)).allMatch(count -> count >= 1 && count <= attempts);
+    }
+
+    @Test
+    void markVerifiedKeepsCodeAndAttempts() {
+        InMemoryResetCodeStore store = new InMemoryResetCodeStore(15, 1000);
+        store.issue(PHONE, 123456);
+        store.reserveAttempt(PHONE);
+
+        assertThat(store.markVerified(PHONE)).isTrue();
+
+        ResetCode current = store.find(PHONE).orElseThrow();
+        assertThat(current.verified()).isTrue();
+        assertThat(current.failedAttempts()).isEqualTo(1);
+        assertThat(store.markVerified("+820000000000")).isFalse();
+    }
+
+    @Test
+    void expiredCodesAreHiddenAndEvictedByTheWheel() throws Exception {
+        // A zero TTL makes every code expire as soon as it is issued
+        InMemoryResetCodeStore store = new InMemoryResetCodeStore(0, 1);
+        // Issue on a later tick than the wheel's starting one so the next advance visits its slot
+        Thread.sleep(2);
+        store.issue(PHONE, 123456);
+
+        assertThat(store.find(PHONE)).isEmpty();
+        assertThat(store.markVerified(PHONE)).isFalse();
+        assertThat(store.size()).isEqualTo(1);
+
+        // Let the code's slot come due, then tick
+        Thread.sleep(5);
+        store.advance();
+
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    void wheelKeepsUnexpiredCodes() throws Exception {
+        InMemoryResetCodeStore store = new InMemoryResetCodeStore(15, 1);
+        store.issue(PHONE, 123456);
+
+        // Far more ticks than wheel slots: the code's slot comes round but it is not due yet
+        Thread.sleep(600);
+        store.advance();
+
+        Optional<ResetCode> current = store.find(PHONE);
+        assertThat(current).map(ResetCode::code).contains(123456);
+        assertThat(store.size()).isEqualTo(1);
+    }
+}
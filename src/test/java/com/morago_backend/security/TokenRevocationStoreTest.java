@@ -0,0 +1,109 @@
+package com.morago_backend.security;
+
+import com.morago_backend.entity.TokenRevocation;
+import com.morago_backend.repository.TokenRevocationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenRevocationStoreTest {
+
+    private TokenRevocationRepository repository;
+    private TokenRevocationStore store;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(TokenRevocationRepository.class);
+        store = new TokenRevocationStore(repository, mock(TransactionTemplate.class), new SimpleMeterRegistry(),
+                1_000, 0.01, 500, 86_400_000);
+    }
+
+    // ========== CUTOFFS ==========
+    @Test
+    void cutoffRejectsTokensIssuedBeforeIt() {
+        store.revokeAllForUser(1L);
+
+        assertThat(store.isCutOff(1L, Instant.now().minus(1, ChronoUnit.MINUTES))).isTrue();
+        assertThat(store.isCutOff(2L, Instant.now().minus(1, ChronoUnit.MINUTES))).isFalse();
+    }
+
+    @Test
+    void tokensIssuedInTheCutoffSecondOrLaterSurvive() {
+        store.revokeAllForUser(1L);
+        Instant sameSecond = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+        // iat has second precision: a token issued in the same second as the cutoff stays valid
+        assertThat(store.isCutOff(1L, sameSecond)).isFalse();
+        assertThat(store.isCutOff(1L, Instant.now().plusSeconds(1))).isFalse();
+    }
+
+    @Test
+    void missingUserOrIssuedAtIsNeverCutOff() {
+        store.revokeAllForUser(1L);
+
+        assertThat(store.isCutOff(null, Instant.EPOCH)).isFalse();
+        assertThat(store.isCutOff(1L, null)).isFalse();
+    }
+
+    @Test
+    void syncAppliesCutoffsWrittenByOtherNodes() {
+        Instant cutoff = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        TokenRevocation row = new TokenRevocation();
+        row.setId(5L);
+        row.setUserId(3L);
+        row.setIssuedBefore(LocalDateTime.ofInstant(cutoff, ZoneId.systemDefault()));
+        when(repository.findAfter(anyLong(), any())).thenReturn(List.of(row));
+
+        store.sync();
+
+        assertThat(store.isCutOff(3L, cutoff.minusSeconds(1))).isTrue();
+        assertThat(store.isCutOff(3L, cutoff)).isFalse();
+    }
+
+    // ========== TOKEN IDS ==========
+    @Test
+    void unknownTokenIsAnsweredWithoutTheDatabase() {
+        assertThat(store.isRevoked("jti-1")).isFalse();
+        assertThat(store.isRevoked(null)).isFalse();
+
+        verify(repository, never()).existsByJti(anyString());
+    }
+
+    @Test
+    void revokedTokenIsRememberedAndRevokedOnce() {
+        assertThat(store.revoke("jti-1", 1L, Instant.now().plusSeconds(60))).isTrue();
+
+        assertThat(store.isRevoked("jti-1")).isTrue();
+        assertThat(store.revoke("jti-1", 1L, Instant.now().plusSeconds(60))).isFalse();
+        verify(repository, times(1)).save(any(TokenRevocation.class));
+        verify(repository, never()).existsByJti(anyString());
+    }
+
+    @Test
+    void warmUpLoadsRevokedTokensFromTheTable() {
+        when(repository.findActiveJtis(any())).thenReturn(List.of("jti-old"));
+        when(repository.existsByJti("jti-old")).thenReturn(true);
+
+        store.warmUp();
+
+        assertThat(store.isRevoked("jti-old")).isTrue();
+        assertThat(store.isRevoked("jti-other")).isFalse();
+    }
+}
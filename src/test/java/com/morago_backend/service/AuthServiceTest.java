@@ -0,0 +1,77 @@
+package com.morago_backend.service;
+
+import com.morago_backend.entity.User;
+import com.morago_backend.entity.UserRole;
+import com.morago_backend.payload.AuthResponse;
+import com.morago_backend.repository.UserRepository;
+import com.morago_backend.security.JwtSigningKey;
+import com.morago_backend.security.TokenRevocationStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Base64;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+class AuthServiceTest {
+
+    private static final String PHONE = "+821012345678";
+    private static final String PASSWORD = "secret-password";
+    private static final String SECRET = Base64.getEncoder().encodeToString(new byte[32]);
+
+    private UserRepository userRepository;
+    private JwtSigningKey signingKey;
+    private AuthService authService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        PasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+
+        User user = new User();
+        user.setId(42L);
+        user.setPhone(PHONE);
+        user.setPassword(passwordEncoder.encode(PASSWORD));
+        user.setRoles(Set.of(UserRole.CLIENT));
+        when(userRepository.findByPhone(PHONE)).thenReturn(Optional.of(user));
+
+        // The real authentication path: provider -> UserDetailsServiceImpl -> repository
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setPasswordEncoder(passwordEncoder);
+        provider.setUserDetailsService(new UserDetailsServiceImpl(userRepository));
+
+        signingKey = new JwtSigningKey(SECRET);
+        authService = new AuthService(new ProviderManager(provider), userRepository, passwordEncoder,
+                signingKey, mock(TokenRevocationStore.class), 3_600_000, 86_400_000);
+    }
+
+    @Test
+    void loginLoadsTheUserOnce() {
+        AuthResponse response = authService.login(PHONE, PASSWORD);
+
+        assertThat(response.getUserId()).isEqualTo(42L);
+        assertThat(response.getRoles()).containsExactly("CLIENT");
+        assertThat(signingKey.parseClaims(response.getAccessToken()).getSubject()).isEqualTo(PHONE);
+        verify(userRepository, times(1)).findByPhone(PHONE);
+        verifyNoMoreInteractions(userRepository);
+    }
+
+    @Test
+    void wrongPasswordIsRejected() {
+        assertThatThrownBy(() -> authService.login(PHONE, "wrong-password"))
+                .isInstanceOf(BadCredentialsException.class);
+    }
+}
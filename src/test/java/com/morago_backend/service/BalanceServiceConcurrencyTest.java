@@ -0,0 +1,113 @@
+package com.morago_backend.service;
+
+import com.morago_backend.entity.User;
+import com.morago_backend.repository.UserRepository;
+import com.morago_backend.support.MySqlIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BalanceServiceConcurrencyTest extends MySqlIntegrationTest {
+
+    private static final int THREADS = 16;
+    private static final int DEBITS = 50;
+
+    @Autowired
+    private BalanceService balanceService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void concurrentDebitsNeverOverdraw() throws Exception {
+        Long userId = createUser(new BigDecimal("100.00"));
+        BigDecimal amount = new BigDecimal("7.00");
+
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < DEBITS; i++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    try {
+                        BalanceService.BalanceChange change = balanceService.debit(userId, amount);
+                        assertThat(change.getBalanceAfter()).isGreaterThanOrEqualTo(BigDecimal.ZERO);
+                        assertThat(change.getBalanceBefore().subtract(amount)).isEqualByComparingTo(change.getBalanceAfter());
+                        succeeded.incrementAndGet();
+                    } catch (IllegalStateException insufficient) {
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // 100 / 7 = 14 debits fit, leaving 2.00; every other attempt must be refused rather than go negative
+        assertThat(succeeded.get()).isEqualTo(14);
+        assertThat(rejected.get()).isEqualTo(DEBITS - 14);
+        assertThat(userRepository.findBalanceById(userId)).hasValueSatisfying(
+                balance -> assertThat(balance).isEqualByComparingTo("2.00"));
+    }
+
+    @Test
+    void concurrentCreditsAndDebitsDoNotLoseUpdates() throws Exception {
+        Long userId = createUser(new BigDecimal("1000.00"));
+        BigDecimal amount = new BigDecimal("5.00");
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < DEBITS; i++) {
+                boolean credit = i % 2 == 0;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    if (credit) {
+                        balanceService.credit(userId, amount);
+                    } else {
+                        balanceService.debit(userId, amount);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(userRepository.findBalanceById(userId)).hasValueSatisfying(
+                balance -> assertThat(balance).isEqualByComparingTo("1000.00"));
+    }
+
+    private Long createUser(BigDecimal balance) {
+        User user = new User();
+        user.setPhone("+1" + UUID.randomUUID().toString().replace("-", "").substring(0, 12));
+        user.setPassword("not-a-real-hash");
+        user.setBalance(balance);
+        return userRepository.save(user).getId();
+    }
+}
@@ -0,0 +1,144 @@
+package com.morago_backend.service;
+
+import com.morago_backend.dto.dtoRequest.CallRecordRequestDTO;
+import com.morago_backend.entity.CallRecord;
+import com.morago_backend.entity.TransactionType;
+import com.morago_backend.entity.User;
+import com.morago_backend.repository.CallRecordRepository;
+import com.morago_backend.repository.CallStatisticsDailyRepository;
+import com.morago_backend.repository.InterpreterActivityDailyRepository;
+import com.morago_backend.repository.SettlementOutboxRepository;
+import com.morago_backend.repository.WithdrawalRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CallRecordServiceTest {
+
+    private CallRecordRepository repository;
+    private CallSettlementService settlementService;
+    private CallRecordService service;
+    private CallRecord call;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(CallRecordRepository.class);
+        settlementService = mock(CallSettlementService.class);
+        service = new CallRecordService(repository, mock(SocketEventPublisher.class), settlementService);
+
+        call = new CallRecord();
+        call.setId(7L);
+        call.setCallerUserId(1L);
+        call.setRecipientUserId(2L);
+        call.setSum(new BigDecimal("10.00"));
+        call.setEndCall(false);
+        call.setCallStatus("IN_PROGRESS");
+        when(repository.findForUpdateById(7L)).thenReturn(Optional.of(call));
+        when(repository.save(any(CallRecord.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(settlementService.settleOrEnqueue(any(CallRecord.class))).thenReturn(CallSettlementService.SETTLED);
+    }
+
+    @Test
+    void endingThenCompletingSettlesOnce() {
+        CallRecordRequestDTO end = new CallRecordRequestDTO();
+        end.setEndCall(true);
+        CallRecordRequestDTO complete = new CallRecordRequestDTO();
+        complete.setCallStatus("COMPLETED");
+
+        assertThat(service.update(7L, end).getSettlementStatus()).isEqualTo(CallSettlementService.SETTLED);
+        assertThat(service.update(7L, complete).getSettlementStatus()).isNull();
+
+        verify(settlementService, times(1)).settleOrEnqueue(call);
+        assertThat(call.getSettledAtDatetime()).isNotNull();
+    }
+
+    @Test
+    void reopeningAndEndingAgainDoesNotSettleAgain() {
+        CallRecordRequestDTO end = new CallRecordRequestDTO();
+        end.setEndCall(true);
+        CallRecordRequestDTO reopen = new CallRecordRequestDTO();
+        reopen.setEndCall(false);
+
+        service.update(7L, end);
+        service.update(7L, reopen);
+        service.update(7L, end);
+
+        verify(settlementService, times(1)).settleOrEnqueue(call);
+    }
+
+    @Test
+    void unfinishedCallIsNotSettled() {
+        CallRecordRequestDTO update = new CallRecordRequestDTO();
+        update.setDurationSeconds(30);
+
+        service.update(7L, update);
+
+        verify(settlementService, never()).settleOrEnqueue(any(CallRecord.class));
+        assertThat(call.getSettledAtDatetime()).isNull();
+    }
+
+    @Test
+    void finishedCallWithoutSumWaitsForTheSum() {
+        call.setSum(null);
+        CallRecordRequestDTO end = new CallRecordRequestDTO();
+        end.setEndCall(true);
+
+        assertThat(service.update(7L, end).getSettlementStatus()).isNull();
+
+        verify(settlementService, never()).settleOrEnqueue(any(CallRecord.class));
+        assertThat(call.getSettledAtDatetime()).isNull();
+    }
+
+    @Test
+    void sumArrivingWithCompletionIsBilledOnce() {
+        BalanceService balanceService = mock(BalanceService.class);
+        TransactionService transactionService = mock(TransactionService.class);
+        CallStatisticsDailyRepository callStatisticsRepository = mock(CallStatisticsDailyRepository.class);
+        StatisticsService statisticsService = new StatisticsService(callStatisticsRepository,
+                mock(InterpreterActivityDailyRepository.class), mock(WithdrawalRepository.class));
+        CallSettlementService settlement = new CallSettlementService(transactionService, balanceService,
+                mock(SettlementOutboxRepository.class), statisticsService, mock(LedgerService.class), false);
+        service = new CallRecordService(repository, mock(SocketEventPublisher.class), settlement);
+
+        BalanceService.BalanceChange change = mock(BalanceService.BalanceChange.class);
+        when(change.getUser()).thenReturn(new User());
+        when(balanceService.debit(anyLong(), any(BigDecimal.class))).thenReturn(change);
+        when(balanceService.credit(anyLong(), any(BigDecimal.class))).thenReturn(change);
+        call.setSum(null);
+        call.setDurationSeconds(120);
+        call.setCreatedAtDatetime(LocalDateTime.of(2024, 5, 1, 12, 0));
+
+        CallRecordRequestDTO end = new CallRecordRequestDTO();
+        end.setEndCall(true);
+        CallRecordRequestDTO complete = new CallRecordRequestDTO();
+        complete.setCallStatus("COMPLETED");
+        complete.setSum(new BigDecimal("25.00"));
+        complete.setCommission(new BigDecimal("5.00"));
+
+        service.update(7L, end);
+        assertThat(service.update(7L, complete).getSettlementStatus()).isEqualTo(CallSettlementService.SETTLED);
+        service.update(7L, complete);
+
+        verify(balanceService, times(1)).debit(1L, new BigDecimal("25.00"));
+        verify(balanceService, times(1)).credit(2L, new BigDecimal("20.00"));
+        verify(transactionService, times(1)).createDetailedTransaction(any(), eq(TransactionType.CALL_PAYMENT),
+                eq(new BigDecimal("25.00")), any(), any(), any(), any(), any(), any(), any(), any(), any());
+        verify(callStatisticsRepository, times(1)).increment(any(), any(), any(), any(), anyLong());
+        verify(callStatisticsRepository).increment(LocalDate.of(2024, 5, 1), 0L,
+                new BigDecimal("25.00"), new BigDecimal("5.00"), 120L);
+    }
+}
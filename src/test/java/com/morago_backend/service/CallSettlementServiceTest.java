@@ -0,0 +1,74 @@
+package com.morago_backend.service;
+
+import com.morago_backend.entity.CallRecord;
+import com.morago_backend.entity.SettlementOutbox;
+import com.morago_backend.repository.SettlementOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class CallSettlementServiceTest {
+
+    private SettlementOutboxRepository outboxRepository;
+    private CallSettlementService service;
+    private CallRecord call;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository = mock(SettlementOutboxRepository.class);
+        service = new CallSettlementService(
+                mock(TransactionService.class),
+                mock(BalanceService.class),
+                outboxRepository,
+                mock(StatisticsService.class),
+                mock(LedgerService.class),
+                true);
+        call = new CallRecord();
+        call.setId(7L);
+    }
+
+    @Test
+    void firstEnqueueInsertsOutboxRow() {
+        when(outboxRepository.findByCallRecordId(7L)).thenReturn(Optional.empty());
+
+        assertThat(service.settleOrEnqueue(call)).isEqualTo(CallSettlementService.SETTLING);
+
+        verify(outboxRepository).save(any(SettlementOutbox.class));
+    }
+
+    @Test
+    void repeatedEnqueueReturnsExistingStatus() {
+        SettlementOutbox existing = new SettlementOutbox();
+        existing.setCallRecordId(7L);
+        existing.setStatus(CallSettlementService.OUTBOX_DONE);
+        when(outboxRepository.findByCallRecordId(7L)).thenReturn(Optional.of(existing));
+
+        assertThat(service.settleOrEnqueue(call)).isEqualTo(CallSettlementService.SETTLED);
+
+        verify(outboxRepository, never()).save(any(SettlementOutbox.class));
+    }
+
+    @Test
+    void zeroSumSettlementIsNotCountedInTheRollups() {
+        StatisticsService statisticsService = mock(StatisticsService.class);
+        BalanceService balanceService = mock(BalanceService.class);
+        CallSettlementService inline = new CallSettlementService(mock(TransactionService.class), balanceService,
+                outboxRepository, statisticsService, mock(LedgerService.class), false);
+        call.setSum(BigDecimal.ZERO);
+
+        inline.settle(call);
+
+        verify(statisticsService, never()).recordSettledCall(any(CallRecord.class));
+        verifyNoInteractions(balanceService);
+    }
+}
@@ -0,0 +1,91 @@
+package com.morago_backend.service;
+
+import com.morago_backend.repository.UserRepository;
+import com.morago_backend.security.InMemoryResetCodeStore;
+import com.morago_backend.security.TokenRevocationStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class PasswordResetServiceTest {
+
+    private static final String PHONE = "+821012345678";
+    private static final int CODE = 123456;
+    private static final int WRONG = 654321;
+
+    private InMemoryResetCodeStore codeStore;
+    private PasswordResetService service;
+
+    @BeforeEach
+    void setUp() {
+        codeStore = new InMemoryResetCodeStore(15, 1000);
+        service = new PasswordResetService(
+                codeStore,
+                mock(UserRepository.class),
+                mock(PasswordEncoder.class),
+                mock(SocketEventPublisher.class),
+                mock(TokenRevocationStore.class));
+        codeStore.issue(PHONE, CODE);
+    }
+
+    @Test
+    void correctCodeVerifies() {
+        service.verifyCode(PHONE, CODE);
+
+        assertThat(codeStore.find(PHONE).orElseThrow().verified()).isTrue();
+    }
+
+    @Test
+    void fifthWrongGuessRemovesTheCode() {
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> service.verifyCode(PHONE, WRONG)).hasMessage("Invalid reset code");
+        }
+        assertThatThrownBy(() -> service.verifyCode(PHONE, WRONG)).hasMessageContaining("Too many invalid attempts");
+
+        assertThat(codeStore.find(PHONE)).isEmpty();
+        assertThatThrownBy(() -> service.verifyCode(PHONE, CODE)).hasMessageContaining("No active reset request");
+    }
+
+    @Test
+    void concurrentGuessesCannotExceedTheLimit() throws Exception {
+        int guesses = 50;
+        AtomicInteger invalid = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        try {
+            for (int i = 0; i < guesses; i++) {
+                pool.submit(() -> {
+                    start.await();
+                    try {
+                        service.verifyCode(PHONE, WRONG);
+                    } catch (IllegalArgumentException e) {
+                        if (e.getMessage().equals("Invalid reset code")) {
+                            invalid.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            pool.shutdown();
+            assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // Guesses one to four are answered "Invalid reset code"; every later one is refused
+        assertThat(invalid.get()).isEqualTo(4);
+        assertThat(codeStore.find(PHONE)).isEmpty();
+        assertThatThrownBy(() -> service.verifyCode(PHONE, CODE)).hasMessageContaining("No active reset request");
+    }
+}
@@ -0,0 +1,104 @@
+package com.morago_backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.morago_backend.dto.dtoResponse.TransactionExportRow;
+import com.morago_backend.entity.TransactionType;
+import com.morago_backend.repository.CallRecordRepository;
+import com.morago_backend.repository.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReportExportServiceTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 5, 1, 12, 30);
+
+    private TransactionRepository transactionRepository;
+    private ReportExportService service;
+
+    @BeforeEach
+    void setUp() {
+        transactionRepository = mock(TransactionRepository.class);
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        service = new ReportExportService(transactionRepository, mock(CallRecordRepository.class), objectMapper);
+    }
+
+    @Test
+    void csvQuotesFieldsWithSeparatorsQuotesAndLineBreaks() throws Exception {
+        String[] lines = exportCsv(row(1L, "Refund, \"partial\"\nsee ticket"));
+
+        assertThat(lines[0]).isEqualTo("id,userId,transactionType,amount,balanceBefore,balanceAfter,status,"
+                + "description,depositId,withdrawalId,callRecordId,createdAt");
+        assertThat(lines[1]).isEqualTo("1,7,REFUND,1000.50,0,1000.50,COMPLETED,"
+                + "\"Refund, \"\"partial\"\"\nsee ticket\",,,,2024-05-01T12:30");
+    }
+
+    @Test
+    void csvNeutralisesSpreadsheetFormulas() throws Exception {
+        String[] lines = exportCsv(
+                row(1L, "=HYPERLINK(\"http://example.com\")"),
+                row(2L, "+1"),
+                row(3L, "-1"),
+                row(4L, "@SUM(A1)"),
+                row(5L, "plain text"));
+
+        assertThat(lines[1]).contains(",\"'=HYPERLINK(\"\"http://example.com\"\")\",");
+        assertThat(lines[2]).contains(",'+1,");
+        assertThat(lines[3]).contains(",'-1,");
+        assertThat(lines[4]).contains(",'@SUM(A1),");
+        assertThat(lines[5]).contains(",plain text,");
+    }
+
+    @Test
+    void csvLeavesNumbersUnprefixed() throws Exception {
+        TransactionExportRow debit = new TransactionExportRow(9L, 7L, TransactionType.CALL_PAYMENT,
+                new BigDecimal("-25.00"), new BigDecimal("100.00"), new BigDecimal("75.00"), "COMPLETED",
+                null, null, null, 3L, CREATED_AT);
+
+        String[] lines = exportCsv(debit);
+
+        assertThat(lines[1]).isEqualTo("9,7,CALL_PAYMENT,-25.00,100.00,75.00,COMPLETED,,,,3,2024-05-01T12:30");
+    }
+
+    @Test
+    void ndjsonWritesOneObjectPerLine() throws Exception {
+        when(transactionRepository.streamForExport(null, null, null))
+                .thenReturn(Stream.of(row(1L, "first"), row(2L, "second")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long written = service.exportTransactions(null, null, null, ExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(written).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{\"id\":1,").contains("\"description\":\"first\"");
+    }
+
+    private String[] exportCsv(TransactionExportRow... rows) throws Exception {
+        when(transactionRepository.streamForExport(null, null, null)).thenReturn(Stream.of(rows));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long written = service.exportTransactions(null, null, null, ExportFormat.CSV, out);
+
+        assertThat(written).isEqualTo(rows.length);
+        return out.toString(StandardCharsets.UTF_8).split("\r\n");
+    }
+
+    private static TransactionExportRow row(Long id, String description) {
+        return new TransactionExportRow(id, 7L, TransactionType.REFUND, new BigDecimal("1000.50"),
+                BigDecimal.ZERO, new BigDecimal("1000.50"), "COMPLETED", description, null, null, null, CREATED_AT);
+    }
+}
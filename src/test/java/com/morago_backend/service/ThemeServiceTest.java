@@ -0,0 +1,104 @@
+package com.morago_backend.service;
+
+import com.morago_backend.dto.dtoRequest.ThemeRequestDTO;
+import com.morago_backend.entity.Category;
+import com.morago_backend.entity.Theme;
+import com.morago_backend.exception.ResourceNotFoundException;
+import com.morago_backend.repository.CategoryRepository;
+import com.morago_backend.repository.ThemeRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ThemeServiceTest {
+
+    private static final long CATEGORY_ID = 7L;
+
+    private ThemeRepository themeRepository;
+    private CategoryRepository categoryRepository;
+    private CatalogCache catalogCache;
+    private ThemeService service;
+
+    @BeforeEach
+    void setUp() {
+        themeRepository = mock(ThemeRepository.class);
+        categoryRepository = mock(CategoryRepository.class);
+        catalogCache = mock(CatalogCache.class);
+        service = new ThemeService(themeRepository, categoryRepository, catalogCache);
+
+        when(categoryRepository.getReferenceById(anyLong())).thenAnswer(invocation -> {
+            Category category = new Category();
+            category.setId(invocation.getArgument(0));
+            return category;
+        });
+    }
+
+    @Test
+    void unknownCategoryOnCreateIsNotFound() {
+        when(themeRepository.saveAndFlush(any())).thenThrow(violation("Cannot add or update a child row", 1452));
+
+        assertThatThrownBy(() -> service.create(request()))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Category not found with id " + CATEGORY_ID);
+    }
+
+    @Test
+    void otherIntegrityViolationOnCreateIsRethrown() {
+        DataIntegrityViolationException duplicate = violation("Duplicate entry 'Medical' for key 'name'", 1062);
+        when(themeRepository.saveAndFlush(any())).thenThrow(duplicate);
+
+        assertThatThrownBy(() -> service.create(request())).isSameAs(duplicate);
+        verify(catalogCache, never()).invalidate(CatalogCache.THEMES);
+    }
+
+    @Test
+    void unknownCategoryOnUpdateIsNotFound() {
+        when(themeRepository.findById(1L)).thenReturn(Optional.of(new Theme()));
+        when(themeRepository.saveAndFlush(any())).thenThrow(violation("Cannot add or update a child row", 1452));
+
+        assertThatThrownBy(() -> service.update(1L, request()))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Category not found with id " + CATEGORY_ID);
+    }
+
+    @Test
+    void updateSetsTheCategoryWithoutLoadingIt() {
+        Theme existing = new Theme();
+        existing.setId(1L);
+        when(themeRepository.findById(1L)).thenReturn(Optional.of(existing));
+        when(themeRepository.saveAndFlush(existing)).thenReturn(existing);
+
+        assertThat(service.update(1L, request()).getCategoryId()).isEqualTo(CATEGORY_ID);
+        verify(categoryRepository, never()).findById(anyLong());
+        verify(catalogCache).invalidate(CatalogCache.THEMES);
+    }
+
+    private static ThemeRequestDTO request() {
+        ThemeRequestDTO dto = new ThemeRequestDTO();
+        dto.setName("Medical");
+        dto.setPrice(new BigDecimal("1000.00"));
+        dto.setCategoryId(CATEGORY_ID);
+        return dto;
+    }
+
+    // Shaped like Spring's translation of a Hibernate constraint violation raised by MySQL
+    private static DataIntegrityViolationException violation(String message, int errorCode) {
+        SQLException sqlException = new SQLException(message, "23000", errorCode);
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", sqlException, "insert into themes", null));
+    }
+}
@@ -0,0 +1,166 @@
+package com.morago_backend.service;
+
+import com.morago_backend.cache.CacheInvalidationBus;
+import com.morago_backend.dto.dtoResponse.AvailableInterpreterResponseDTO;
+import com.morago_backend.entity.Language;
+import com.morago_backend.entity.Theme;
+import com.morago_backend.entity.TranslatorProfile;
+import com.morago_backend.entity.User;
+import com.morago_backend.repository.TranslatorProfileRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TranslatorAvailabilityIndexTest {
+
+    private static final long KOREAN = 1L;
+    private static final long ENGLISH = 2L;
+    private static final long MEDICAL = 10L;
+    private static final long LEGAL = 11L;
+
+    private TranslatorProfileRepository repository;
+    private CacheInvalidationBus invalidationBus;
+    private TranslatorAvailabilityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(TranslatorProfileRepository.class);
+        invalidationBus = mock(CacheInvalidationBus.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Object>>getArgument(0).doInTransaction(null));
+        index = new TranslatorAvailabilityIndex(repository, invalidationBus, transactionTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void eligibleProfileIsFoundByThemeAndLanguage() {
+        index.refresh(profile(1L, true, Set.of(MEDICAL), Set.of(KOREAN, ENGLISH)));
+        index.refresh(profile(2L, true, Set.of(LEGAL), Set.of(ENGLISH)));
+
+        assertThat(profileIds(index.findByTheme(MEDICAL))).containsExactly(1L);
+        assertThat(profileIds(index.findByLanguage(ENGLISH))).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(profileIds(index.findByThemeAndLanguage(LEGAL, ENGLISH))).containsExactly(2L);
+        assertThat(index.findByThemeAndLanguage(LEGAL, KOREAN)).isEmpty();
+        verify(invalidationBus).publish(TranslatorAvailabilityIndex.REGION, List.of("1"));
+    }
+
+    @Test
+    void refreshReplacesThemesAndLanguages() {
+        index.refresh(profile(1L, true, Set.of(MEDICAL), Set.of(KOREAN)));
+
+        index.refresh(profile(1L, true, Set.of(LEGAL), Set.of(ENGLISH)));
+
+        assertThat(index.findByTheme(MEDICAL)).isEmpty();
+        assertThat(index.findByLanguage(KOREAN)).isEmpty();
+        assertThat(profileIds(index.findByThemeAndLanguage(LEGAL, ENGLISH))).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void profileGoingOfflineIsRemoved() {
+        index.refresh(profile(1L, true, Set.of(MEDICAL), Set.of(KOREAN)));
+
+        index.refresh(profile(1L, false, Set.of(MEDICAL), Set.of(KOREAN)));
+
+        assertThat(index.findByTheme(MEDICAL)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void refreshInsideATransactionAppliesAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        index.refresh(profile(1L, true, Set.of(MEDICAL), Set.of(KOREAN)));
+
+        assertThat(index.size()).isZero();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(profileIds(index.findByTheme(MEDICAL))).containsExactly(1L);
+    }
+
+    @Test
+    void invalidationFromAnotherNodeReloadsTheProfile() {
+        ArgumentCaptor<Consumer<String>> listener = listenerCaptor();
+        verify(invalidationBus).subscribe(eq(TranslatorAvailabilityIndex.REGION), listener.capture());
+        when(repository.findById(1L)).thenReturn(Optional.of(profile(1L, true, Set.of(MEDICAL), Set.of(KOREAN))));
+
+        listener.getValue().accept("1");
+
+        assertThat(profileIds(index.findByTheme(MEDICAL))).containsExactly(1L);
+    }
+
+    @Test
+    void warmUpLoadsAvailableInterpretersFromTheDatabase() {
+        when(repository.findAvailableInterpreterRows()).thenReturn(List.<Object[]>of(
+                new Object[]{1L, 7L, "Mina", "Kim", "Advanced"}));
+        when(repository.findAvailableInterpreterThemeIds()).thenReturn(List.<Object[]>of(new Object[]{1L, MEDICAL}));
+        when(repository.findAvailableInterpreterLanguageIds()).thenReturn(List.<Object[]>of(new Object[]{1L, ENGLISH}));
+        index.refresh(profile(2L, true, Set.of(MEDICAL), Set.of(KOREAN)));
+
+        index.warmUp();
+
+        // Profile 2 was refreshed before the sweep started and is no longer in the database
+        List<AvailableInterpreterResponseDTO> medical = index.findByTheme(MEDICAL);
+        assertThat(profileIds(medical)).containsExactly(1L);
+        assertThat(medical.get(0).getName()).isEqualTo("Mina Kim");
+        assertThat(profileIds(index.findByLanguage(ENGLISH))).containsExactly(1L);
+    }
+
+    private static Set<Long> profileIds(List<AvailableInterpreterResponseDTO> entries) {
+        return entries.stream().map(AvailableInterpreterResponseDTO::getTranslatorProfileId).collect(Collectors.toSet());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<Consumer<String>> listenerCaptor() {
+        return ArgumentCaptor.forClass(Consumer.class);
+    }
+
+    private static TranslatorProfile profile(Long id, boolean online, Set<Long> themeIds, Set<Long> languageIds) {
+        User user = new User();
+        user.setId(id + 100);
+        user.setFirstName("Interpreter");
+        user.setLastName(String.valueOf(id));
+
+        TranslatorProfile profile = new TranslatorProfile();
+        profile.setId(id);
+        profile.setIsOnline(online);
+        profile.setIsAvailable(true);
+        profile.setIsVerified(true);
+        profile.setUser(user);
+        profile.setThemes(themeIds.stream().map(themeId -> {
+            Theme theme = new Theme();
+            theme.setId(themeId);
+            return theme;
+        }).collect(Collectors.toSet()));
+        profile.setLanguages(languageIds.stream().map(languageId -> {
+            Language language = new Language();
+            language.setId(languageId);
+            return language;
+        }).collect(Collectors.toSet()));
+        return profile;
+    }
+}
@@ -0,0 +1,93 @@
+package com.morago_backend.signaling;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IceCandidateCoalescerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private IceCandidateCoalescer coalescer;
+
+    @AfterEach
+    void tearDown() {
+        if (coalescer != null) {
+            coalescer.shutdown();
+        }
+    }
+
+    @Test
+    void zeroWindowDisablesCoalescing() {
+        coalescer = new IceCandidateCoalescer(meterRegistry, 0, 32);
+
+        assertThat(coalescer.isEnabled()).isFalse();
+        coalescer.recordUnbatched();
+        assertThat(meterRegistry.counter("signaling.ice.candidates").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("signaling.ice.batches").count()).isEqualTo(1);
+    }
+
+    @Test
+    void endOfCandidatesFlushesBufferInArrivalOrder() {
+        coalescer = new IceCandidateCoalescer(meterRegistry, 60_000, 32);
+        List<List<String>> batches = new CopyOnWriteArrayList<>();
+
+        coalescer.add("peer", "a", false, batches::add);
+        coalescer.add("peer", "b", false, batches::add);
+        assertThat(batches).isEmpty();
+
+        coalescer.add("peer", "", true, batches::add);
+
+        assertThat(batches).containsExactly(List.of("a", "b", ""));
+        assertThat(meterRegistry.counter("signaling.ice.candidates").count()).isEqualTo(3);
+        assertThat(meterRegistry.counter("signaling.ice.batches").count()).isEqualTo(1);
+    }
+
+    @Test
+    void fullBatchFlushesImmediately() {
+        coalescer = new IceCandidateCoalescer(meterRegistry, 60_000, 2);
+        List<List<String>> batches = new CopyOnWriteArrayList<>();
+
+        coalescer.add("peer", "a", false, batches::add);
+        coalescer.add("peer", "b", false, batches::add);
+        coalescer.add("peer", "c", false, batches::add);
+
+        assertThat(batches).containsExactly(List.of("a", "b"));
+    }
+
+    @Test
+    void windowElapsingFlushesBuffer() throws Exception {
+        coalescer = new IceCandidateCoalescer(meterRegistry, 20, 32);
+        List<List<String>> batches = new CopyOnWriteArrayList<>();
+        CountDownLatch flushed = new CountDownLatch(1);
+
+        coalescer.add("peer", "a", false, batch -> {
+            batches.add(batch);
+            flushed.countDown();
+        });
+        coalescer.add("peer", "b", false, batches::add);
+
+        assertThat(flushed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(batches).containsExactly(List.of("a", "b"));
+    }
+
+    @Test
+    void sendersAreBufferedSeparately() {
+        coalescer = new IceCandidateCoalescer(meterRegistry, 60_000, 32);
+        List<List<String>> first = new CopyOnWriteArrayList<>();
+        List<List<String>> second = new CopyOnWriteArrayList<>();
+
+        coalescer.add("first", "a", false, first::add);
+        coalescer.add("second", "b", false, second::add);
+        coalescer.add("first", "", true, first::add);
+
+        assertThat(first).containsExactly(List.of("a", ""));
+        assertThat(second).isEmpty();
+    }
+}
@@ -0,0 +1,82 @@
+package com.morago_backend.signaling;
+
+import com.corundumstudio.socketio.SocketIOServer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class InMemoryRoomRegistryTest {
+
+    private static final String DEFAULT_NS = "";
+    private static final String CALLS_NS = "/calls";
+
+    private InMemoryRoomRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new InMemoryRoomRegistry(new SignalingNode(mock(SocketIOServer.class), "node-1"));
+    }
+
+    @Test
+    void leavingAnotherNamespaceKeepsSeats() {
+        UUID session = UUID.randomUUID();
+        registry.attach(DEFAULT_NS, session);
+        registry.attach(CALLS_NS, session);
+        registry.join("room", "alice", DEFAULT_NS, session);
+
+        assertThat(registry.detach(CALLS_NS, session)).isEmpty();
+
+        assertThat(registry.members("room")).containsOnlyKeys("alice");
+        assertThat(registry.locate(DEFAULT_NS, session)).contains("node-1");
+        assertThat(registry.locate(CALLS_NS, session)).isEmpty();
+    }
+
+    @Test
+    void seatTargetsTheJoiningNamespace() {
+        UUID session = UUID.randomUUID();
+        registry.attach(DEFAULT_NS, session);
+        registry.join("room", "alice", DEFAULT_NS, session);
+
+        SignalTarget target = registry.members("room").get("alice").target();
+
+        assertThat(target).isEqualTo(new SignalTarget("node-1", DEFAULT_NS, session));
+    }
+
+    @Test
+    void disconnectFreesEverySeatAndDropsEmptyRooms() {
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+        registry.attach(DEFAULT_NS, alice);
+        registry.attach(DEFAULT_NS, bob);
+        registry.join("room-1", "alice", DEFAULT_NS, alice);
+        registry.join("room-2", "alice", DEFAULT_NS, alice);
+        registry.join("room-2", "bob", DEFAULT_NS, bob);
+
+        assertThat(registry.detach(DEFAULT_NS, alice)).containsExactlyInAnyOrder("room-1", "room-2");
+
+        assertThat(registry.members("room-1")).isEmpty();
+        assertThat(registry.members("room-2")).containsOnlyKeys("bob");
+        assertThat(registry.locate(DEFAULT_NS, alice)).isEmpty();
+        assertThat(registry.detach(DEFAULT_NS, alice)).isEmpty();
+    }
+
+    @Test
+    void rejoinFromNewSocketSurvivesOldSocketDisconnect() {
+        UUID oldSession = UUID.randomUUID();
+        UUID newSession = UUID.randomUUID();
+        registry.attach(DEFAULT_NS, oldSession);
+        registry.join("room", "alice", DEFAULT_NS, oldSession);
+        registry.attach(DEFAULT_NS, newSession);
+        registry.join("room", "alice", DEFAULT_NS, newSession);
+
+        assertThat(registry.detach(DEFAULT_NS, oldSession)).isEmpty();
+
+        assertThat(registry.members("room").get("alice").sessionId()).isEqualTo(newSession);
+        assertThat(registry.detach(DEFAULT_NS, newSession)).containsExactly("room");
+        assertThat(registry.members("room")).isEmpty();
+    }
+}
@@ -0,0 +1,96 @@
+package com.morago_backend.specification;
+
+import com.morago_backend.dto.dtoRequest.FilterRequest;
+import com.morago_backend.dto.dtoRequest.PaginationRequest;
+import com.morago_backend.entity.User;
+import com.morago_backend.entity.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FilterDefinitionTest {
+
+    // ========== SPECIFICATION ==========
+    @Test
+    void unsupportedFilterIsRejectedBeforeTheQueryIsBuilt() {
+        FilterRequest filter = new FilterRequest(null, Map.of("password", "x"), null, null);
+
+        assertThatThrownBy(() -> FilterDefinitions.USERS.toSpecification(filter))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unsupported filter: password");
+    }
+
+    @Test
+    void invalidDateIsRejectedBeforeTheQueryIsBuilt() {
+        FilterRequest filter = new FilterRequest(null, null, "31/01/2023", null);
+
+        assertThatThrownBy(() -> FilterDefinitions.USERS.toSpecification(filter))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Invalid date: 31/01/2023");
+    }
+
+    @Test
+    void validFilterBuildsSpecification() {
+        FilterRequest filter = new FilterRequest("john", Map.of("active", "true", "debtor", ""),
+                "2023-01-01", "2023-01-31T12:00:00");
+
+        assertThat(FilterDefinitions.USERS.toSpecification(filter)).isNotNull();
+        assertThat(FilterDefinitions.USERS.toSpecification(null)).isNotNull();
+    }
+
+    // ========== SORTING ==========
+    @Test
+    void sortTieBreaksOnId() {
+        Sort sort = FilterDefinitions.USERS.toSort(new PaginationRequest(0, 10, "createdAtDatetime", false));
+
+        assertThat(sort).containsExactly(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+    }
+
+    @Test
+    void sortByIdHasNoTieBreak() {
+        Sort sort = FilterDefinitions.USERS.toSort(new PaginationRequest(0, 10, "id", true));
+
+        assertThat(sort).containsExactly(Sort.Order.asc("id"));
+    }
+
+    @Test
+    void unsupportedSortFieldIsRejected() {
+        assertThatThrownBy(() -> FilterDefinitions.USERS.toSort(new PaginationRequest(0, 10, "password", true)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Unsupported sort field: password");
+    }
+
+    @Test
+    void idIsAlwaysSortable() {
+        FilterDefinition<User> definition = FilterDefinition.<User>builder().sortable("phone").build();
+
+        assertThat(definition.toSort(new PaginationRequest(0, 10, null, true))).containsExactly(Sort.Order.asc("id"));
+    }
+
+    // ========== CONVERSION ==========
+    @Test
+    void convertParsesToAttributeType() {
+        assertThat(FilterDefinition.convert(Boolean.class, "TRUE", "active")).isEqualTo(true);
+        assertThat(FilterDefinition.convert(Long.class, " 42 ", "themeId")).isEqualTo(42L);
+        assertThat(FilterDefinition.convert(BigDecimal.class, "1.50", "amount")).isEqualTo(new BigDecimal("1.50"));
+        assertThat(FilterDefinition.convert(LocalDate.class, "2023-01-31", "day")).isEqualTo(LocalDate.of(2023, 1, 31));
+        assertThat(FilterDefinition.convert(UserRole.class, "client", "role")).isEqualTo(UserRole.CLIENT);
+    }
+
+    @Test
+    void convertRejectsBadValues() {
+        assertThatThrownBy(() -> FilterDefinition.convert(Boolean.class, "yes", "active"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid value for filter 'active': yes");
+        assertThatThrownBy(() -> FilterDefinition.convert(Long.class, "abc", "themeId"))
+                .hasMessage("Invalid value for filter 'themeId': abc");
+        assertThatThrownBy(() -> FilterDefinition.convert(UserRole.class, "root", "role"))
+                .hasMessage("Invalid value for filter 'role': root");
+    }
+}
@@ -0,0 +1,65 @@
+package com.morago_backend.support;
+
+import com.mysql.cj.MysqlConnection;
+import com.mysql.cj.Query;
+import com.mysql.cj.interceptors.QueryInterceptor;
+import com.mysql.cj.log.Log;
+import com.mysql.cj.protocol.Resultset;
+import com.mysql.cj.protocol.ServerSession;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.function.Supplier;
+
+/**
+ * Connector/J query interceptor recording the statements the calling thread sends to MySQL. Prepared statements
+ * are interpolated on the client by default, so the recorded text carries the bound values and can be fed to
+ * EXPLAIN as is. Enable it with {@code spring.datasource.hikari.data-source-properties.queryInterceptors}.
+ */
+public class SqlCapture implements QueryInterceptor {
+
+    // Per thread, so scheduled jobs running meanwhile on other connections are not recorded
+    private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+    /** Runs the action and returns every statement it sent, in order */
+    public static List<String> capture(Runnable action) {
+        List<String> statements = new ArrayList<>();
+        CAPTURED.set(statements);
+        try {
+            action.run();
+        } finally {
+            CAPTURED.remove();
+        }
+        return statements;
+    }
+
+    @Override
+    public QueryInterceptor init(MysqlConnection conn, Properties props, Log log) {
+        return this;
+    }
+
+    @Override
+    public <T extends Resultset> T preProcess(Supplier<String> sql, Query interceptedQuery) {
+        List<String> statements = CAPTURED.get();
+        if (statements != null) {
+            statements.add(sql.get());
+        }
+        return null;
+    }
+
+    @Override
+    public boolean executeTopLevelOnly() {
+        return true;
+    }
+
+    @Override
+    public void destroy() {
+    }
+
+    @Override
+    public <T extends Resultset> T postProcess(Supplier<String> sql, Query interceptedQuery,
+                                               T originalResultSet, ServerSession serverSession) {
+        return null;
+    }
+}
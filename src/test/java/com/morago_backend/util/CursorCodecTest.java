@@ -0,0 +1,57 @@
+package com.morago_backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorCodecTest {
+
+    @Test
+    void encodedCursorRoundTrips() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123_000_000);
+
+        CursorCodec.Cursor cursor = CursorCodec.decode(CursorCodec.encode(createdAt, 42L));
+
+        assertThat(cursor).isEqualTo(new CursorCodec.Cursor(createdAt, 42L));
+    }
+
+    @Test
+    void encodedCursorIsUrlSafe() {
+        String cursor = CursorCodec.encode(LocalDateTime.of(2024, 5, 1, 12, 30), Long.MAX_VALUE);
+
+        assertThat(cursor).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void missingCursorMeansFirstPage() {
+        assertThat(CursorCodec.decode(null)).isNull();
+        assertThat(CursorCodec.decode("  ")).isNull();
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThatThrownBy(() -> CursorCodec.decode("not base64!")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CursorCodec.decode(urlEncode("no-separator")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CursorCodec.decode(urlEncode("null|5"))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CursorCodec.decode(urlEncode("2024-05-01T12:30|abc")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void pageSizeIsClamped() {
+        assertThat(CursorCodec.pageSize(null)).isEqualTo(CursorCodec.DEFAULT_SIZE);
+        assertThat(CursorCodec.pageSize(0)).isEqualTo(1);
+        assertThat(CursorCodec.pageSize(1_000)).isEqualTo(CursorCodec.MAX_SIZE);
+        assertThat(CursorCodec.pageSize(50)).isEqualTo(50);
+    }
+
+    private static String urlEncode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}